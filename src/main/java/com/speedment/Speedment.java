@@ -17,6 +17,7 @@
 package com.speedment;
 
 import com.speedment.annotation.Api;
+import com.speedment.component.AsyncComponent;
 import com.speedment.component.CodeGenerationComponent;
 import com.speedment.component.Component;
 import com.speedment.component.DbmsHandlerComponent;
@@ -31,6 +32,7 @@ import com.speedment.component.StreamSupplierComponent;
 import com.speedment.component.TypeMapperComponent;
 import com.speedment.component.UserInterfaceComponent;
 import com.speedment.component.connectionpool.ConnectionPoolComponent;
+import com.speedment.component.metrics.QueryMetricsComponent;
 import com.speedment.component.resultset.ResultSetMapperComponent;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.internal.logging.Level;
@@ -69,6 +71,8 @@ public interface Speedment {
      * <li>{@link com.speedment.component.TypeMapperComponent TypeMapperComponent}</li>
      * <li>{@link com.speedment.component.PasswordComponent PasswordComponent}</li>
      * <li>{@link com.speedment.component.UserInterfaceComponent UserInterfaceComponent}</li>
+     * <li>{@link com.speedment.component.AsyncComponent AsyncComponent}</li>
+     * <li>{@link com.speedment.component.metrics.QueryMetricsComponent QueryMetricsComponent}</li>
      *
      * </ul>
      *
@@ -191,4 +195,12 @@ public interface Speedment {
     default DocumentPropertyComponent getDocumentPropertyComponent() {
         return get(DocumentPropertyComponent.class);
     }
+
+    default AsyncComponent getAsyncComponent() {
+        return get(AsyncComponent.class);
+    }
+
+    default QueryMetricsComponent getQueryMetricsComponent() {
+        return get(QueryMetricsComponent.class);
+    }
 }
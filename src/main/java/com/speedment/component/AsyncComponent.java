@@ -0,0 +1,207 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component;
+
+import com.speedment.annotation.Api;
+import com.speedment.stream.Flow;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * This Component interface is used to run terminal operations on streams
+ * asynchronously. The operations are executed by the {@link Executor} owned
+ * by this component and the result is delivered through a
+ * {@link CompletableFuture}.
+ * <p>
+ * All terminal methods close the supplied stream once the operation has
+ * completed, whether it completed normally or exceptionally. For streams
+ * obtained from a {@link com.speedment.manager.Manager Manager}, this returns
+ * any database connection held by the stream to the connection pool.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface AsyncComponent extends Component {
+
+    @Override
+    default Class<AsyncComponent> getComponentClass() {
+        return AsyncComponent.class;
+    }
+
+    /**
+     * Returns the executor that is used to run asynchronous operations.
+     *
+     * @return the executor
+     */
+    Executor getExecutor();
+
+    /**
+     * Sets the executor that is used to run asynchronous operations. An
+     * executor set using this method is not shut down by this component when
+     * the platform is stopped.
+     *
+     * @param executor the new executor
+     */
+    void setExecutor(Executor executor);
+
+    /**
+     * Runs the given supplier using the executor of this component.
+     *
+     * @param <T>       the result type
+     * @param supplier  the supplier to run
+     * @return          a future holding the result of the supplier
+     */
+    default <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        requireNonNull(supplier);
+        return CompletableFuture.supplyAsync(supplier, getExecutor());
+    }
+
+    /**
+     * Asynchronously performs a mutable reduction of the given stream using a
+     * {@code Collector}.
+     *
+     * @param <T>        the element type
+     * @param <R>        the result type
+     * @param stream     the stream to collect
+     * @param collector  the collector describing the reduction
+     * @return           a future holding the result of the reduction
+     *
+     * @see Stream#collect(Collector)
+     */
+    default <T, R> CompletableFuture<R> collectAsync(Stream<T> stream, Collector<? super T, ?, R> collector) {
+        requireNonNull(stream);
+        requireNonNull(collector);
+        return closeOnCompletion(stream, () -> stream.collect(collector));
+    }
+
+    /**
+     * Asynchronously counts the elements of the given stream.
+     *
+     * @param stream  the stream to count
+     * @return        a future holding the count
+     *
+     * @see Stream#count()
+     */
+    default CompletableFuture<Long> countAsync(Stream<?> stream) {
+        requireNonNull(stream);
+        return closeOnCompletion(stream, stream::count);
+    }
+
+    /**
+     * Asynchronously finds any element of the given stream.
+     *
+     * @param <T>     the element type
+     * @param stream  the stream to search
+     * @return        a future holding any element, or an empty optional if the
+     *                stream is empty
+     *
+     * @see Stream#findAny()
+     */
+    default <T> CompletableFuture<Optional<T>> findAnyAsync(Stream<T> stream) {
+        requireNonNull(stream);
+        return closeOnCompletion(stream, stream::findAny);
+    }
+
+    /**
+     * Asynchronously finds the first element of the given stream.
+     *
+     * @param <T>     the element type
+     * @param stream  the stream to search
+     * @return        a future holding the first element, or an empty optional
+     *                if the stream is empty
+     *
+     * @see Stream#findFirst()
+     */
+    default <T> CompletableFuture<Optional<T>> findFirstAsync(Stream<T> stream) {
+        requireNonNull(stream);
+        return closeOnCompletion(stream, stream::findFirst);
+    }
+
+    /**
+     * Asynchronously performs an action for each element of the given stream.
+     *
+     * @param <T>     the element type
+     * @param stream  the stream to consume
+     * @param action  the action to perform on each element
+     * @return        a future that is completed when all elements have been
+     *                consumed
+     *
+     * @see Stream#forEach(Consumer)
+     */
+    default <T> CompletableFuture<Void> forEachAsync(Stream<T> stream, Consumer<? super T> action) {
+        requireNonNull(stream);
+        requireNonNull(action);
+        return closeOnCompletion(stream, () -> {
+            stream.forEach(action);
+            return null;
+        });
+    }
+
+    /**
+     * Creates a publisher that delivers the elements of streams obtained from
+     * the given supplier. A new stream is created for each subscriber, and
+     * elements are only pulled from it as the subscriber signals demand. The
+     * stream is iterated using the executor of this component and is closed
+     * once it is exhausted, if it fails or if the subscription is cancelled.
+     *
+     * @param <T>             the element type
+     * @param streamSupplier  supplier of the stream to publish
+     * @return                a new publisher
+     */
+    <T> Flow.Publisher<T> publisher(Supplier<? extends Stream<T>> streamSupplier);
+
+    /**
+     * Runs the given terminal operation asynchronously and closes the stream
+     * once it has completed. If the executor rejects the operation, the 
+     * stream is closed immediately and the returned future is completed 
+     * with the {@code RejectedExecutionException}.
+     *
+     * @param <R>       the result type
+     * @param stream    the stream to close
+     * @param terminal  the terminal operation
+     * @return          a future holding the result of the operation
+     */
+    default <R> CompletableFuture<R> closeOnCompletion(Stream<?> stream, Supplier<R> terminal) {
+        requireNonNull(stream);
+        requireNonNull(terminal);
+        
+        final CompletableFuture<R> future;
+        try {
+            future = supplyAsync(terminal);
+        } catch (final RejectedExecutionException ex) {
+            try {
+                stream.close();
+            } catch (final RuntimeException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            
+            final CompletableFuture<R> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+        
+        return future.whenComplete((result, throwable) -> stream.close());
+    }
+}
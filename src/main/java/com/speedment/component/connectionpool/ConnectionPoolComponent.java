@@ -124,4 +124,39 @@ public interface ConnectionPoolComponent extends Component {
      */
     void setMaxAge(long maxAge);
 
+    /**
+     * Returns the maximum number of idle prepared statements that each
+     * connection keeps for reuse. A value of zero or less disables statement
+     * caching.
+     *
+     * @return the maximum number of cached statements per connection
+     */
+    int getStatementCacheSize();
+
+    /**
+     * Sets the maximum number of idle prepared statements that each
+     * connection keeps for reuse. The new size only applies to connections
+     * that are created after this method is called. A value of zero or less
+     * disables statement caching.
+     *
+     * @param size the maximum number of cached statements per connection
+     */
+    void setStatementCacheSize(int size);
+
+    /**
+     * Returns the total number of times a prepared statement was reused from
+     * the statement cache of a connection created by this pool.
+     *
+     * @return the total number of statement cache hits
+     */
+    long getStatementCacheHits();
+
+    /**
+     * Returns the total number of times a prepared statement had to be
+     * prepared because no idle statement was cached by the connection.
+     *
+     * @return the total number of statement cache misses
+     */
+    long getStatementCacheMisses();
+
 }
@@ -46,4 +46,21 @@ public interface PoolableConnection extends Connection {
 
     void setOnClose(Runnable onClose);
 
+    /**
+     * Returns the number of times a prepared statement was reused from the
+     * statement cache of this connection.
+     *
+     * @return the number of statement cache hits
+     */
+    long getStatementCacheHits();
+
+    /**
+     * Returns the number of times a prepared statement had to be prepared
+     * because no idle statement was found in the statement cache of this
+     * connection.
+     *
+     * @return the number of statement cache misses
+     */
+    long getStatementCacheMisses();
+
 }
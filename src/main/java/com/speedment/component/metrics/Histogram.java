@@ -0,0 +1,73 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component.metrics;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A distribution of recorded values, typically durations in nanoseconds.
+ * Values are counted in buckets whose bounds are powers of two, so reported
+ * percentiles are upper bounds that are at most twice the actual value.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface Histogram {
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of all recorded values
+     */
+    long getSum();
+
+    /**
+     * Returns the largest recorded value, or {@code 0} if no value has been
+     * recorded.
+     *
+     * @return the largest recorded value
+     */
+    long getMax();
+
+    /**
+     * Returns the upper bound of the given percentile of the recorded values,
+     * or {@code 0} if no value has been recorded.
+     *
+     * @param percentile  the percentile between {@code 0} and {@code 100}
+     * @return            the upper bound of the percentile
+     */
+    long getPercentile(double percentile);
+
+    /**
+     * Returns the mean of all recorded values, or {@code 0} if no value has
+     * been recorded.
+     *
+     * @return the mean of all recorded values
+     */
+    default double getMean() {
+        final long count = getCount();
+        return count == 0 ? 0 : (double) getSum() / count;
+    }
+}
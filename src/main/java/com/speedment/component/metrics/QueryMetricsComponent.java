@@ -0,0 +1,96 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component.metrics;
+
+import com.speedment.annotation.Api;
+import com.speedment.component.Component;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * This Component interface is used to collect statistics on the queries that
+ * are executed by the managers. Statistics are kept per table and query
+ * shape. Queries that take longer than the slow query threshold are logged
+ * together with their bound values.
+ * <p>
+ * Metrics are disabled by default, in which case queries are not
+ * instrumented at all.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface QueryMetricsComponent extends Component {
+
+    @Override
+    default Class<QueryMetricsComponent> getComponentClass() {
+        return QueryMetricsComponent.class;
+    }
+
+    /**
+     * Returns if queries are currently recorded.
+     *
+     * @return {@code true} if queries are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Sets if queries should be recorded. Only streams that are created after
+     * this method is called are affected.
+     *
+     * @param enabled  {@code true} if queries should be recorded
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the execution time in milliseconds above which a query is
+     * logged as slow. A threshold of {@code 0} or less disables the slow
+     * query log.
+     *
+     * @return the slow query threshold in milliseconds
+     */
+    long getSlowQueryThreshold();
+
+    /**
+     * Sets the execution time in milliseconds above which a query is logged
+     * as slow. A threshold of {@code 0} or less disables the slow query log.
+     *
+     * @param millis  the slow query threshold in milliseconds
+     */
+    void setSlowQueryThreshold(long millis);
+
+    /**
+     * Returns a new recorder for a query against the given table, or an
+     * empty {@code Optional} if metrics are disabled.
+     *
+     * @param tableName  the name of the table
+     * @return           the recorder, or empty if metrics are disabled
+     */
+    Optional<QueryRecorder> newRecorder(String tableName);
+
+    /**
+     * Returns the statistics of all query shapes recorded so far.
+     *
+     * @return a stream of statistics
+     */
+    Stream<QueryStatistics> statistics();
+
+    /**
+     * Discards all statistics recorded so far.
+     */
+    void clear();
+}
@@ -0,0 +1,64 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component.metrics;
+
+import com.speedment.annotation.Api;
+import java.util.List;
+
+/**
+ * Records the execution of a single query. A recorder is obtained from the
+ * {@link QueryMetricsComponent} and is called by the query result as the
+ * query is executed and its rows are read. The execution is reported once
+ * {@link #stop()} is called.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface QueryRecorder {
+
+    /**
+     * Marks the start of the execution.
+     *
+     * @param sql     the SQL of the query
+     * @param values  the values bound to the query
+     */
+    void start(String sql, List<?> values);
+
+    /**
+     * Marks that a connection has been obtained for the query.
+     */
+    void connectionAcquired();
+
+    /**
+     * Records that a row has been read from the database and mapped.
+     *
+     * @param mappingNanos  the time it took to map the row
+     */
+    void rowRead(long mappingNanos);
+
+    /**
+     * Records that a row passed all the filters applied in the JVM.
+     */
+    void rowEmitted();
+
+    /**
+     * Marks the end of the execution and reports it. Calling this method
+     * more than once, or before the execution is started, has no effect.
+     */
+    void stop();
+}
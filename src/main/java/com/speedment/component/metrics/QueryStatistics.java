@@ -0,0 +1,101 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component.metrics;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Statistics for all executions of a particular query shape against a
+ * table. Queries have the same shape if they have the same SQL, regardless
+ * of the values that are bound to it. All times are in nanoseconds.
+ * <p>
+ * If considerably fewer rows are emitted than are read, the stream filters
+ * most of the rows in the JVM. This usually means that a predicate could not
+ * be rendered as SQL.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface QueryStatistics {
+
+    /**
+     * Returns the name of the table that the query is executed against.
+     *
+     * @return the table name
+     */
+    String getTableName();
+
+    /**
+     * Returns the SQL of the query, without any bound values.
+     *
+     * @return the SQL of the query
+     */
+    String getSql();
+
+    /**
+     * Returns the number of times the query has been executed.
+     *
+     * @return the number of executions
+     */
+    long getExecutions();
+
+    /**
+     * Returns the total number of rows read from the database.
+     *
+     * @return the number of rows read
+     */
+    long getRowsRead();
+
+    /**
+     * Returns the total number of rows that passed the filters that were
+     * applied in the JVM.
+     *
+     * @return the number of rows emitted
+     */
+    long getRowsEmitted();
+
+    /**
+     * Returns the time waited for a connection before each execution.
+     *
+     * @return the connection wait times
+     */
+    Histogram getConnectionWaitTime();
+
+    /**
+     * Returns the time from the start of each execution until the first row
+     * was read.
+     *
+     * @return the times to the first row
+     */
+    Histogram getTimeToFirstRow();
+
+    /**
+     * Returns the time from the start of each execution until its result
+     * was closed.
+     *
+     * @return the total fetch times
+     */
+    Histogram getFetchTime();
+
+    /**
+     * Returns the time spent mapping the rows of each execution to entities.
+     *
+     * @return the mapping times
+     */
+    Histogram getMappingTime();
+}
@@ -19,6 +19,8 @@ package com.speedment.component.resultset;
 import com.speedment.annotation.Api;
 import com.speedment.component.Component;
 import com.speedment.config.db.parameters.DbmsType;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
 
 /**
  * The JavaTypeMapperComponent provides a mapping from a certain DbmsType and
@@ -55,7 +57,32 @@ public interface ResultSetMapperComponent extends Component {
      * @param <T>        the java class type to map
      * @param javaClass  the java class to map
      * @return           the mapping
+     * @throws NullPointerException  if there is no mapping for the class
      */
     <T> ResultSetMapping<T> apply(Class<T> javaClass);
 
+    /**
+     * Finds the mapping from the javaClass to the {@link ResultSetMapping}. 
+     * The mapping will not consider {@link DbmsType} specific mappings. 
+     * Unlike {@link #apply(Class)}, this method does not throw an exception 
+     * if there is no such mapping.
+     * <p>
+     * The default implementation delegates to {@link #apply(Class)}. 
+     * Implementations are encouraged to override it with a lookup that does
+     * not rely on exceptions.
+     *
+     * @param <T>        the java class type to map
+     * @param javaClass  the java class to map
+     * @return           the mapping, or empty if there is none
+     * @since            2.3
+     */
+    default <T> Optional<ResultSetMapping<T>> findMapping(Class<T> javaClass) {
+        requireNonNull(javaClass);
+        try {
+            return Optional.ofNullable(apply(javaClass));
+        } catch (final NullPointerException ex) {
+            return Optional.empty();
+        }
+    }
+
 }
@@ -18,6 +18,7 @@ package com.speedment.component.resultset;
 
 import com.speedment.annotation.Api;
 import com.speedment.config.db.Dbms;
+import com.speedment.db.ParameterBinder;
 
 /**
  *
@@ -99,4 +100,14 @@ public interface ResultSetMapping<T> {
         return false;
     }
 
+    /**
+     * Returns the binder to use when values of this type are set as
+     * parameters of a {@link java.sql.PreparedStatement}.
+     *
+     * @return the binder to use for values of this type
+     */
+    default ParameterBinder<Object> getParameterBinder() {
+        return ParameterBinder.of(getJavaClass());
+    }
+
 }
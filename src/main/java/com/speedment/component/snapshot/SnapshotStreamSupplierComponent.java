@@ -0,0 +1,250 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component.snapshot;
+
+import com.speedment.annotation.Api;
+import com.speedment.component.StreamSupplierComponent;
+import com.speedment.field.ComparableField;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@link StreamSupplierComponent} that keeps a snapshot of selected tables
+ * in the JVM. Streams over these tables are served from memory without any
+ * round trip to the database, while streams over other tables are obtained
+ * from the database as usual.
+ * <p>
+ * Snapshots are loaded when the platform is started and can be reloaded 
+ * either explicitly or periodically. A reload replaces the snapshot 
+ * atomically, so a stream always sees either the old or the new snapshot in
+ * its entirety. Every entity returned by a stream is a copy that can be
+ * modified freely without affecting the snapshot.
+ * <p>
+ * A snapshot is held either as entities on the heap or in columns outside 
+ * of the heap, see {@link Storage}.
+ * <p>
+ * The snapshot of a table whose changes are tracked by a column can also be
+ * refreshed by only reading the rows that have changed since the snapshot
+ * was last loaded or refreshed, see {@link #trackChanges(Class, 
+ * ComparableField, Predicate)}. Refreshes are much cheaper than reloads and
+ * can therefore be done far more frequently.
+ * <p>
+ * If a snapshot directory is set, the snapshots are saved to files in it 
+ * when the platform is stopped. When the platform is started again, the 
+ * snapshots of tables whose changes are tracked are restored from these 
+ * files and refreshed, instead of being reloaded. A file is ignored if the
+ * columns of its table have changed since it was saved.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface SnapshotStreamSupplierComponent extends StreamSupplierComponent {
+
+    /**
+     * The ways in which the rows of a snapshot can be held in memory.
+     */
+    enum Storage {
+        
+        /**
+         * The rows are held as entities on the heap. Streams are as fast as
+         * possible, but every row costs the full size of an entity object.
+         */
+        HEAP,
+        
+        /**
+         * The rows are held in columns outside of the heap, using primitive
+         * encodings for numbers and a dictionary for other values. Entities 
+         * are only created for rows that pass the filters of a stream, and
+         * filters on fields are evaluated directly against the columns. This
+         * reduces both the memory footprint and the pressure on the garbage
+         * collector of large tables.
+         */
+        OFF_HEAP
+    }
+
+    /**
+     * Adds the table of the given entity class to the tables that are held on
+     * the heap. If the platform is already started, the table is loaded the 
+     * first time it is streamed.
+     *
+     * @param entityClass  the entity class of the table
+     */
+    default void accelerate(Class<?> entityClass) {
+        accelerate(entityClass, Storage.HEAP);
+    }
+
+    /**
+     * Adds the table of the given entity class to the tables that are held in
+     * memory using the given storage. If the platform is already started, 
+     * the table is loaded the first time it is streamed.
+     *
+     * @param entityClass  the entity class of the table
+     * @param storage      how the rows of the table are held
+     */
+    void accelerate(Class<?> entityClass, Storage storage);
+
+    /**
+     * Returns if the table of the given entity class is held in memory.
+     *
+     * @param entityClass  the entity class of the table
+     * @return             {@code true} if the table is held in memory
+     */
+    boolean isAccelerated(Class<?> entityClass);
+
+    /**
+     * Tracks the changes of the table of the given entity class by the given
+     * field, see {@link #trackChanges(Class, ComparableField, Predicate)}.
+     * Rows are never considered deleted by a refresh.
+     *
+     * @param <ENTITY>     the entity type
+     * @param <V>          the value type of the field
+     * @param entityClass  the entity class of the table
+     * @param field        the field that changes every time a row changes
+     */
+    default <ENTITY, V extends Comparable<? super V>> void trackChanges(
+            Class<ENTITY> entityClass, ComparableField<ENTITY, ?, V> field) {
+        
+        trackChanges(entityClass, field, entity -> false);
+    }
+
+    /**
+     * Tracks the changes of the table of the given entity class by the given
+     * field. The field must be assigned a value that is greater than all 
+     * previous values every time a row is inserted or updated, like a 
+     * timestamp, a version number or an auto-increment id. Rows that are 
+     * deleted must be kept as tombstones that are accepted by the given 
+     * predicate, until all snapshots have been refreshed.
+     * <p>
+     * Rows that are deleted from the database without a tombstone are only 
+     * removed from the snapshot when it is reloaded.
+     *
+     * @param <ENTITY>     the entity type
+     * @param <V>          the value type of the field
+     * @param entityClass  the entity class of the table
+     * @param field        the field that changes every time a row changes
+     * @param tombstone    accepts the rows that are deleted
+     */
+    <ENTITY, V extends Comparable<? super V>> void trackChanges(
+        Class<ENTITY> entityClass, 
+        ComparableField<ENTITY, ?, V> field, 
+        Predicate<? super ENTITY> tombstone
+    );
+
+    /**
+     * Reloads the snapshot of the table of the given entity class from the
+     * database. Streams that are already created continue to use the old
+     * snapshot.
+     *
+     * @param entityClass  the entity class of the table
+     * @throws IllegalArgumentException  if the table is not held in memory
+     */
+    void reload(Class<?> entityClass);
+
+    /**
+     * Reloads the snapshots of all tables held in memory.
+     */
+    void reloadAll();
+
+    /**
+     * Refreshes the snapshot of the table of the given entity class by only
+     * reading the rows that have changed from the database. If the changes of
+     * the table are not tracked, the snapshot is reloaded instead. Streams 
+     * that are already created continue to use the old snapshot.
+     *
+     * @param entityClass  the entity class of the table
+     * @throws IllegalArgumentException  if the table is not held in memory
+     */
+    void refresh(Class<?> entityClass);
+
+    /**
+     * Refreshes the snapshots of all tables held in memory.
+     */
+    void refreshAll();
+
+    /**
+     * Returns the number of milliseconds between periodic reloads of all 
+     * snapshots, or {@code 0} if snapshots are only reloaded explicitly.
+     *
+     * @return the reload interval in milliseconds
+     */
+    long getReloadInterval();
+
+    /**
+     * Sets the number of milliseconds between periodic reloads of all 
+     * snapshots. An interval of {@code 0} disables periodic reloads.
+     *
+     * @param millis  the reload interval in milliseconds
+     */
+    void setReloadInterval(long millis);
+
+    /**
+     * Returns the number of milliseconds between periodic refreshes of all
+     * snapshots, or {@code 0} if snapshots are only refreshed explicitly.
+     *
+     * @return the refresh interval in milliseconds
+     */
+    long getRefreshInterval();
+
+    /**
+     * Returns the directory that snapshots are saved to and restored from,
+     * if any.
+     *
+     * @return the snapshot directory
+     */
+    Optional<Path> getSnapshotDirectory();
+
+    /**
+     * Sets the directory that snapshots are saved to and restored from. A 
+     * directory of {@code null} disables saving and restoring snapshots.
+     *
+     * @param directory  the snapshot directory, or {@code null}
+     */
+    void setSnapshotDirectory(Path directory);
+
+    /**
+     * Saves the snapshot of the table of the given entity class to the 
+     * snapshot directory. If the snapshot has not been loaded, nothing is 
+     * saved.
+     *
+     * @param entityClass  the entity class of the table
+     * @throws IllegalArgumentException  if the table is not held in memory
+     * @throws IllegalStateException     if no snapshot directory is set
+     * @throws com.speedment.exception.SpeedmentException  if the snapshot 
+     *                                   could not be saved
+     */
+    void save(Class<?> entityClass);
+
+    /**
+     * Saves the snapshots of all tables held in memory to the snapshot 
+     * directory.
+     *
+     * @throws IllegalStateException  if no snapshot directory is set
+     * @throws com.speedment.exception.SpeedmentException  if a snapshot 
+     *                                could not be saved
+     */
+    void saveAll();
+
+    /**
+     * Sets the number of milliseconds between periodic refreshes of all 
+     * snapshots. An interval of {@code 0} disables periodic refreshes.
+     *
+     * @param millis  the refresh interval in milliseconds
+     */
+    void setRefreshInterval(long millis);
+}
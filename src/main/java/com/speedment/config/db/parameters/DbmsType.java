@@ -28,6 +28,7 @@ import com.speedment.db.metadata.TypeInfoMetaData;
 import com.speedment.internal.core.config.dbms.DbmsTypeImpl;
 import com.speedment.manager.SpeedmentPredicateView;
 import static com.speedment.stream.MapStream.comparing;
+import com.speedment.stream.StreamingMode;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.Set;
@@ -170,6 +171,39 @@ public interface DbmsType {
      */
     String getInitialQuery();
 
+    /**
+     * Returns how the position of {@code null} values is expressed in an
+     * {@code ORDER BY} clause for this database type.
+     *
+     * @return how the position of {@code null} values is expressed
+     */
+    SortByNullOrderInsertion getSortByNullOrderInsertion();
+
+    /**
+     * Returns how the range of rows returned by a query is restricted for 
+     * this database type.
+     *
+     * @return how the range of rows returned by a query is restricted
+     */
+    SkipLimitSyntax getSkipLimitSyntax();
+
+    /**
+     * Returns how the rows of a query are transferred from the database for 
+     * this database type, unless something else is specified for a 
+     * particular stream.
+     *
+     * @return how the rows of a query are transferred from the database
+     */
+    StreamingMode getStreamingMode();
+
+    /**
+     * Returns the number of rows fetched at a time for this database type,
+     * unless something else is specified for a particular stream.
+     *
+     * @return the number of rows fetched at a time
+     */
+    int getFetchSize();
+
     /**
      * Creates and returns a new DbmsType builder. The builder is initialized
      * with default values for some optional parameters.
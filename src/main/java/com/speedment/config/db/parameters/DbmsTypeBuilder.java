@@ -28,6 +28,7 @@ import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.DbmsHandler;
 import com.speedment.db.metadata.TypeInfoMetaData;
 import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.stream.StreamingMode;
 import java.util.Set;
 import java.util.function.BiFunction;
 
@@ -215,6 +216,46 @@ public interface DbmsTypeBuilder {
          */
         Optionals withInitialQuery(String initialQuery);
 
+        /**
+         * Enters how the position of {@code null} values is expressed in an
+         * {@code ORDER BY} clause. The default value is
+         * {@link SortByNullOrderInsertion#POST}, i.e. {@code NULLS FIRST} and
+         * {@code NULLS LAST}.
+         *
+         * @param sortByNullOrderInsertion how the null order is expressed
+         * @return a builder
+         */
+        Optionals withSortByNullOrderInsertion(SortByNullOrderInsertion sortByNullOrderInsertion);
+
+        /**
+         * Enters how the range of rows returned by a query is restricted. The
+         * default value is {@link SkipLimitSyntax#NONE}, meaning that skip and
+         * limit operations are never rendered as SQL.
+         *
+         * @param skipLimitSyntax how the range of rows is restricted
+         * @return a builder
+         */
+        Optionals withSkipLimitSyntax(SkipLimitSyntax skipLimitSyntax);
+
+        /**
+         * Enters how the rows of a query are transferred from the database.
+         * The default value is {@link StreamingMode#BUFFERED}, meaning that
+         * the driver decides.
+         *
+         * @param streamingMode how the rows of a query are transferred
+         * @return a builder
+         */
+        Optionals withStreamingMode(StreamingMode streamingMode);
+
+        /**
+         * Enters the number of rows fetched at a time. The default value is
+         * {@link StreamingMode#DEFAULT_FETCH_SIZE}.
+         *
+         * @param fetchSize the number of rows fetched at a time
+         * @return a builder
+         */
+        Optionals withFetchSize(int fetchSize);
+
         /**
          * Creates and returns a new DbmsType instance with the given
          * parameters.
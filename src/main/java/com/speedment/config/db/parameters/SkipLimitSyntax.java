@@ -0,0 +1,113 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines how a {@code DbmsType} restricts the rows returned by a query to
+ * a certain range. This is used to render {@code Stream#skip(long)} and
+ * {@code Stream#limit(long)} operations as part of the query.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum SkipLimitSyntax {
+
+    /**
+     * The database type has no known way of restricting the range of rows.
+     * The query is returned unchanged, so skip and limit operations must 
+     * always be performed in the JVM.
+     */
+    NONE {
+        @Override
+        public String apply(String sql, List<Object> values, long skip, long limit) {
+            requireNonNull(sql);
+            requireNonNull(values);
+            return sql;
+        }
+    },
+    
+    /**
+     * Uses {@code LIMIT ? OFFSET ?} as supported by MySQL and MariaDB. Since
+     * an {@code OFFSET} requires a {@code LIMIT} for these databases, the
+     * largest possible row count is used if there is no limit.
+     */
+    LIMIT_OFFSET {
+        @Override
+        public String apply(String sql, List<Object> values, long skip, long limit) {
+            requireNonNull(sql);
+            requireNonNull(values);
+            final StringBuilder result = new StringBuilder(sql);
+            if (limit != Long.MAX_VALUE) {
+                result.append(" LIMIT ?");
+                values.add(limit);
+            } else if (skip > 0) {
+                result.append(" LIMIT 18446744073709551615");
+            }
+            if (skip > 0) {
+                result.append(" OFFSET ?");
+                values.add(skip);
+            }
+            return result.toString();
+        }
+    },
+    
+    /**
+     * Uses the standard SQL syntax {@code OFFSET ? ROWS FETCH FIRST ? ROWS ONLY}
+     * as supported by for example PostgreSQL.
+     */
+    OFFSET_FETCH {
+        @Override
+        public String apply(String sql, List<Object> values, long skip, long limit) {
+            requireNonNull(sql);
+            requireNonNull(values);
+            final StringBuilder result = new StringBuilder(sql);
+            if (skip > 0) {
+                result.append(" OFFSET ? ROWS");
+                values.add(skip);
+            }
+            if (limit != Long.MAX_VALUE) {
+                result.append(" FETCH FIRST ? ROWS ONLY");
+                values.add(limit);
+            }
+            return result.toString();
+        }
+    };
+
+    /**
+     * Appends a clause to the provided SQL query that skips the given number
+     * of rows and then returns at most {@code limit} rows. Parameters used by
+     * the clause are added to the provided list of values. A {@code limit} of
+     * {@code Long.MAX_VALUE} means that the number of rows is not limited.
+     * <p>
+     * {@link #NONE} returns the query as it is, so callers must check for it
+     * before they rely on the database to restrict the rows.
+     *
+     * @param sql     the query to restrict
+     * @param values  the values of the query, appended to by this method
+     * @param skip    the number of rows to skip
+     * @param limit   the maximum number of rows to return
+     * @return        the restricted query, or the query as it is for 
+     *                {@link #NONE}
+     */
+    public abstract String apply(String sql, List<Object> values, long skip, long limit);
+
+}
@@ -0,0 +1,46 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Determines how a {@code DbmsType} expresses the position of {@code null}
+ * values in an {@code ORDER BY} clause.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum SortByNullOrderInsertion {
+
+    /**
+     * The null order is expressed as a separate {@code IS NULL} sort key that
+     * is inserted before the column, like in {@code ORDER BY `a` IS NULL DESC, `a` ASC}.
+     * This is used by databases (like MySQL) that do not support the
+     * {@code NULLS FIRST} and {@code NULLS LAST} keywords.
+     */
+    PRE,
+    
+    /**
+     * The null order is expressed by appending {@code NULLS FIRST} or
+     * {@code NULLS LAST} after the column, like in
+     * {@code ORDER BY "a" ASC NULLS FIRST}. This is the standard SQL syntax.
+     */
+    POST;
+
+}
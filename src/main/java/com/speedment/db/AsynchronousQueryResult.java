@@ -17,9 +17,15 @@
 package com.speedment.db;
 
 import com.speedment.annotation.Api;
+import com.speedment.component.metrics.QueryRecorder;
+import com.speedment.internal.core.db.KeysetPaging;
+import com.speedment.internal.core.db.RangePartitioning;
 import com.speedment.stream.HasParallelStrategy;
+import com.speedment.stream.HasStreamingMode;
+import com.speedment.stream.StreamingMode;
 import java.sql.ResultSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -29,7 +35,7 @@ import java.util.stream.Stream;
  * @param <T> The type that the ResultSet shall be mapped to
  */
 @Api(version = "2.3")
-public interface AsynchronousQueryResult<T> extends HasParallelStrategy, AutoCloseable {
+public interface AsynchronousQueryResult<T> extends HasParallelStrategy, HasStreamingMode, AutoCloseable {
 
     Stream<T> stream();
 
@@ -48,4 +54,36 @@ public interface AsynchronousQueryResult<T> extends HasParallelStrategy, AutoClo
 
     void setRsMapper(Function<ResultSet, T> rsMapper);
 
+    /**
+     * Returns the recorder that the execution of the query is reported to, 
+     * or an empty {@code Optional} if the query is not recorded.
+     *
+     * @return  the recorder
+     */
+    Optional<QueryRecorder> getQueryRecorder();
+
+    /**
+     * Sets the recorder that the execution of the query should be reported 
+     * to.
+     *
+     * @param recorder  the recorder
+     */
+    void setQueryRecorder(QueryRecorder recorder);
+
+    /**
+     * Sets how the query is split into pages if the streaming mode is 
+     * {@link StreamingMode#KEYSET}.
+     *
+     * @param keysetPaging  the paging of the query
+     */
+    void setKeysetPaging(KeysetPaging keysetPaging);
+
+    /**
+     * Sets how the query is split into ranges if the streaming mode is 
+     * {@link StreamingMode#PARTITIONED}.
+     *
+     * @param rangePartitioning  the partitioning of the query
+     */
+    void setRangePartitioning(RangePartitioning rangePartitioning);
+
 }
@@ -181,6 +181,30 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
         final Consumer<List<Long>> generatedKeyConsumer
     ) throws SQLException;
 
+    /**
+     * Executes an SQL insert command, setting each parameter using the binder
+     * with the same index. Handlers that do not support binders may ignore
+     * them.
+     *
+     * @param <F> dynamic type
+     * @param sql the non-null SQL command to execute
+     * @param values a non-null list
+     * @param binders a non-null list with one binder per value
+     * @param generatedKeyFields list of the generated fields
+     * @param generatedKeyConsumer non-null List of objects to use for "?"
+     * parameters in the SQL command
+     * @throws SQLException if an error occurs
+     */
+    default <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsert(
+        final String sql,
+        final List<?> values,
+        final List<ParameterBinder<Object>> binders,
+        final List<F> generatedKeyFields,
+        final Consumer<List<Long>> generatedKeyConsumer
+    ) throws SQLException {
+        executeInsert(sql, values, generatedKeyFields, generatedKeyConsumer);
+    }
+
 //    /**
 //     * Executes an SQL update command. Generated key(s) following an insert
 //     * command (if any) will be feed to the provided {code Consumer}.
@@ -201,6 +225,20 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
      */
     public void executeUpdate(final String sql, final List<?> values) throws SQLException;
 
+    /**
+     * Executes an SQL update command, setting each parameter using the binder
+     * with the same index. Handlers that do not support binders may ignore
+     * them.
+     *
+     * @param sql the non-null SQL command to execute
+     * @param values a non-null list
+     * @param binders a non-null list with one binder per value
+     * @throws SQLException if an error occurs
+     */
+    default void executeUpdate(final String sql, final List<?> values, final List<ParameterBinder<Object>> binders) throws SQLException {
+        executeUpdate(sql, values);
+    }
+
 //    /**
 //     * Executes an SQL delete command.
 //     *
@@ -220,6 +258,20 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
      */
     public void executeDelete(final String sql, final List<?> values) throws SQLException;
 
+    /**
+     * Executes an SQL delete command, setting each parameter using the binder
+     * with the same index. Handlers that do not support binders may ignore
+     * them.
+     *
+     * @param sql the non-null SQL command to execute
+     * @param values a non-null list
+     * @param binders a non-null list with one binder per value
+     * @throws SQLException if an error occurs
+     */
+    default void executeDelete(final String sql, final List<?> values, final List<ParameterBinder<Object>> binders) throws SQLException {
+        executeDelete(sql, values);
+    }
+
     /**
      * Returns a string with information on the current dbms.
      *
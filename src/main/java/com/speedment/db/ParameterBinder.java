@@ -0,0 +1,63 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.db;
+
+import com.speedment.annotation.Api;
+import com.speedment.internal.core.db.ParameterBinders;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets a parameter of a {@link PreparedStatement} using the setter that
+ * matches the type of the value, for an example
+ * {@link PreparedStatement#setLong(int, long)} for {@code Long} values. This
+ * spares the JDBC driver from inferring the type of every parameter as it
+ * would have to with {@link PreparedStatement#setObject(int, Object)}.
+ *
+ * @author pemi
+ * @param <T> value type
+ * @since 2.3
+ */
+@Api(version = "2.3")
+@FunctionalInterface
+public interface ParameterBinder<T> {
+
+    /**
+     * Sets the parameter with the given index of the given statement to the
+     * given value.
+     *
+     * @param ps     the statement
+     * @param index  the parameter index, starting at 1
+     * @param value  the value, possibly {@code null}
+     * @throws SQLException if the parameter could not be set
+     */
+    void bind(PreparedStatement ps, int index, T value) throws SQLException;
+
+    /**
+     * Returns a binder for values of the given class. Values of other classes
+     * given to the returned binder are set using
+     * {@link PreparedStatement#setObject(int, Object)}, and {@code null}
+     * values are set using {@link PreparedStatement#setNull(int, int)} with
+     * the SQL type that corresponds to the class.
+     *
+     * @param type  the class of the values to bind
+     * @return      a binder for the class
+     */
+    static ParameterBinder<Object> of(Class<?> type) {
+        return ParameterBinders.of(type);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field.trait;
+
+import com.speedment.annotation.Api;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A representation of an Entity field that is a {@link Number} type. Number
+ * fields have additional methods that return the value of the field as a 
+ * primitive.
+ * 
+ * @param <ENTITY>  the entity type
+ * 
+ * @author  Per Minborg
+ * @author  Emil Forslund
+ */
+@Api(version = "2.3")
+public interface NumberFieldTrait<ENTITY> {
+
+    /**
+     * Returns a {@link ToIntFunction} that will return the value of this 
+     * field as an {@code int}, as by {@link Number#intValue()}. If the 
+     * function is used in a 
+     * {@link java.util.stream.Stream#mapToInt(ToIntFunction)} operation of a
+     * managed stream, aggregates like {@code sum()} may be computed by the
+     * database.
+     *
+     * @return a {@link ToIntFunction} that will return the value of this 
+     * field as an {@code int}
+     * @throws NullPointerException if a field is null
+     */
+    ToIntFunction<ENTITY> getterAsInt();
+
+    /**
+     * Returns a {@link ToLongFunction} that will return the value of this 
+     * field as a {@code long}, as by {@link Number#longValue()}. If the 
+     * function is used in a 
+     * {@link java.util.stream.Stream#mapToLong(ToLongFunction)} operation of
+     * a managed stream, aggregates like {@code sum()} may be computed by the
+     * database.
+     *
+     * @return a {@link ToLongFunction} that will return the value of this 
+     * field as a {@code long}
+     * @throws NullPointerException if a field is null
+     */
+    ToLongFunction<ENTITY> getterAsLong();
+
+    /**
+     * Returns a {@link ToDoubleFunction} that will return the value of this 
+     * field as a {@code double}, as by {@link Number#doubleValue()}. If 
+     * the function is used in a 
+     * {@link java.util.stream.Stream#mapToDouble(ToDoubleFunction)} operation
+     * of a managed stream, aggregates like {@code sum()} may be computed by 
+     * the database.
+     *
+     * @return a {@link ToDoubleFunction} that will return the value of this 
+     * field as a {@code double}
+     * @throws NullPointerException if a field is null
+     */
+    ToDoubleFunction<ENTITY> getterAsDouble();
+}
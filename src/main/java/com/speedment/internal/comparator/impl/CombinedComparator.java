@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.comparator.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Comparator} that is composed of a number of other comparators that
+ * are applied in order until one of them finds the two elements to be
+ * different. Unlike the comparator returned by the default implementation of
+ * {@link Comparator#thenComparing(Comparator)}, the individual comparators
+ * can be inspected using {@link #stream()}.
+ *
+ * @author pemi
+ * @param <ENTITY> entity type
+ */
+public final class CombinedComparator<ENTITY> implements Comparator<ENTITY> {
+
+    private final List<Comparator<? super ENTITY>> comparators;
+
+    public CombinedComparator(Comparator<? super ENTITY> first, Comparator<? super ENTITY> second) {
+        final List<Comparator<? super ENTITY>> list = new ArrayList<>();
+        add(list, requireNonNull(first));
+        add(list, requireNonNull(second));
+        this.comparators = Collections.unmodifiableList(list);
+    }
+
+    private CombinedComparator(List<Comparator<? super ENTITY>> comparators) {
+        this.comparators = Collections.unmodifiableList(comparators);
+    }
+
+    /**
+     * Creates and returns a {@link Stream} of all the comparators that this
+     * CombinedComparator holds, in the order they are applied.
+     *
+     * @return a {@link Stream} of all the comparators
+     */
+    public Stream<Comparator<? super ENTITY>> stream() {
+        return comparators.stream();
+    }
+
+    @Override
+    public int compare(ENTITY o1, ENTITY o2) {
+        for (final Comparator<? super ENTITY> comparator : comparators) {
+            final int result = comparator.compare(o1, o2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public Comparator<ENTITY> thenComparing(Comparator<? super ENTITY> other) {
+        requireNonNull(other);
+        final List<Comparator<? super ENTITY>> list = new ArrayList<>(comparators);
+        add(list, other);
+        return new CombinedComparator<>(list);
+    }
+
+    private static <ENTITY> void add(List<Comparator<? super ENTITY>> list, Comparator<? super ENTITY> comparator) {
+        if (comparator instanceof CombinedComparator) {
+            @SuppressWarnings("unchecked")
+            final CombinedComparator<? super ENTITY> combined = (CombinedComparator<? super ENTITY>) comparator;
+            combined.stream().forEachOrdered(c -> list.add(c));
+        } else {
+            list.add(comparator);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + comparators;
+    }
+
+}
@@ -51,6 +51,22 @@ public class SpeedmentComparatorImpl<ENTITY, D, V extends Comparable<? super V>>
         return reversed;
     }
 
+    /**
+     * Returns how {@code null} values are ordered by this comparator before
+     * any reversal is applied.
+     *
+     * @return the null order
+     */
+    public NullOrder getNullOrder() {
+        return nullOrder;
+    }
+
+    @Override
+    public Comparator<ENTITY> thenComparing(Comparator<? super ENTITY> other) {
+        requireNonNull(other);
+        return new CombinedComparator<>(this, other);
+    }
+
     @Override
     public Comparator<ENTITY> reversed() {
         reversed = !reversed;
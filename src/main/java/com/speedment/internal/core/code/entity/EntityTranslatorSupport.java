@@ -34,6 +34,7 @@ import com.speedment.encoder.JsonEncoder;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.ComparableField;
 import com.speedment.field.ComparableForeignKeyField;
+import com.speedment.field.NumberField;
 import com.speedment.field.ReferenceField;
 import com.speedment.field.ReferenceForeignKeyField;
 import com.speedment.field.StringField;
@@ -45,6 +46,7 @@ import static com.speedment.internal.codegen.model.constant.DefaultType.STRING;
 import static com.speedment.internal.codegen.util.Formatting.DOT;
 import com.speedment.internal.core.field.ComparableFieldImpl;
 import com.speedment.internal.core.field.ComparableForeignKeyFieldImpl;
+import com.speedment.internal.core.field.NumberFieldImpl;
 import com.speedment.internal.core.field.ReferenceFieldImpl;
 import com.speedment.internal.core.field.ReferenceForeignKeyFieldImpl;
 import com.speedment.internal.core.field.StringFieldImpl;
@@ -173,6 +175,17 @@ public final class EntityTranslatorSupport {
                     .add(Generic.of().add(entityType))
                     .add(Generic.of().add(databaseType));
 
+            } else if (Number.class.isAssignableFrom(mapping) 
+                   &&  Comparable.class.isAssignableFrom(mapping)) {
+                type = Type.of(NumberField.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType))
+                    .add(Generic.of().add(Type.of(mapping)));
+
+                implType = Type.of(NumberFieldImpl.class)
+                    .add(Generic.of().add(entityType))
+                    .add(Generic.of().add(databaseType))
+                    .add(Generic.of().add(Type.of(mapping)));
             } else if (Comparable.class.isAssignableFrom(mapping)) {
                 type = Type.of(ComparableField.class)
                     .add(Generic.of().add(entityType))
@@ -30,12 +30,15 @@ import com.speedment.config.db.parameters.DbmsTypeBuilder.WithDriverManagerName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithDriverName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithSpeedmentPredicateView;
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.DbmsHandler;
 import com.speedment.db.metadata.TypeInfoMetaData;
 import com.speedment.internal.core.db.DefaultDatabaseNamingConvention;
 import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.stream.StreamingMode;
 import java.util.Collections;
 import static java.util.Collections.unmodifiableSet;
 import java.util.HashSet;
@@ -64,6 +67,10 @@ public final class DbmsTypeImpl implements DbmsType {
     private final SpeedmentPredicateView speedmentPredicateView;
     private final String defaultDbmsName;
     private final String initialQuery;
+    private final SortByNullOrderInsertion sortByNullOrderInsertion;
+    private final SkipLimitSyntax skipLimitSyntax;
+    private final StreamingMode streamingMode;
+    private final int fetchSize;
 
     private DbmsTypeImpl(
             String name,
@@ -79,7 +86,11 @@ public final class DbmsTypeImpl implements DbmsType {
             Set<TypeInfoMetaData> dataTypes,
             SpeedmentPredicateView speedmentPredicateView,
             String defaultDbmsName,
-            String intitialQuery
+            String intitialQuery,
+            SortByNullOrderInsertion sortByNullOrderInsertion,
+            SkipLimitSyntax skipLimitSyntax,
+            StreamingMode streamingMode,
+            int fetchSize
     ) {
         this.name                   = requireNonNull(name);
         this.driverManagerName      = requireNonNull(driverManagerName);
@@ -95,6 +106,10 @@ public final class DbmsTypeImpl implements DbmsType {
         this.speedmentPredicateView = requireNonNull(speedmentPredicateView);
         this.defaultDbmsName        = defaultDbmsName;
         this.initialQuery           = intitialQuery;
+        this.sortByNullOrderInsertion = requireNonNull(sortByNullOrderInsertion);
+        this.skipLimitSyntax        = requireNonNull(skipLimitSyntax);
+        this.streamingMode          = requireNonNull(streamingMode);
+        this.fetchSize              = fetchSize;
     }
 
     public static WithName builder() {
@@ -190,6 +205,26 @@ public final class DbmsTypeImpl implements DbmsType {
         return initialQuery;
     }
 
+    @Override
+    public SortByNullOrderInsertion getSortByNullOrderInsertion() {
+        return sortByNullOrderInsertion;
+    }
+
+    @Override
+    public SkipLimitSyntax getSkipLimitSyntax() {
+        return skipLimitSyntax;
+    }
+
+    @Override
+    public StreamingMode getStreamingMode() {
+        return streamingMode;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     private static class Builder implements DbmsTypeBuilder.Builder   {
 
         // Mandatory
@@ -209,6 +244,10 @@ public final class DbmsTypeImpl implements DbmsType {
         private Set<TypeInfoMetaData> dataTypes;
         private String defaultDbmsName;
         private String initialQuery;
+        private SortByNullOrderInsertion sortByNullOrderInsertion;
+        private SkipLimitSyntax skipLimitSyntax;
+        private StreamingMode streamingMode;
+        private int fetchSize;
 
         public Builder() {
             resultSetTableSchema = "TABLE_SCHEMA";
@@ -217,6 +256,10 @@ public final class DbmsTypeImpl implements DbmsType {
             dataTypes = Collections.emptySet();
             defaultDbmsName = null;
             initialQuery = "select 1 from dual";
+            sortByNullOrderInsertion = SortByNullOrderInsertion.POST;
+            skipLimitSyntax = SkipLimitSyntax.NONE;
+            streamingMode = StreamingMode.BUFFERED;
+            fetchSize = StreamingMode.DEFAULT_FETCH_SIZE;
         }
 
         @Override
@@ -304,6 +347,33 @@ public final class DbmsTypeImpl implements DbmsType {
             return this;
         }
 
+        @Override
+        public Optionals withSortByNullOrderInsertion(SortByNullOrderInsertion sortByNullOrderInsertion) {
+            this.sortByNullOrderInsertion = requireNonNull(sortByNullOrderInsertion);
+            return this;
+        }
+
+        @Override
+        public Optionals withSkipLimitSyntax(SkipLimitSyntax skipLimitSyntax) {
+            this.skipLimitSyntax = requireNonNull(skipLimitSyntax);
+            return this;
+        }
+
+        @Override
+        public Optionals withStreamingMode(StreamingMode streamingMode) {
+            this.streamingMode = requireNonNull(streamingMode);
+            return this;
+        }
+
+        @Override
+        public Optionals withFetchSize(int fetchSize) {
+            if (fetchSize < 0) {
+                throw new IllegalArgumentException("The fetch size can not be negative: " + fetchSize);
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         @Override
         public DbmsType build() {
             return new DbmsTypeImpl(
@@ -320,7 +390,11 @@ public final class DbmsTypeImpl implements DbmsType {
                     dataTypes,
                     speedmentPredicateView,
                     defaultDbmsName,
-                    initialQuery
+                    initialQuery,
+                    sortByNullOrderInsertion,
+                    skipLimitSyntax,
+                    streamingMode,
+                    fetchSize
             );
 
         }
@@ -18,6 +18,8 @@ package com.speedment.internal.core.config.dbms;
 
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.internal.core.db.AbstractDatabaseNamingConvention;
@@ -53,6 +55,8 @@ public final class MySqlDbmsType {
 
         // Optional parameters
         .withInitialQuery("select version() as `MySQL version`")
+        .withSortByNullOrderInsertion(SortByNullOrderInsertion.PRE)
+        .withSkipLimitSyntax(SkipLimitSyntax.LIMIT_OFFSET)
         .build();
     
     private final static class MySqlNamingConvention extends AbstractDatabaseNamingConvention {
@@ -18,6 +18,7 @@ package com.speedment.internal.core.config.dbms;
 
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.SkipLimitSyntax;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.metadata.TypeInfoMetaData;
@@ -57,6 +58,7 @@ public final class PostgresDbmsType {
         .withInitialQuery("select version() as \"PostgreSQL version\"")
         .withResultSetTableSchema("TABLE_SCHEM")
         .withDataTypes(dataTypes())
+        .withSkipLimitSyntax(SkipLimitSyntax.OFFSET_FETCH)
         .build();
 
     private final static class PostgresNamingConvention extends AbstractDatabaseNamingConvention {
@@ -38,6 +38,7 @@ import com.speedment.config.db.trait.HasParent;
 import com.speedment.db.AsynchronousQueryResult;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.DbmsHandler;
+import com.speedment.db.ParameterBinder;
 import com.speedment.db.SqlFunction;
 import com.speedment.db.SqlPredicate;
 import com.speedment.db.SqlSupplier;
@@ -47,6 +48,7 @@ import com.speedment.exception.SpeedmentException;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.internal.core.config.db.ProjectImpl;
+import com.speedment.internal.core.manager.sql.SqlArrayParameter;
 import com.speedment.internal.core.manager.sql.SqlDeleteStatement;
 import com.speedment.internal.core.manager.sql.SqlInsertStatement;
 import com.speedment.internal.core.manager.sql.SqlStatement;
@@ -662,7 +664,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             final PreparedStatement ps = connection.prepareStatement(sql)) {
             int i = 1;
             for (final Object o : values) {
-                ps.setObject(i++, o);
+                SqlArrayParameter.setParameter(connection, ps, i++, o);
             }
             try (final ResultSet rs = ps.executeQuery()) {
 
@@ -683,12 +685,17 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
     public <T> AsynchronousQueryResult<T> executeQueryAsync(
         String sql, List<?> values, Function<ResultSet, T> rsMapper) {
 
-        return new AsynchronousQueryResultImpl<>(
+        final DbmsType dbmsType = dbmsTypeOf(speedment, dbms);
+        final AsynchronousQueryResult<T> result = new AsynchronousQueryResultImpl<>(
             Objects.requireNonNull(sql),
             Objects.requireNonNull(values),
             Objects.requireNonNull(rsMapper),
             () -> getConnection(dbms)
         );
+        
+        result.setStreamingMode(dbmsType.getStreamingMode());
+        result.setFetchSize(dbmsType.getFetchSize());
+        return result;
     }
 
     @Override
@@ -697,18 +704,36 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         execute(singletonList(sqlUpdateStatement));
     }
 
+    @Override
+    public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsert(String sql, List<?> values, List<ParameterBinder<Object>> binders, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) throws SQLException {
+        final SqlInsertStatement sqlUpdateStatement = new SqlInsertStatement(sql, values, binders, generatedKeyFields, generatedKeyConsumer);
+        execute(singletonList(sqlUpdateStatement));
+    }
+
     @Override
     public void executeUpdate(String sql, List<?> values) throws SQLException {
         final SqlUpdateStatement sqlUpdateStatement = new SqlUpdateStatement(sql, values);
         execute(singletonList(sqlUpdateStatement));
     }
 
+    @Override
+    public void executeUpdate(String sql, List<?> values, List<ParameterBinder<Object>> binders) throws SQLException {
+        final SqlUpdateStatement sqlUpdateStatement = new SqlUpdateStatement(sql, values, binders);
+        execute(singletonList(sqlUpdateStatement));
+    }
+
     @Override
     public void executeDelete(String sql, List<?> values) throws SQLException {
         final SqlDeleteStatement sqlDeleteStatement = new SqlDeleteStatement(sql, values);
         execute(singletonList(sqlDeleteStatement));
     }
 
+    @Override
+    public void executeDelete(String sql, List<?> values, List<ParameterBinder<Object>> binders) throws SQLException {
+        final SqlDeleteStatement sqlDeleteStatement = new SqlDeleteStatement(sql, values, binders);
+        execute(singletonList(sqlDeleteStatement));
+    }
+
     protected void execute(List<? extends SqlStatement> sqlStatementList) throws SQLException {
         requireNonNull(sqlStatementList);
         int retryCount = 5;
@@ -791,10 +816,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
 
     protected void handleSqlStatement(final Connection conn, final SqlInsertStatement sqlStatement) throws SQLException {
         try (final PreparedStatement ps = conn.prepareStatement(sqlStatement.getSql(), Statement.RETURN_GENERATED_KEYS)) {
-            int i = 1;
-            for (Object o : sqlStatement.getValues()) {
-                ps.setObject(i++, o);
-            }
+            sqlStatement.bind(ps);
             ps.executeUpdate();
 
             try (final ResultSet generatedKeys = ps.getGeneratedKeys()) {
@@ -815,10 +837,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
 
     private void handleSqlStatementHelper(final Connection conn, final SqlStatement sqlStatement) throws SQLException {
         try (final PreparedStatement ps = conn.prepareStatement(sqlStatement.getSql(), Statement.NO_GENERATED_KEYS)) {
-            int i = 1;
-            for (Object o : sqlStatement.getValues()) {
-                ps.setObject(i++, o);
-            }
+            sqlStatement.bind(ps);
             ps.executeUpdate();
         }
     }
@@ -21,21 +21,35 @@
  */
 package com.speedment.internal.core.db;
 
+import com.speedment.component.metrics.QueryRecorder;
 import com.speedment.db.AsynchronousQueryResult;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.manager.sql.SqlArrayParameter;
+import com.speedment.internal.core.stream.PrefetchingIterator;
 import com.speedment.internal.core.stream.StreamUtil;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
 import com.speedment.stream.ParallelStrategy;
+import com.speedment.stream.StreamingMode;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -49,11 +63,23 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
     private String sql;
     private List<?> values;
     private Function<ResultSet, T> rsMapper;
+    private Function<ResultSet, T> rowMapper;
     private final Supplier<Connection> connectionSupplier;
     private ParallelStrategy parallelStrategy;
+    private StreamingMode streamingMode;
+    private int fetchSize;
+    private int prefetchDepth;
+    private List<?> startKey;
+    private PrefetchingIterator<T> prefetcher;
     private Connection connection;
+    private boolean autoCommitChanged;
+    private KeysetPaging keysetPaging;
+    private RangePartitioning rangePartitioning;
+    private final Set<PartitionSpliterator> openPartitions;
+    private volatile boolean closed;
     private PreparedStatement ps;
     private ResultSet rs;
+    private QueryRecorder recorder;
     private State state;
 
     public enum State {
@@ -70,20 +96,49 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
         setValues(values);
         setRsMapper(rsMapper);
         this.connectionSupplier = requireNonNull(connectionSupplier);
+        this.openPartitions = ConcurrentHashMap.newKeySet();
         parallelStrategy = ParallelStrategy.DEFAULT;
+        streamingMode = StreamingMode.BUFFERED;
+        fetchSize = StreamingMode.DEFAULT_FETCH_SIZE;
+        startKey = Collections.emptyList();
         setState(State.INIT);
         debug();
     }
 
     @Override
     public Stream<T> stream() {
+        rowMapper = recordingMapper();
+        if (recorder != null) {
+            recorder.start(getSql(), getValues());
+        }
+        
+        if (streamingMode == StreamingMode.KEYSET && keysetPaging != null) {
+            setState(State.OPEN);
+            return asStream(new PageIterator());
+        }
+        
+        if (streamingMode == StreamingMode.PARTITIONED && rangePartitioning != null) {
+            return partitionedStream();
+        }
+        
         setState(State.ESTABLISH);
         try {
             connection = connectionSupplier.get();
-            ps = connection.prepareStatement(getSql());
+            if (recorder != null) {
+                recorder.connectionAcquired();
+            }
+            
+            // Server side cursors only live within a transaction
+            if (streamingMode.isTransactional() && connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                autoCommitChanged = true;
+            }
+            
+            ps = connection.prepareStatement(getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            streamingMode.configure(ps, fetchSize);
             int i = 1;
             for (final Object o : getValues()) {
-                ps.setObject(i++, o);
+                SqlArrayParameter.setParameter(connection, ps, i++, o);
             }
             LOGGER.debug("sql:%s, values:%s", getSql(), getValues());
             rs = ps.executeQuery();
@@ -92,13 +147,97 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
             throw new SpeedmentException(sqle);
         }
         setState(State.OPEN);
-        return StreamUtil.asStream(rs, getRsMapper(), parallelStrategy);
+        if (prefetchDepth > 0) {
+            return asStream(StreamUtil.asStream(rs, rowMapper).iterator());
+        } else {
+            return StreamUtil.asStream(rs, rowMapper, parallelStrategy);
+        }
+    }
+
+    /**
+     * Returns the mapper to use for the rows of the query. If the query is
+     * recorded, the time spent mapping each row is reported to the recorder.
+     * 
+     * @return the row mapper
+     */
+    private Function<ResultSet, T> recordingMapper() {
+        final Function<ResultSet, T> mapper = getRsMapper();
+        final QueryRecorder r = recorder;
+        if (r == null) {
+            return mapper;
+        }
+        
+        return resultSet -> {
+            final long start = System.nanoTime();
+            final T entity = mapper.apply(resultSet);
+            r.rowRead(System.nanoTime() - start);
+            return entity;
+        };
+    }
+
+    private Stream<T> asStream(Iterator<T> iterator) {
+        final Iterator<T> source;
+        if (prefetchDepth > 0) {
+            prefetcher = new PrefetchingIterator<>(iterator, prefetchDepth);
+            source = prefetcher;
+        } else {
+            source = iterator;
+        }
+        
+        return StreamSupport.stream(parallelStrategy.spliteratorUnknownSize(
+            source, Spliterator.ORDERED + Spliterator.IMMUTABLE + Spliterator.NONNULL
+        ), false);
+    }
+
+    private Stream<T> partitionedStream() {
+        setState(State.ESTABLISH);
+        closed = false;
+        final List<long[]> ranges;
+        try (
+            final Connection boundsConnection = connectionSupplier.get();
+            final PreparedStatement boundsPs = boundsConnection.prepareStatement(rangePartitioning.getBoundsSql())) {
+            
+            int i = 1;
+            for (final Object o : getValues()) {
+                SqlArrayParameter.setParameter(boundsConnection, boundsPs, i++, o);
+            }
+            
+            try (final ResultSet boundsRs = boundsPs.executeQuery()) {
+                boundsRs.next();
+                final long min = boundsRs.getLong(1);
+                if (boundsRs.wasNull()) {
+                    ranges = Collections.emptyList(); // No rows
+                } else {
+                    ranges = rangePartitioning.ranges(min, boundsRs.getLong(2));
+                }
+            }
+        } catch (SQLException sqle) {
+            LOGGER.error(sqle, "Error executing " + rangePartitioning.getBoundsSql() + ", values=" + getValues());
+            throw new SpeedmentException(sqle);
+        }
+        setState(State.OPEN);
+        return StreamSupport.stream(new PartitionSpliterator(ranges), false);
     }
 
     @Override
     public void close() {
+        if (recorder != null) {
+            recorder.stop();
+        }
+        // Wait for the prefetching thread to stop before the result set is closed
+        closeSilently(prefetcher);
+        
+        // Partitions that are being read are closed as soon as the current 
+        // row is read, and no more partitions are opened
+        closed = true;
+        openPartitions.forEach(PartitionSpliterator::close);
         closeSilently(rs);
         closeSilently(ps);
+        if (autoCommitChanged) {
+            // Ends the read only transaction before the connection is reused
+            closeSilently(() -> connection.setAutoCommit(true));
+            autoCommitChanged = false;
+        }
         closeSilently(connection);
         setState(State.CLOSED);
     }
@@ -169,6 +308,258 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
     public void setParallelStrategy(ParallelStrategy parallelStrategy) {
         this.parallelStrategy = parallelStrategy;
     }
-    
+
+    @Override
+    public Optional<QueryRecorder> getQueryRecorder() {
+        return Optional.ofNullable(recorder);
+    }
+
+    @Override
+    public void setQueryRecorder(QueryRecorder recorder) {
+        this.recorder = requireNonNull(recorder);
+    }
+
+    @Override
+    public void setKeysetPaging(KeysetPaging keysetPaging) {
+        this.keysetPaging = requireNonNull(keysetPaging);
+    }
+
+    @Override
+    public void setRangePartitioning(RangePartitioning rangePartitioning) {
+        this.rangePartitioning = requireNonNull(rangePartitioning);
+    }
+
+    @Override
+    public StreamingMode getStreamingMode() {
+        return streamingMode;
+    }
+
+    @Override
+    public void setStreamingMode(StreamingMode streamingMode) {
+        this.streamingMode = requireNonNull(streamingMode);
+    }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size can not be negative: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    @Override
+    public void setPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("The prefetch depth can not be negative: " + prefetchDepth);
+        }
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    @Override
+    public List<?> getStartKey() {
+        return startKey;
+    }
+
+    @Override
+    public void setStartKey(List<?> startKey) {
+        this.startKey = Collections.unmodifiableList(new ArrayList<>(requireNonNull(startKey)));
+    }
+
+    /**
+     * Iterates over the rows of the query one page at a time. Every page is
+     * read completely using a connection of its own that is closed before
+     * the rows of the page are returned.
+     */
+    private final class PageIterator implements Iterator<T> {
+
+        private final int pageSize;
+        private List<?> lastKey;
+        private Iterator<T> page;
+        private boolean lastPage;
+
+        private PageIterator() {
+            this.pageSize = fetchSize > 0 ? fetchSize : StreamingMode.DEFAULT_FETCH_SIZE;
+            this.lastKey  = keysetPaging.requireKey(startKey);
+            this.page     = Collections.emptyIterator();
+            this.lastPage = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage && getState() != State.CLOSED) {
+                page = nextPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private Iterator<T> nextPage() {
+            final List<Object> pageValues = new ArrayList<>(getValues());
+            final String pageSql = keysetPaging.render(getSql(), pageValues, lastKey, pageSize);
+            final List<T> rows = new ArrayList<>(pageSize);
+            
+            try (
+                final Connection pageConnection = connectionSupplier.get();
+                final PreparedStatement pagePs = pageConnection.prepareStatement(
+                    pageSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                )) {
+                
+                int i = 1;
+                for (final Object o : pageValues) {
+                    SqlArrayParameter.setParameter(pageConnection, pagePs, i++, o);
+                }
+                LOGGER.debug("sql:%s, values:%s", pageSql, pageValues);
+                
+                try (final ResultSet pageRs = pagePs.executeQuery()) {
+                    while (pageRs.next()) {
+                        rows.add(rowMapper.apply(pageRs));
+                        lastKey = keysetPaging.readKey(pageRs);
+                    }
+                }
+            } catch (SQLException sqle) {
+                LOGGER.error(sqle, "Error executing " + pageSql + ", values=" + pageValues);
+                throw new SpeedmentException(sqle);
+            }
+            
+            lastPage = rows.size() < pageSize;
+            return rows.iterator();
+        }
+    }
+
+    /**
+     * A spliterator over a number of key ranges. It is split by dividing the
+     * ranges that have not been opened yet. Each range is read using a query
+     * and a connection of its own.
+     */
+    private final class PartitionSpliterator implements Spliterator<T> {
+
+        private final List<long[]> ranges;
+        private int index;
+        private Connection partitionConnection;
+        private PreparedStatement partitionPs;
+        private ResultSet partitionRs;
+
+        private PartitionSpliterator(List<long[]> ranges) {
+            this.ranges = requireNonNull(ranges);
+            this.index  = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            requireNonNull(action);
+            final T next = readNext();
+            if (next == null) {
+                return false;
+            }
+            
+            action.accept(next);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int remaining = ranges.size() - index;
+            if (partitionRs != null || remaining < 2) {
+                return null;
+            }
+            
+            final int middle = index + remaining / 2;
+            final Spliterator<T> prefix = new PartitionSpliterator(ranges.subList(index, middle));
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED + Spliterator.IMMUTABLE + Spliterator.NONNULL;
+        }
+
+        /**
+         * Reads the next row, opening the next partition if needed. The 
+         * result set is only used while holding the lock of this 
+         * spliterator, so that the query result can close it from another 
+         * thread. Once the query result is closed, no more rows are read.
+         * 
+         * @return  the next row, or {@code null} if there are no more rows
+         */
+        private synchronized T readNext() {
+            try {
+                while (true) {
+                    if (closed) {
+                        close();
+                        return null;
+                    }
+                    
+                    if (partitionRs != null) {
+                        if (partitionRs.next()) {
+                            return rowMapper.apply(partitionRs);
+                        }
+                        close();
+                    }
+                    
+                    if (index >= ranges.size()) {
+                        return null;
+                    }
+                    
+                    open(ranges.get(index++));
+                }
+            } catch (SQLException sqle) {
+                close();
+                LOGGER.error(sqle, "Error reading partition of " + getSql());
+                throw new SpeedmentException(sqle);
+            }
+        }
+
+        private void open(long[] range) throws SQLException {
+            final List<Object> partitionValues = new ArrayList<>(getValues());
+            final String partitionSql = rangePartitioning.render(getSql(), partitionValues, range);
+            
+            openPartitions.add(this);
+            partitionConnection = connectionSupplier.get();
+            partitionPs = partitionConnection.prepareStatement(
+                partitionSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+            );
+            streamingMode.configure(partitionPs, fetchSize);
+            
+            int i = 1;
+            for (final Object o : partitionValues) {
+                SqlArrayParameter.setParameter(partitionConnection, partitionPs, i++, o);
+            }
+            LOGGER.debug("sql:%s, values:%s", partitionSql, partitionValues);
+            partitionRs = partitionPs.executeQuery();
+        }
+
+        private synchronized void close() {
+            closeSilently(partitionRs);
+            closeSilently(partitionPs);
+            closeSilently(partitionConnection);
+            partitionRs = null;
+            partitionPs = null;
+            partitionConnection = null;
+            openPartitions.remove(this);
+        }
+    }
 
 }
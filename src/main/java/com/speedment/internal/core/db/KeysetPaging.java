@@ -0,0 +1,137 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Renders the queries used to read a table as a chain of pages ordered by 
+ * its primary key. Every page starts right after the key of the last row of 
+ * the previous page, so each query is short regardless of the size of the
+ * table. A stream that was interrupted can be resumed by starting after the
+ * key of the last row that was processed.
+ *
+ * @author pemi
+ */
+public final class KeysetPaging {
+
+    private final List<String> columns;
+    private final List<String> labels;
+    private final SkipLimitSyntax skipLimitSyntax;
+    private final boolean filtered;
+
+    /**
+     * Creates a new {@code KeysetPaging}.
+     *
+     * @param columns          the full names of the primary key columns, 
+     *                         used in the rendered SQL
+     * @param labels           the labels of the primary key columns, used 
+     *                         to read the key from the result set
+     * @param skipLimitSyntax  how the size of a page is restricted
+     * @param filtered         if the query already has a {@code WHERE} clause
+     */
+    public KeysetPaging(List<String> columns, List<String> labels, SkipLimitSyntax skipLimitSyntax, boolean filtered) {
+        this.columns         = new ArrayList<>(requireNonNull(columns));
+        this.labels          = new ArrayList<>(requireNonNull(labels));
+        this.skipLimitSyntax = requireNonNull(skipLimitSyntax);
+        this.filtered        = filtered;
+        
+        if (this.columns.isEmpty() || this.columns.size() != this.labels.size()) {
+            throw new IllegalArgumentException(
+                "Keyset paging requires a primary key, columns=" + columns + ", labels=" + labels
+            );
+        }
+    }
+
+    /**
+     * Renders the query for the page that follows the provided key. The
+     * values of the added parameters are appended to the provided list.
+     *
+     * @param sql       the query that should be paged
+     * @param values    the values of the query, to be appended to
+     * @param lastKey   the key of the last row of the previous page, or an
+     *                  empty list if this is the first page
+     * @param pageSize  the maximum number of rows in the page
+     * @return          the query for the page
+     */
+    public String render(String sql, List<Object> values, List<?> lastKey, int pageSize) {
+        requireNonNull(sql);
+        requireNonNull(values);
+        requireKey(lastKey);
+        
+        final StringBuilder result = new StringBuilder(sql);
+        
+        if (!lastKey.isEmpty()) {
+            // (a > ?) OR (a = ? AND b > ?) OR (a = ? AND b = ? AND c > ?) ...
+            result.append(filtered ? " AND (" : " WHERE (");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    result.append(" OR ");
+                }
+                result.append("(");
+                for (int j = 0; j < i; j++) {
+                    result.append(columns.get(j)).append(" = ? AND ");
+                    values.add(lastKey.get(j));
+                }
+                result.append(columns.get(i)).append(" > ?)");
+                values.add(lastKey.get(i));
+            }
+            result.append(")");
+        }
+        
+        result.append(" ORDER BY ").append(String.join(", ", columns));
+        return skipLimitSyntax.apply(result.toString(), values, 0, pageSize);
+    }
+
+    /**
+     * Checks that the provided key is either empty or has one value for each 
+     * primary key column.
+     *
+     * @param key  the key to check
+     * @return     the key
+     * @throws IllegalArgumentException  if the key has the wrong size
+     */
+    public List<?> requireKey(List<?> key) {
+        requireNonNull(key);
+        if (!key.isEmpty() && key.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                "The key " + key + " does not match the primary key " + columns
+            );
+        }
+        return key;
+    }
+
+    /**
+     * Reads the primary key of the current row of the provided result set.
+     *
+     * @param rs  the result set
+     * @return    the primary key values
+     * @throws SQLException  if the key could not be read
+     */
+    public List<Object> readKey(ResultSet rs) throws SQLException {
+        final List<Object> key = new ArrayList<>(labels.size());
+        for (final String label : labels) {
+            key.add(rs.getObject(label));
+        }
+        return key;
+    }
+}
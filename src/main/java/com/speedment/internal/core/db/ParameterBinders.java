@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.db.ParameterBinder;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The standard {@link ParameterBinder} implementations.
+ *
+ * @author pemi
+ */
+public final class ParameterBinders {
+
+    /**
+     * Binds any value using {@link PreparedStatement#setObject(int, Object)}.
+     */
+    public static final ParameterBinder<Object> OBJECT = PreparedStatement::setObject;
+
+    private static final Map<Class<?>, ParameterBinder<Object>> BINDERS = new HashMap<>();
+
+    static {
+        put(Boolean.class, Types.BOOLEAN, PreparedStatement::setBoolean);
+        put(Byte.class, Types.TINYINT, PreparedStatement::setByte);
+        put(Short.class, Types.SMALLINT, PreparedStatement::setShort);
+        put(Integer.class, Types.INTEGER, PreparedStatement::setInt);
+        put(Long.class, Types.BIGINT, PreparedStatement::setLong);
+        put(Float.class, Types.REAL, PreparedStatement::setFloat);
+        put(Double.class, Types.DOUBLE, PreparedStatement::setDouble);
+        put(BigDecimal.class, Types.DECIMAL, PreparedStatement::setBigDecimal);
+        put(String.class, Types.VARCHAR, PreparedStatement::setString);
+        put(byte[].class, Types.VARBINARY, PreparedStatement::setBytes);
+        put(Date.class, Types.DATE, PreparedStatement::setDate);
+        put(Time.class, Types.TIME, PreparedStatement::setTime);
+        put(Timestamp.class, Types.TIMESTAMP, PreparedStatement::setTimestamp);
+    }
+
+    /**
+     * Returns the binder for values of the given class. If there is no
+     * specific binder for the class, {@link #OBJECT} is returned.
+     *
+     * @param type  the class of the values
+     * @return      the binder
+     */
+    public static ParameterBinder<Object> of(Class<?> type) {
+        requireNonNull(type);
+        return BINDERS.getOrDefault(type, OBJECT);
+    }
+
+    /**
+     * Returns the binder for the class of the given value. If the value is
+     * {@code null} or there is no specific binder for its class,
+     * {@link #OBJECT} is returned.
+     *
+     * @param value  the value, possibly {@code null}
+     * @return       the binder
+     */
+    public static ParameterBinder<Object> forValue(Object value) {
+        return value == null ? OBJECT : BINDERS.getOrDefault(value.getClass(), OBJECT);
+    }
+
+    @FunctionalInterface
+    private interface Setter<T> {
+        void set(PreparedStatement ps, int index, T value) throws SQLException;
+    }
+
+    private static <T> void put(Class<T> type, int sqlType, Setter<T> setter) {
+        BINDERS.put(type, (ps, index, value) -> {
+            if (value == null) {
+                ps.setNull(index, sqlType);
+            } else if (type.isInstance(value)) {
+                setter.set(ps, index, type.cast(value));
+            } else {
+                ps.setObject(index, value);
+            }
+        });
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private ParameterBinders() {
+        throw new UnsupportedOperationException();
+    }
+}
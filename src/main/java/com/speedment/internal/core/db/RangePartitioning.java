@@ -0,0 +1,109 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Renders the queries used to read a table as a number of independent 
+ * queries, each covering a range of an integral primary key. The ranges are
+ * computed from the smallest and the largest key and can be read in 
+ * parallel using separate connections.
+ *
+ * @author pemi
+ */
+public final class RangePartitioning {
+
+    private final String column;
+    private final String boundsSql;
+    private final boolean filtered;
+    private final int partitions;
+
+    /**
+     * Creates a new {@code RangePartitioning}.
+     *
+     * @param column      the full name of the integral primary key column
+     * @param boundsSql   the query that selects the smallest and the largest
+     *                    key of the rows, taking the same parameters as the
+     *                    query that should be partitioned
+     * @param filtered    if the query already has a {@code WHERE} clause
+     * @param partitions  the maximum number of partitions
+     */
+    public RangePartitioning(String column, String boundsSql, boolean filtered, int partitions) {
+        this.column     = requireNonNull(column);
+        this.boundsSql  = requireNonNull(boundsSql);
+        this.filtered   = filtered;
+        this.partitions = partitions;
+        
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least one partition is required: " + partitions);
+        }
+    }
+
+    public String getBoundsSql() {
+        return boundsSql;
+    }
+
+    /**
+     * Divides the provided closed range of keys into at most the number of
+     * partitions of this {@code RangePartitioning}. Each range is returned as
+     * an array holding its first and last key, both inclusive.
+     *
+     * @param min  the smallest key
+     * @param max  the largest key
+     * @return     the ranges in ascending order
+     */
+    public List<long[]> ranges(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min " + min + " > max " + max);
+        }
+        
+        final BigInteger first = BigInteger.valueOf(min);
+        final BigInteger size  = BigInteger.valueOf(max).subtract(first).add(BigInteger.ONE);
+        final BigInteger count = size.min(BigInteger.valueOf(partitions));
+        
+        final List<long[]> result = new ArrayList<>(count.intValue());
+        BigInteger from = first;
+        for (int i = 1; i <= count.intValue(); i++) {
+            final BigInteger next = first.add(size.multiply(BigInteger.valueOf(i)).divide(count));
+            result.add(new long[] {from.longValue(), next.subtract(BigInteger.ONE).longValue()});
+            from = next;
+        }
+        return result;
+    }
+
+    /**
+     * Renders the query for the provided range of keys. The values of the 
+     * added parameters are appended to the provided list.
+     *
+     * @param sql     the query that should be partitioned
+     * @param values  the values of the query, to be appended to
+     * @param range   the first and the last key of the range, both inclusive
+     * @return        the query for the range
+     */
+    public String render(String sql, List<Object> values, long[] range) {
+        requireNonNull(sql);
+        requireNonNull(values);
+        values.add(range[0]);
+        values.add(range[1]);
+        return sql + (filtered ? " AND " : " WHERE ") + 
+            "(" + column + " >= ? AND " + column + " <= ?)";
+    }
+}
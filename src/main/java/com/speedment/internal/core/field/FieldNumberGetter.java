@@ -0,0 +1,85 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A function that returns the value of a numeric field as a primitive. Unlike
+ * an ordinary lambda or method reference, the field that the value is read
+ * from can be obtained using {@link #getReferenceField()}. This allows stream
+ * terminators to recognize the function and, for example, compute
+ * aggregates in the database instead.
+ *
+ * @author pemi
+ * @param <ENTITY> the entity type
+ */
+public final class FieldNumberGetter<ENTITY> implements 
+    ToIntFunction<ENTITY>, 
+    ToLongFunction<ENTITY>, 
+    ToDoubleFunction<ENTITY> {
+
+    private final ReferenceFieldTrait<ENTITY, ?, ?> referenceField;
+
+    public FieldNumberGetter(ReferenceFieldTrait<ENTITY, ?, ?> referenceField) {
+        this.referenceField = requireNonNull(referenceField);
+    }
+
+    /**
+     * Returns the field that values are read from.
+     *
+     * @return the field
+     */
+    public ReferenceFieldTrait<ENTITY, ?, ?> getReferenceField() {
+        return referenceField;
+    }
+
+    @Override
+    public int applyAsInt(ENTITY entity) {
+        return number(entity).intValue();
+    }
+
+    @Override
+    public long applyAsLong(ENTITY entity) {
+        return number(entity).longValue();
+    }
+
+    @Override
+    public double applyAsDouble(ENTITY entity) {
+        return number(entity).doubleValue();
+    }
+
+    private Number number(ENTITY entity) {
+        final Object value = referenceField.getter().apply(requireNonNull(entity));
+        if (value == null) {
+            throw new NullPointerException(
+                "The field " + referenceField.getIdentifier().columnName() + " was null"
+            );
+        }
+        return (Number) value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + referenceField.getIdentifier().columnName();
+    }
+
+}
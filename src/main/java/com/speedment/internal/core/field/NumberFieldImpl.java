@@ -0,0 +1,69 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.NumberField;
+import com.speedment.field.methods.Getter;
+import com.speedment.field.methods.Setter;
+import com.speedment.field.trait.NumberFieldTrait;
+import com.speedment.internal.core.field.trait.NumberFieldTraitImpl;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class represents a Comparable Reference Field that is a 
+ * {@link Number}.
+ *
+ * @author pemi
+ * @param <ENTITY> The entity type
+ * @param <D> The database type
+ * @param <V> The value type
+ */
+public class NumberFieldImpl<ENTITY, D, V extends Number & Comparable<? super V>> 
+    extends ComparableFieldImpl<ENTITY, D, V> implements NumberField<ENTITY, D, V> {
+
+    private final NumberFieldTrait<ENTITY> numberField;
+
+    public NumberFieldImpl(
+        FieldIdentifier<ENTITY> identifier,
+        Getter<ENTITY, V> getter,
+        Setter<ENTITY, V> setter,
+        TypeMapper<D, V> typeMapper,
+        boolean unique
+    ) {
+        super(identifier, getter, setter, typeMapper, unique);
+        numberField = new NumberFieldTraitImpl<>(this);
+    }
+
+    @Override
+    public ToIntFunction<ENTITY> getterAsInt() {
+        return numberField.getterAsInt();
+    }
+
+    @Override
+    public ToLongFunction<ENTITY> getterAsLong() {
+        return numberField.getterAsLong();
+    }
+
+    @Override
+    public ToDoubleFunction<ENTITY> getterAsDouble() {
+        return numberField.getterAsDouble();
+    }
+}
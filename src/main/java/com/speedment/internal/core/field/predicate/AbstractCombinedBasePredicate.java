@@ -63,7 +63,12 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         if (getClass().equals(predicate.getClass())) {
             @SuppressWarnings("unchecked")
             final AbstractCombinedBasePredicate<ENTITY> cbp = getClass().cast(predicate);
-            cbp.stream().forEachOrdered(predicates::add);
+            if (cbp.isNegated()) {
+                // A negated predicate can not be flattened into this one
+                predicates.add(cbp);
+            } else {
+                cbp.stream().forEachOrdered(predicates::add);
+            }
         } else {
             predicates.add(predicate);
         }
@@ -130,12 +135,15 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         @Override
         public boolean test(ENTITY t) {
             requireNonNull(t);
-            return stream().allMatch(p -> p.test(t));
+            return stream().allMatch(p -> p.test(t)) ^ isNegated();
         }
 
         @Override
         public AndCombinedBasePredicate<ENTITY> and(Predicate<? super ENTITY> other) {
             requireNonNull(other);
+            if (isNegated()) {
+                return new AndCombinedBasePredicate<>(this, other);
+            }
             return add(other);
         }
 
@@ -155,7 +163,7 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         @Override
         public boolean test(ENTITY t) {
             requireNonNull(t);
-            return stream().anyMatch(p -> p.test(t));
+            return stream().anyMatch(p -> p.test(t)) ^ isNegated();
         }
 
         @Override
@@ -167,6 +175,9 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         @Override
         public OrCombinedBasePredicate<ENTITY> or(Predicate<? super ENTITY> other) {
             requireNonNull(other);
+            if (isNegated()) {
+                return new OrCombinedBasePredicate<>(this, other);
+            }
             return add(other);
         }
     }
@@ -177,6 +188,8 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
             .append(type.name())
             .append(", predicates=")
             .append(predicates.toString())
+            .append(", negated=")
+            .append(isNegated())
             .append("}")
             .toString();
     }
@@ -0,0 +1,53 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field.trait;
+
+import com.speedment.field.trait.NumberFieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.FieldNumberGetter;
+import static java.util.Objects.requireNonNull;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * @param <ENTITY> the entity type
+ * @author pemi
+ */
+public class NumberFieldTraitImpl<ENTITY> implements NumberFieldTrait<ENTITY> {
+
+    private final ReferenceFieldTrait<ENTITY, ?, ? extends Number> referenceField;
+
+    public NumberFieldTraitImpl(ReferenceFieldTrait<ENTITY, ?, ? extends Number> referenceField) {
+        this.referenceField = requireNonNull(referenceField);
+    }
+
+    @Override
+    public ToIntFunction<ENTITY> getterAsInt() {
+        return new FieldNumberGetter<>(referenceField);
+    }
+
+    @Override
+    public ToLongFunction<ENTITY> getterAsLong() {
+        return new FieldNumberGetter<>(referenceField);
+    }
+
+    @Override
+    public ToDoubleFunction<ENTITY> getterAsDouble() {
+        return new FieldNumberGetter<>(referenceField);
+    }
+}
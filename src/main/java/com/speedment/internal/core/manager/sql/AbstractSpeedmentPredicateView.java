@@ -17,8 +17,14 @@
 package com.speedment.internal.core.manager.sql;
 
 import com.speedment.db.DatabaseNamingConvention;
+import com.speedment.field.FieldIdentifier;
 import com.speedment.field.Inclusion;
 import com.speedment.field.predicate.PredicateType;
+import static com.speedment.field.predicate.PredicateType.ALWAYS_FALSE;
+import static com.speedment.field.predicate.PredicateType.ALWAYS_TRUE;
+import static com.speedment.field.predicate.PredicateType.IN;
+import static com.speedment.field.predicate.PredicateType.IS_NOT_NULL;
+import static com.speedment.field.predicate.PredicateType.IS_NULL;
 import static com.speedment.field.predicate.PredicateType.NOT_BETWEEN;
 import static com.speedment.field.predicate.PredicateType.NOT_CONTAINS;
 import static com.speedment.field.predicate.PredicateType.NOT_ENDS_WITH;
@@ -26,16 +32,36 @@ import static com.speedment.field.predicate.PredicateType.NOT_EQUAL_IGNORE_CASE;
 import static com.speedment.field.predicate.PredicateType.NOT_IN;
 import static com.speedment.field.predicate.PredicateType.NOT_STARTS_WITH;
 import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import static com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate.Type.AND;
+import static com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate.Type.OR;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRaw;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRawSet;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getSecondOperandAsRaw;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getThirdOperandAsInclusion;
 import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.internal.util.Cast;
 import com.speedment.manager.SqlPredicateFragment;
+import static com.speedment.util.NullUtil.requireNonNulls;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 
 /**
  *
@@ -43,6 +69,32 @@ import static java.util.stream.Collectors.joining;
  */
 public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredicateView {
     
+    /**
+     * The number of elements above which an {@code IN} predicate is 
+     * considered large. Views for databases that have a better way of 
+     * rendering large sets than one parameter per element may do so above
+     * this threshold.
+     */
+    protected static final int LARGE_IN_THRESHOLD = 64;
+    
+    /**
+     * The largest number of parameters that a large {@code IN} predicate is
+     * padded to. Large sets that are bound with one parameter per element 
+     * are padded to the next power of two, so that the statement does not
+     * change with every size of the set. This keeps the number of distinct
+     * statements low for the statement cache and the query metrics, while 
+     * staying below the parameter limits of common databases.
+     */
+    protected static final int MAX_PADDED_IN_SIZE = 1 << 14;
+    
+    /**
+     * The character used to escape wildcards in the operands of 
+     * {@code LIKE} predicates. It is rendered in an {@code ESCAPE} clause
+     * by the views, so that it is the same regardless of the default 
+     * escape character of the database.
+     */
+    protected static final char LIKE_ESCAPE = '!';
+    
     private final DatabaseNamingConvention namingConvention;
     
     protected AbstractSpeedmentPredicateView(DatabaseNamingConvention namingConvention) {
@@ -59,7 +111,166 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
 
     @Override
     public SqlPredicateFragment transform(SpeedmentPredicate<?, ?, ?> model) {
-        return render(requireNonNull(model));
+        return transformWith(model, UnaryOperator.identity());
+    }
+
+    /**
+     * Renders the provided predicate. Operands that are bound as parameters
+     * of their own are returned as they are, so that they can be converted
+     * by the caller. The elements of large {@code IN} sets, that may be 
+     * rendered in other forms, are converted using the provided function 
+     * before they are rendered.
+     * <p>
+     * The database never considers a comparison with {@code NULL} to hold,
+     * while the JVM compares {@code null} like any other value. Predicates
+     * with a {@code null} operand are therefore rendered as a check for
+     * {@code NULL}, and predicates that accept entities where the field is
+     * {@code null} also select the rows where the column is {@code NULL}.
+     * 
+     * @param model           the predicate to render
+     * @param toDatabaseType  converts an operand to the database type
+     * @return                the rendered fragment
+     */
+    public SqlPredicateFragment transformWith(SpeedmentPredicate<?, ?, ?> model, UnaryOperator<Object> toDatabaseType) {
+        requireNonNull(model);
+        requireNonNull(toDatabaseType);
+        
+        final String cn = namingConvention.fullNameOf(model.getField().getIdentifier());
+
+        final Optional<SqlPredicateFragment> nullOperand = nullOperandHelper(cn, model);
+        if (nullOperand.isPresent()) {
+            return nullOperand.get();
+        }
+
+        final SqlPredicateFragment fragment = renderWith(cn, model, toDatabaseType);
+        if (acceptsNull(model)) {
+            return or(Arrays.asList(fragment, isNull(cn)));
+        } else {
+            return fragment;
+        }
+    }
+
+    private SqlPredicateFragment renderWith(String cn, SpeedmentPredicate<?, ?, ?> model, UnaryOperator<Object> toDatabaseType) {
+        final PredicateType pt = model.getEffectivePredicateType();
+        if (pt == IN || pt == NOT_IN) {
+            final Set<?> set = getFirstOperandAsRawSet(model);
+            if (set.size() > LARGE_IN_THRESHOLD) {
+                // A null element is handled by acceptsNull(...)
+                final Set<Object> values = set.stream()
+                    .filter(Objects::nonNull)
+                    .map(toDatabaseType)
+                    .collect(toCollection(LinkedHashSet::new));
+                
+                final Optional<SqlPredicateFragment> fragment = largeInHelper(cn, values, pt == NOT_IN);
+                if (fragment.isPresent()) {
+                    return fragment.get();
+                }
+            }
+        }
+        
+        return render(model);
+    }
+
+    /**
+     * Renders the provided predicate if its operand is {@code null}. The JVM
+     * then only compares the field to {@code null}, so the predicate either
+     * holds for every entity, for none of them, or depending on whether the
+     * field is {@code null}.
+     *
+     * @param cn     the full name of the column
+     * @param model  the predicate
+     * @return       the rendered fragment, or empty if the predicate does
+     *               not have a {@code null} operand
+     */
+    private Optional<SqlPredicateFragment> nullOperandHelper(String cn, SpeedmentPredicate<?, ?, ?> model) {
+        final PredicateType type;
+        switch (model.getPredicateType()) {
+            case EQUAL:
+            case GREATER_THAN:
+            case GREATER_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_OR_EQUAL:
+            case EQUAL_IGNORE_CASE:
+                type = IS_NULL;
+                break;
+            case NOT_EQUAL:
+            case NOT_EQUAL_IGNORE_CASE:
+                type = IS_NOT_NULL;
+                break;
+            case STARTS_WITH:
+            case ENDS_WITH:
+            case CONTAINS:
+                type = ALWAYS_FALSE;
+                break;
+            case NOT_STARTS_WITH:
+            case NOT_ENDS_WITH:
+            case NOT_CONTAINS:
+                type = ALWAYS_TRUE;
+                break;
+            default:
+                return Optional.empty();
+        }
+
+        if (getFirstOperandAsRaw(model) != null) {
+            return Optional.empty();
+        }
+
+        switch (type.effectiveType(model.isNegated())) {
+            case IS_NULL:
+                return Optional.of(isNull(cn));
+            case IS_NOT_NULL:
+                return Optional.of(isNotNull(cn));
+            case ALWAYS_TRUE:
+                return Optional.of(alwaysTrue());
+            default:
+                return Optional.of(alwaysFalse());
+        }
+    }
+
+    /**
+     * Returns if the provided predicate accepts entities where the field is
+     * {@code null} in the JVM. Apart from {@code IS NULL} and the constants,
+     * the rendered SQL is never true for a {@code NULL} column, so these
+     * rows must be selected explicitly.
+     * <p>
+     * Range predicates are not evaluated on {@code null} in the JVM, but
+     * fail, so the rows are not selected for them.
+     *
+     * @param model  the predicate, with operands that are not {@code null}
+     * @return       {@code true} if rows where the column is {@code NULL}
+     *               must also be selected
+     */
+    private static boolean acceptsNull(SpeedmentPredicate<?, ?, ?> model) {
+        final boolean accepted;
+        switch (model.getPredicateType()) {
+            case ALWAYS_TRUE:
+            case ALWAYS_FALSE:
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case BETWEEN:
+            case NOT_BETWEEN:
+                return false;
+            case NOT_EQUAL:
+            case NOT_EQUAL_IGNORE_CASE:
+            case NOT_STARTS_WITH:
+            case NOT_ENDS_WITH:
+            case NOT_CONTAINS:
+                accepted = true;
+                break;
+            case IN:
+                accepted = containsNull(getFirstOperandAsRawSet(model));
+                break;
+            case NOT_IN:
+                accepted = !containsNull(getFirstOperandAsRawSet(model));
+                break;
+            default:
+                accepted = false;
+        }
+        return accepted ^ model.isNegated();
+    }
+
+    private static boolean containsNull(Set<?> set) {
+        return set.stream().anyMatch(Objects::isNull);
     }
 
     protected SqlPredicateFragment render(SpeedmentPredicate<?, ?, ?> model) {
@@ -208,8 +419,41 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
     }
 
     protected SqlPredicateFragment inHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        final Set<?> set = getFirstOperandAsRawSet(model);
-        return of("(" + cn + " IN (" + set.stream().map($ -> "?").collect(joining(",")) + "))", negated).addAll(set);
+        // A null element is never matched by IN, see acceptsNull(...)
+        final List<Object> values = getFirstOperandAsRawSet(model).stream()
+            .filter(Objects::nonNull)
+            .collect(toCollection(ArrayList::new));
+
+        if (values.isEmpty()) {
+            return negated ? isNotNull(cn) : alwaysFalse();
+        }
+        
+        // Repeating an element does not change which rows are selected
+        if (values.size() > LARGE_IN_THRESHOLD && values.size() <= MAX_PADDED_IN_SIZE) {
+            final int size = Integer.highestOneBit(values.size() - 1) << 1;
+            final Object last = values.get(values.size() - 1);
+            while (values.size() < size) {
+                values.add(last);
+            }
+        }
+
+        return of("(" + cn + " IN (" + values.stream().map($ -> "?").collect(joining(",")) + "))", negated).addAll(values);
+    }
+    
+    /**
+     * Renders an {@code IN} predicate with more than 
+     * {@link #LARGE_IN_THRESHOLD} elements, if the database has a better way
+     * of doing so than one parameter per element. The fragment must not
+     * contain any objects that need to be converted to the database type.
+     * 
+     * @param cn        the full name of the column
+     * @param values    the elements, converted to the database type
+     * @param negated   if the predicate is negated
+     * @return          the rendered fragment, or empty to bind one parameter
+     *                  per element, padded up to {@link #MAX_PADDED_IN_SIZE}
+     */
+    protected Optional<SqlPredicateFragment> largeInHelper(String cn, Set<?> values, boolean negated) {
+        return Optional.empty();
     }
 
     protected SqlPredicateFragment equalIgnoreCase(String cn, SpeedmentPredicate<?, ?, ?> model) {
@@ -252,6 +496,390 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
         return of("(" + cn + " <> '')");
     }
     
+    /**
+     * Returns the operand of a {@code LIKE} predicate with the wildcards 
+     * {@code %} and {@code _} as well as the {@link #LIKE_ESCAPE} character
+     * itself escaped, so that the operand only matches itself.
+     * 
+     * @param model  the {@code LIKE} predicate
+     * @return       the escaped operand
+     */
+    protected static Object getFirstOperandAsLike(SpeedmentPredicate<?, ?, ?> model) {
+        final Object operand = getFirstOperandAsRaw(model);
+        if (operand == null) {
+            return null;
+        }
+        
+        final String text = operand.toString();
+        final StringBuilder sb = new StringBuilder(text.length() + 4);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Returns if the SQL rendered for the provided predicate selects exactly
+     * the rows that the predicate accepts in the JVM. Predicates that are
+     * not exact are still rendered, but only narrow the rows down to a 
+     * superset that must be filtered in the JVM.
+     * <p>
+     * Databases compare strings using the collation of the column, which 
+     * may order them differently than {@link String#compareTo(String)} and
+     * fold case differently than {@link String#equalsIgnoreCase(String)}. 
+     * Range and case insensitive predicates on strings are therefore never
+     * considered exact.
+     * <p>
+     * Only rows where the column is not {@code NULL} are considered here,
+     * see {@link #isExactlyRenderable(Predicate, Predicate)}.
+     *
+     * @param model  the predicate
+     * @return       {@code true} if the rendered SQL is exact
+     */
+    public boolean isExact(SpeedmentPredicate<?, ?, ?> model) {
+        requireNonNull(model);
+        
+        switch (model.getEffectivePredicateType()) {
+            case EQUAL_IGNORE_CASE:
+            case NOT_EQUAL_IGNORE_CASE:
+                return false;
+            case GREATER_THAN:
+            case GREATER_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_OR_EQUAL:
+            case BETWEEN:
+            case NOT_BETWEEN:
+                return !isString(model);
+            default:
+                return true;
+        }
+    }
+    
+    /**
+     * Returns if the database considers two strings equal exactly when
+     * {@link String#equals(Object)} does, for an example when grouping rows 
+     * by a string column. Databases that compare strings using a collation 
+     * that ignores case or trailing spaces should return {@code false}.
+     *
+     * @return  {@code true} if strings are compared exactly
+     */
+    public boolean comparesStringsExactly() {
+        return true;
+    }
+    
+    /**
+     * Returns if the column of the provided predicate is a string in the
+     * database.
+     * 
+     * @param model  the predicate
+     * @return       {@code true} if the column is a string
+     */
+    protected static boolean isString(SpeedmentPredicate<?, ?, ?> model) {
+        return isString(model.getReferenceField());
+    }
+    
+    /**
+     * Returns if the column of the provided field is a string in the
+     * database.
+     * 
+     * @param field  the field
+     * @return       {@code true} if the column is a string
+     */
+    protected static boolean isString(ReferenceFieldTrait<?, ?, ?> field) {
+        return String.class.equals(field.typeMapper().getDatabaseType());
+    }
+    
+    /**
+     * Returns if the provided predicate tree can be rendered in its entirety
+     * by {@link #transform(Predicate, Function)} using this view, so that the
+     * resulting fragment selects exactly the rows that the predicate accepts
+     * and not only a superset of them. Every column is assumed to possibly
+     * be {@code NULL}.
+     *
+     * @param predicate  the predicate tree to inspect
+     * @return           {@code true} if every part of the tree can be rendered
+     *                   exactly
+     * @see #isExactlyRenderable(Predicate, Predicate)
+     */
+    public boolean isExactlyRenderable(Predicate<?> predicate) {
+        return isExactlyRenderable(predicate, identifier -> true);
+    }
+
+    /**
+     * Returns if the provided predicate tree can be rendered in its entirety
+     * by {@link #transform(Predicate, Function, Function)} using this view,
+     * so that the resulting fragment selects exactly the rows that the
+     * predicate accepts and not only a superset of them.
+     * <p>
+     * A comparison with a {@code NULL} column is unknown in the database,
+     * and so is its negation, while the JVM accepts the negation of a
+     * comparison with {@code null}. A negation over a column that may be
+     * {@code NULL} is therefore never considered exact, but only renders a
+     * superset of the rows.
+     *
+     * @param predicate  the predicate tree to inspect
+     * @param nullable   returns if the column of a field may be {@code NULL}
+     * @return           {@code true} if every part of the tree can be rendered
+     *                   exactly
+     * @see #isExact(SpeedmentPredicate)
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public boolean isExactlyRenderable(Predicate<?> predicate, Predicate<FieldIdentifier<?>> nullable) {
+        requireNonNulls(predicate, nullable);
+        
+        final Optional<SpeedmentPredicate> oLeaf = Cast.cast(predicate, SpeedmentPredicate.class);
+        if (oLeaf.isPresent()) {
+            final SpeedmentPredicate<?, ?, ?> leaf = oLeaf.get();
+            return isExact(leaf)
+                && !(isNegation(leaf) && nullable.test(leaf.getField().getIdentifier()));
+        }
+        
+        final Optional<AbstractCombinedBasePredicate> oCombined = Cast.cast(predicate, AbstractCombinedBasePredicate.class);
+        if (!oCombined.isPresent()) {
+            return false;
+        }
+        
+        final AbstractCombinedBasePredicate<?> combined = oCombined.get();
+        if (combined.isNegated() && leavesOf(combined).stream()
+            .anyMatch(leaf -> nullable.test(leaf.getField().getIdentifier()))) {
+            return false;
+        }
+
+        final List<Predicate<?>> members = combined.stream().collect(toList());
+        return members.stream().allMatch(member -> isExactlyRenderable(member, nullable));
+    }
+
+    /**
+     * Returns if the provided predicate is the negation of a predicate that
+     * is unknown for {@code NULL} in the database.
+     */
+    private static boolean isNegation(SpeedmentPredicate<?, ?, ?> model) {
+        switch (model.getPredicateType()) {
+            case ALWAYS_TRUE:
+            case ALWAYS_FALSE:
+            case IS_NULL:
+            case IS_NOT_NULL:
+                return false;
+            case NOT_EQUAL:
+            case NOT_BETWEEN:
+            case NOT_IN:
+            case NOT_EQUAL_IGNORE_CASE:
+            case NOT_STARTS_WITH:
+            case NOT_ENDS_WITH:
+            case NOT_CONTAINS:
+                return !model.isNegated();
+            default:
+                return model.isNegated();
+        }
+    }
+
+    /**
+     * Renders the provided predicate tree as a parenthesized SQL fragment,
+     * assuming that none of the columns can be {@code NULL}.
+     *
+     * @param predicate        the predicate tree to render
+     * @param leafTransformer  the transformer to use for each leaf
+     * @return                 the rendered fragment, or empty if the predicate
+     *                         can not be expressed in SQL
+     * @see #transform(Predicate, Function, Function)
+     */
+    public static Optional<SqlPredicateFragment> transform(
+            Predicate<?> predicate,
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer) {
+
+        return transform(predicate, leafTransformer, leaf -> Optional.empty());
+    }
+    
+    /**
+     * Renders the provided predicate tree as a parenthesized SQL fragment. The
+     * tree may consist of any combination of {@link SpeedmentPredicate}s
+     * combined using AND, OR and negation. Each {@link SpeedmentPredicate} is
+     * rendered using the provided leaf transformer.
+     * <p>
+     * Parts of the tree that can not be expressed in SQL are handled so that
+     * the resulting fragment selects a superset of the rows that the
+     * predicate accepts. Whether a node must render a superset or a subset 
+     * of its rows depends on the number of negations above it. A node that 
+     * must render a superset may drop the unknown members of an AND, and a 
+     * node that must render a subset may drop the unknown members of an OR.
+     * Any other node is only rendered if all of its members can be rendered.
+     * If no such superset can be produced, an empty {@code Optional} is 
+     * returned.
+     * <p>
+     * A member that compares a {@code NULL} column is unknown in the
+     * database, and so is the negation of it. A negated node that must
+     * render a superset therefore also selects the rows where any of the
+     * columns below it is {@code NULL}, using the provided null transformer.
+     *
+     * @param predicate        the predicate tree to render
+     * @param leafTransformer  the transformer to use for each leaf
+     * @param nullTransformer  renders a condition that holds if the column
+     *                         of a leaf is {@code NULL}, or returns empty if
+     *                         the column can not be {@code NULL}
+     * @return                 the rendered fragment, or empty if the predicate
+     *                         can not be expressed in SQL
+     */
+    public static Optional<SqlPredicateFragment> transform(
+            Predicate<?> predicate, 
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer,
+            Function<SpeedmentPredicate<?, ?, ?>, Optional<SqlPredicateFragment>> nullTransformer) {
+        
+        requireNonNulls(predicate, leafTransformer, nullTransformer);
+        return transform(predicate, leafTransformer, nullTransformer, true);
+    }
+    
+    /**
+     * Renders the provided predicate tree. If {@code superset} is 
+     * {@code true}, the fragment may select more rows than the predicate
+     * accepts, otherwise it may select fewer rows.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Optional<SqlPredicateFragment> transform(
+            Predicate<?> predicate, 
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer,
+            Function<SpeedmentPredicate<?, ?, ?>, Optional<SqlPredicateFragment>> nullTransformer,
+            boolean superset) {
+        
+        final Optional<SpeedmentPredicate> oLeaf = Cast.cast(predicate, SpeedmentPredicate.class);
+        if (oLeaf.isPresent()) {
+            return Optional.of(leafTransformer.apply(oLeaf.get()));
+        }
+        
+        final Optional<AbstractCombinedBasePredicate> oCombined = Cast.cast(predicate, AbstractCombinedBasePredicate.class);
+        if (!oCombined.isPresent()) {
+            return Optional.empty();
+        }
+        
+        final AbstractCombinedBasePredicate<?> combined = oCombined.get();
+        
+        // A negation turns a superset of the members into a subset of the 
+        // node and vice versa
+        final boolean membersSuperset = superset ^ combined.isNegated();
+        final boolean partialAllowed = membersSuperset 
+            ? combined.getType() == AND
+            : combined.getType() == OR;
+        
+        final List<SqlPredicateFragment> fragments = new ArrayList<>();
+        
+        final List<Predicate<?>> members = combined.stream().collect(toList());
+        for (final Predicate<?> member : members) {
+            final Optional<SqlPredicateFragment> fragment = transform(member, leafTransformer, nullTransformer, membersSuperset);
+            if (fragment.isPresent()) {
+                fragments.add(fragment.get());
+            } else if (!partialAllowed) {
+                return Optional.empty();
+            }
+        }
+        
+        if (fragments.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        final SqlPredicateFragment result = combined.getType() == AND 
+            ? and(fragments) 
+            : or(fragments);
+        
+        if (!combined.isNegated()) {
+            return Optional.of(result);
+        }
+
+        // An unknown negation only drops rows, which is fine for a subset
+        final List<SqlPredicateFragment> negated = new ArrayList<>();
+        negated.add(not(result));
+
+        if (superset) {
+            final Set<String> columns = new HashSet<>();
+            leavesOf(combined).stream()
+                .map(nullTransformer)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .filter(isNull -> columns.add(isNull.getSql()))
+                .forEachOrdered(negated::add);
+        }
+
+        return Optional.of(or(negated));
+    }
+
+    /**
+     * Returns the {@link SpeedmentPredicate}s in the provided predicate tree.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static List<SpeedmentPredicate<?, ?, ?>> leavesOf(Predicate<?> predicate) {
+        final Optional<SpeedmentPredicate> oLeaf = Cast.cast(predicate, SpeedmentPredicate.class);
+        if (oLeaf.isPresent()) {
+            return singletonList(oLeaf.get());
+        }
+
+        final Optional<AbstractCombinedBasePredicate> oCombined = Cast.cast(predicate, AbstractCombinedBasePredicate.class);
+        if (!oCombined.isPresent()) {
+            return emptyList();
+        }
+
+        final AbstractCombinedBasePredicate<?> combined = oCombined.get();
+        final List<Predicate<?>> members = combined.stream().collect(toList());
+        return members.stream()
+            .flatMap(member -> leavesOf(member).stream())
+            .collect(toList());
+    }
+    
+    /**
+     * Combines the provided fragments into a single fragment where all the
+     * fragments must hold. The objects of the fragments are retained in
+     * order.
+     * 
+     * @param fragments  the fragments to combine
+     * @return           the combined fragment
+     */
+    public static SqlPredicateFragment and(List<SqlPredicateFragment> fragments) {
+        return combine(fragments, " AND ");
+    }
+    
+    /**
+     * Combines the provided fragments into a single fragment where at least
+     * one of the fragments must hold. The objects of the fragments are 
+     * retained in order.
+     * 
+     * @param fragments  the fragments to combine
+     * @return           the combined fragment
+     */
+    public static SqlPredicateFragment or(List<SqlPredicateFragment> fragments) {
+        return combine(fragments, " OR ");
+    }
+    
+    /**
+     * Returns a fragment that holds if the provided fragment does not.
+     * 
+     * @param fragment  the fragment to negate
+     * @return          the negated fragment
+     */
+    public static SqlPredicateFragment not(SqlPredicateFragment fragment) {
+        requireNonNull(fragment);
+        return of("(NOT(" + fragment.getSql() + "))")
+            .addAll(fragment.objects().collect(toList()));
+    }
+    
+    private static SqlPredicateFragment combine(List<SqlPredicateFragment> fragments, String operator) {
+        requireNonNull(fragments);
+        if (fragments.size() == 1) {
+            return fragments.get(0);
+        }
+        
+        final SqlPredicateFragment result = of(fragments.stream()
+            .map(SqlPredicateFragment::getSql)
+            .collect(joining(operator, "(", ")"))
+        );
+        
+        fragments.stream()
+            .flatMap(SqlPredicateFragment::objects)
+            .forEachOrdered(result::add);
+        
+        return result;
+    }
+    
     public static SqlPredicateFragment of(String sql) {
         return SqlPredicateFragment.of(sql);
     }
@@ -17,6 +17,7 @@
 package com.speedment.internal.core.manager.sql;
 
 import com.speedment.Speedment;
+import com.speedment.component.resultset.ResultSetMapping;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.PrimaryKeyColumn;
@@ -29,6 +30,7 @@ import com.speedment.db.AsynchronousQueryResult;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.DbmsHandler;
 import com.speedment.db.MetaResult;
+import com.speedment.db.ParameterBinder;
 import com.speedment.db.SqlFunction;
 import com.speedment.db.SqlRunnable;
 import com.speedment.exception.SpeedmentException;
@@ -40,6 +42,7 @@ import com.speedment.internal.core.manager.metaresult.SqlMetaResultImpl;
 import static com.speedment.internal.core.stream.OptionalUtil.unwrap;
 import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
 import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import com.speedment.internal.util.Lazy;
 import com.speedment.internal.util.LazyString;
 import com.speedment.internal.util.document.DocumentDbUtil;
 import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
@@ -47,6 +50,7 @@ import static com.speedment.internal.util.document.DocumentDbUtil.isSame;
 import com.speedment.internal.util.document.DocumentUtil;
 import static com.speedment.internal.util.document.DocumentUtil.Name.DATABASE_NAME;
 import static com.speedment.internal.util.document.DocumentUtil.ancestor;
+import com.speedment.manager.SqlPredicateFragment;
 import com.speedment.stream.StreamDecorator;
 import static com.speedment.util.NullUtil.requireNonNulls;
 import java.sql.Array;
@@ -71,6 +75,7 @@ import java.util.stream.BaseStream;
 import java.util.stream.Collectors;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import java.util.stream.Stream;
 
 /**
@@ -84,8 +89,10 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
     private final LazyString sqlColumnList;
     private final LazyString sqlTableReference;
     private final LazyString sqlSelect;
+    private final Lazy<Map<String, ParameterBinder<Object>>> parameterBinders;
     private final Map<String, FieldTrait> fieldTraitMap;
     private final boolean hasPrimaryKeyColumns;
+    private final QueryShapeCache queryShapeCache;
 
     private SqlFunction<ResultSet, ENTITY> entityMapper;
 
@@ -94,6 +101,7 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         this.sqlColumnList = LazyString.create();
         this.sqlTableReference = LazyString.create();
         this.sqlSelect = LazyString.create();
+        this.parameterBinders = Lazy.create();
 
         final Table thisTable = getTable();
 
@@ -110,11 +118,13 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .collect(Collectors.toMap(f -> f.getIdentifier().columnName(), identity()));
 
         this.hasPrimaryKeyColumns = primaryKeyFields().findAny().isPresent();
+        this.queryShapeCache = new QueryShapeCache();
     }
 
     @Override
     public Stream<ENTITY> nativeStream(StreamDecorator decorator) {
-        final AsynchronousQueryResult<ENTITY> asynchronousQueryResult = decorator.apply(dbmsHandler().executeQueryAsync(sqlSelect(), Collections.emptyList(), entityMapper.unWrap()));
+        final AsynchronousQueryResult<ENTITY> asynchronousQueryResult = decorator.applyOnQuery(decorator.apply(dbmsHandler().executeQueryAsync(sqlSelect(), Collections.emptyList(), entityMapper.unWrap())));
+        speedment.getQueryMetricsComponent().newRecorder(sqlTableReference()).ifPresent(asynchronousQueryResult::setQueryRecorder);
         final SqlStreamTerminator<ENTITY> terminator = new SqlStreamTerminator<>(this, asynchronousQueryResult, decorator);
         final Supplier<BaseStream<?, ?>> initialSupplier = () -> decorator.applyOnInitial(asynchronousQueryResult.stream());
         final Stream<ENTITY> result = decorator.applyOnFinal(new ReferenceStreamBuilder<>(new PipelineImpl<>(initialSupplier), terminator));
@@ -144,6 +154,22 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         ).findAny().get();
     }
 
+    /**
+     * Counts the number of elements in the current table that match the 
+     * provided SQL condition by querying the database.
+     *
+     * @param where  the condition that counted rows must match
+     * @return the number of matching elements in the table
+     */
+    public long count(SqlPredicateFragment where) {
+        requireNonNull(where);
+        return synchronousStreamOf(
+            "SELECT COUNT(*) FROM " + sqlTableReference() + " WHERE " + where.getSql(),
+            where.objects().collect(toList()),
+            rs -> rs.getLong(1)
+        ).findAny().get();
+    }
+
     /**
      * Returns a {@code SELECT/FROM} SQL statement with the full column list and
      * the current table specified in accordance to the current
@@ -231,6 +257,15 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return speedment.getDbmsHandlerComponent().get(getDbms());
     }
 
+    /**
+     * Returns the cache of rendered conditions for this table.
+     *
+     * @return the query shape cache
+     */
+    final QueryShapeCache getQueryShapeCache() {
+        return queryShapeCache;
+    }
+
     /**
      * Short-cut for retrieving the current {@link DatabaseNamingConvention}.
      *
@@ -298,6 +333,28 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return dbValue;
     }
 
+    /**
+     * Returns the binder to use for values of the column with the given name.
+     * The binders of all columns are resolved once, the first time this
+     * method is called.
+     *
+     * @param columnName  the column name
+     * @return            the binder for the column
+     */
+    private ParameterBinder<Object> parameterBinder(String columnName) {
+        return parameterBinders.getOrCompute(() -> getTable().columns()
+            .collect(toMap(Column::getName, this::parameterBinderOf))
+        ).getOrDefault(columnName, ParameterBinder.of(Object.class));
+    }
+
+    private ParameterBinder<Object> parameterBinderOf(Column column) {
+        final Class<?> databaseType = column.findDatabaseType();
+        return speedment.getResultSetMapperComponent()
+            .findMapping(databaseType)
+            .map(ResultSetMapping::getParameterBinder)
+            .orElseGet(() -> ParameterBinder.of(databaseType));
+    }
+
     private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY persistHelp(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
         final List<Column> cols = persistColumns(entity);
         final StringBuilder sb = new StringBuilder();
@@ -307,14 +364,21 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         sb.append("(").append(persistColumnListWithQuestionMarks(cols)).append(")");
 
         @SuppressWarnings("unchecked")
-        final List<Object> values = cols.stream()
+        final List<F> persistedFields = cols.stream()
             .map(Column::getName)
             .map(fieldTraitMap::get)
             .filter(ReferenceFieldTrait.class::isInstance)
-            .map(f -> (FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>) f)
+            .map(f -> (F) f)
+            .collect(toList());
+
+        final List<Object> values = persistedFields.stream()
             .map(f -> toDatabaseType(f, entity))
             .collect(toList());
 
+        final List<ParameterBinder<Object>> binders = persistedFields.stream()
+            .map(f -> parameterBinder(f.getIdentifier().columnName()))
+            .collect(toList());
+
         // TODO: Make autoinc part of FieldTrait
         @SuppressWarnings("unchecked")
         final List<F> generatedFields = fields()
@@ -345,7 +409,7 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             };
         };
 
-        executeInsert(entity, sb.toString(), values, generatedFields, generatedKeyconsumer, listener);
+        executeInsert(entity, sb.toString(), values, binders, generatedFields, generatedKeyconsumer, listener);
         return entity;
     }
 
@@ -365,7 +429,12 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .map(ReferenceFieldTrait::getIdentifier)
             .forEachOrdered(f -> values.add(get(entity, f)));
 
-        executeUpdate(sb.toString(), values, listener);
+        final List<ParameterBinder<Object>> binders = Stream.concat(fields(), primaryKeyFields())
+            .filter(ReferenceFieldTrait.class::isInstance)
+            .map(f -> parameterBinder(f.getIdentifier().columnName()))
+            .collect(toList());
+
+        executeUpdate(sb.toString(), values, binders, listener);
         return entity;
     }
 
@@ -380,7 +449,11 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .map(f -> toDatabaseType(f, entity))
             .collect(toList());
 
-        executeDelete(sb.toString(), values, listener);
+        final List<ParameterBinder<Object>> binders = castedFieldsOf(this::primaryKeyFields)
+            .map(f -> parameterBinder(f.getIdentifier().columnName()))
+            .collect(toList());
+
+        executeDelete(sb.toString(), values, binders, listener);
         return entity;
     }
 
@@ -448,13 +521,14 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         final ENTITY entity,
         final String sql,
         final List<Object> values,
+        final List<ParameterBinder<Object>> binders,
         final List<F> generatedFields,
         final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer,
         final Optional<Consumer<MetaResult<ENTITY>>> listener
     ) throws SpeedmentException {
         executeHelper(sql, values, listener,
             () -> dbmsHandler().executeInsert(
-                sql, values, generatedFields, generatedKeyconsumer.apply(entity)
+                sql, values, binders, generatedFields, generatedKeyconsumer.apply(entity)
             )
         );
     }
@@ -462,17 +536,19 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
     private void executeUpdate(
         final String sql,
         final List<Object> values,
+        final List<ParameterBinder<Object>> binders,
         final Optional<Consumer<MetaResult<ENTITY>>> listener
     ) throws SpeedmentException {
-        executeHelper(sql, values, listener, () -> dbmsHandler().executeUpdate(sql, values));
+        executeHelper(sql, values, listener, () -> dbmsHandler().executeUpdate(sql, values, binders));
     }
 
     private void executeDelete(
         final String sql,
         final List<Object> values,
+        final List<ParameterBinder<Object>> binders,
         final Optional<Consumer<MetaResult<ENTITY>>> listener
     ) throws SpeedmentException {
-        executeHelper(sql, values, listener, () -> dbmsHandler().executeDelete(sql, values));
+        executeHelper(sql, values, listener, () -> dbmsHandler().executeDelete(sql, values, binders));
     }
 
     private void executeHelper(
@@ -21,6 +21,10 @@ import com.speedment.field.predicate.SpeedmentPredicate;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.*;
 import com.speedment.manager.SpeedmentPredicateView;
 import com.speedment.manager.SqlPredicateFragment;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.Set;
+import static java.util.stream.Collectors.joining;
 
 /**
  *
@@ -32,6 +36,65 @@ public final class MySqlSpeedmentPredicateView extends AbstractSpeedmentPredicat
     public MySqlSpeedmentPredicateView(DatabaseNamingConvention namingConvention) {
         super(namingConvention);
     }
+    
+    // MySQL can not bind arrays, so large sets are bound with one padded
+    // parameter per element. Sets too large to be padded are rendered as
+    // literals if they only hold integers, to avoid the limit on the number
+    // of parameters in a prepared statement. Integer literals can not be 
+    // used for injection, other types are still bound as parameters.
+    @Override
+    protected Optional<SqlPredicateFragment> largeInHelper(String cn, Set<?> values, boolean negated) {
+        if (values.size() > MAX_PADDED_IN_SIZE 
+        &&  values.stream().allMatch(MySqlSpeedmentPredicateView::isIntegerLiteral)) {
+            return Optional.of(of("(" + cn + " IN (" + values.stream()
+                .map(String::valueOf)
+                .collect(joining(",")) + "))", negated
+            ));
+        }
+        return Optional.empty();
+    }
+    
+    // The default collations of MySQL ignore case and trailing spaces, so
+    // strings are only compared exactly by the binary LIKE predicates
+    @Override
+    public boolean isExact(SpeedmentPredicate<?, ?, ?> model) {
+        if (!super.isExact(model)) {
+            return false;
+        }
+        
+        if (!isString(model)) {
+            return true;
+        }
+        
+        switch (model.getEffectivePredicateType()) {
+            case ALWAYS_TRUE:
+            case ALWAYS_FALSE:
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case STARTS_WITH:
+            case NOT_STARTS_WITH:
+            case ENDS_WITH:
+            case NOT_ENDS_WITH:
+            case CONTAINS:
+            case NOT_CONTAINS:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public boolean comparesStringsExactly() {
+        return false;
+    }
+    
+    private static boolean isIntegerLiteral(Object value) {
+        return value instanceof Byte
+            || value instanceof Short
+            || value instanceof Integer
+            || value instanceof Long
+            || value instanceof BigInteger;
+    }
 
     @Override
     protected SqlPredicateFragment equalIgnoreCaseHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
@@ -40,17 +103,17 @@ public final class MySqlSpeedmentPredicateView extends AbstractSpeedmentPredicat
 
     @Override
     protected SqlPredicateFragment startsWithHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE BINARY CONCAT(? ,'%'))", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE BINARY CONCAT(? ,'%') ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 
     @Override
     protected SqlPredicateFragment endsWithHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE BINARY CONCAT('%', ?))", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE BINARY CONCAT('%', ?) ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 
     @Override
     protected SqlPredicateFragment containsHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE BINARY CONCAT('%', ? ,'%'))", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE BINARY CONCAT('%', ? ,'%') ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 
 }
@@ -22,6 +22,17 @@ import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirst
 import static com.speedment.internal.core.manager.sql.AbstractSpeedmentPredicateView.of;
 import com.speedment.manager.SpeedmentPredicateView;
 import com.speedment.manager.SqlPredicateFragment;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Created by fdirlikl on 11/18/2015.
@@ -30,10 +41,49 @@ import com.speedment.manager.SqlPredicateFragment;
  */
 public class PostgresSpeedmentPredicateView extends AbstractSpeedmentPredicateView implements SpeedmentPredicateView {
 
+    private static final Map<Class<?>, String> ARRAY_TYPE_NAMES = new HashMap<>();
+    
+    static {
+        ARRAY_TYPE_NAMES.put(Short.class, "int2");
+        ARRAY_TYPE_NAMES.put(Integer.class, "int4");
+        ARRAY_TYPE_NAMES.put(Long.class, "int8");
+        ARRAY_TYPE_NAMES.put(Float.class, "float4");
+        ARRAY_TYPE_NAMES.put(Double.class, "float8");
+        ARRAY_TYPE_NAMES.put(BigDecimal.class, "numeric");
+        ARRAY_TYPE_NAMES.put(Boolean.class, "bool");
+        ARRAY_TYPE_NAMES.put(String.class, "varchar");
+        ARRAY_TYPE_NAMES.put(Date.class, "date");
+        ARRAY_TYPE_NAMES.put(Time.class, "time");
+        ARRAY_TYPE_NAMES.put(Timestamp.class, "timestamp");
+    }
+    
     public PostgresSpeedmentPredicateView(DatabaseNamingConvention namingConvention) {
         super(namingConvention);
     }
     
+    // Large sets are bound as a single array so that the statement (and the 
+    // number of parameters) does not grow with the number of elements
+    @Override
+    protected Optional<SqlPredicateFragment> largeInHelper(String cn, Set<?> values, boolean negated) {
+        return arrayTypeName(values).map(typeName -> 
+            of("(" + cn + " = ANY(?))", negated).add(new SqlArrayParameter(typeName, values))
+        );
+    }
+    
+    private static Optional<String> arrayTypeName(Set<?> set) {
+        final List<Class<?>> classes = set.stream()
+            .filter(Objects::nonNull)
+            .map(Object::getClass)
+            .distinct()
+            .collect(toList());
+        
+        if (classes.size() == 1) {
+            return Optional.ofNullable(ARRAY_TYPE_NAMES.get(classes.get(0)));
+        } else {
+            return Optional.empty();
+        }
+    }
+    
     // Info from:
     // http://stackoverflow.com/questions/23320945/postgresql-select-if-string-contains
     
@@ -44,16 +94,16 @@ public class PostgresSpeedmentPredicateView extends AbstractSpeedmentPredicateVi
 
     @Override
     protected SqlPredicateFragment startsWithHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE ? || '%')", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE ? || '%' ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 
     @Override
     protected SqlPredicateFragment endsWithHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE '%' || ?)", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE '%' || ? ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 
     @Override
     protected SqlPredicateFragment containsHelper(String cn, SpeedmentPredicate<?, ?, ?> model, boolean negated) {
-        return of("(" + cn + " LIKE '%' || ? || '%')", negated).add(getFirstOperandAsRaw(model));
+        return of("(" + cn + " LIKE '%' || ? || '%' ESCAPE '" + LIKE_ESCAPE + "')", negated).add(getFirstOperandAsLike(model));
     }
 }
\ No newline at end of file
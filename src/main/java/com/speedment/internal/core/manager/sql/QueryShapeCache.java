@@ -0,0 +1,311 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.predicate.PredicateType;
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRaw;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRawSet;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getSecondOperandAsRaw;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getThirdOperandAsInclusion;
+import static com.speedment.internal.core.manager.sql.AbstractSpeedmentPredicateView.LARGE_IN_THRESHOLD;
+import com.speedment.internal.util.Cast;
+import static com.speedment.internal.util.LruMaps.newSynchronizedLruMap;
+import com.speedment.manager.SqlPredicateFragment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cache of rendered {@code WHERE} conditions for a single table, keyed by the
+ * shape of the predicates. The shape consists of the structure of the
+ * predicates, their types and the columns they refer to, but not their
+ * operands. When a shape is seen again, the cached SQL is reused and only the
+ * operands of the new predicates are collected and converted to the database
+ * type using the type mappers that were resolved when the shape was first
+ * rendered.
+ * <p>
+ * A shape is only cached if the operands collected by this class are exactly
+ * the ones bound by the predicate view. Views that render operands as
+ * literals or in any other form, and predicates with {@code null} operands,
+ * are therefore rendered every time. At most
+ * {@link #MAX_SHAPES} shapes are cached, and the least recently used shape
+ * is forgotten when a new shape is seen.
+ *
+ * @author pemi
+ */
+final class QueryShapeCache {
+
+    static final int MAX_SHAPES = 1024;
+    private static final Object UNRENDERABLE = new Object();
+
+    private final Map<List<Object>, Entry> entries;
+
+    QueryShapeCache() {
+        this.entries = newSynchronizedLruMap(MAX_SHAPES);
+    }
+
+    /**
+     * Returns a condition for the given predicates, using a cached rendering
+     * if the same shape has been rendered before.
+     *
+     * @param predicates    the predicates that all must hold
+     * @param typeMapperOf  returns the type mapper that converts the operands
+     *                      of a predicate to the database type
+     * @param renderer      the renderer to use if the shape is not cached
+     * @return              the condition, if any
+     */
+    Optional<SqlPredicateFragment> where(
+            List<? extends Predicate<?>> predicates, 
+            Function<SpeedmentPredicate<?, ?, ?>, TypeMapper<Object, Object>> typeMapperOf,
+            Supplier<Optional<SqlPredicateFragment>> renderer) {
+        
+        requireNonNull(predicates);
+        requireNonNull(typeMapperOf);
+        requireNonNull(renderer);
+
+        final Optional<List<Object>> shape = shapeOf(predicates);
+        if (!shape.isPresent()) {
+            return renderer.get();
+        }
+
+        final Entry cached = entries.get(shape.get());
+        if (cached != null) {
+            if (cached.isCacheable()) {
+                return cached.bind(predicates);
+            } else {
+                return renderer.get();
+            }
+        }
+
+        final Optional<SqlPredicateFragment> rendered = renderer.get();
+        entries.putIfAbsent(shape.get(), Entry.of(predicates, rendered, typeMapperOf));
+        return rendered;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the shape of the given predicates. If any of the predicates has
+     * a shape that can not be described, an empty {@code Optional} is
+     * returned.
+     *
+     * @param predicates  the predicates
+     * @return            the shape, if any
+     */
+    static Optional<List<Object>> shapeOf(List<? extends Predicate<?>> predicates) {
+        final List<Object> shape = new ArrayList<>();
+        for (final Predicate<?> predicate : predicates) {
+            if (!addShape(predicate, shape)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(shape);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static boolean addShape(Predicate<?> predicate, List<Object> shape) {
+        final Optional<SpeedmentPredicate> oLeaf = Cast.cast(predicate, SpeedmentPredicate.class);
+        if (oLeaf.isPresent()) {
+            final SpeedmentPredicate<?, ?, ?> leaf = oLeaf.get();
+            final PredicateType type = leaf.getEffectivePredicateType();
+
+            // Null operands are not bound, but rendered as checks for NULL
+            if (leafOperands(leaf).stream().anyMatch(Objects::isNull)) {
+                return false;
+            }
+
+            shape.add(leaf.getField().getIdentifier().columnName());
+            shape.add(type);
+            switch (type) {
+                case BETWEEN:
+                case NOT_BETWEEN:
+                    shape.add(getThirdOperandAsInclusion(leaf));
+                    return true;
+                case IN:
+                case NOT_IN:
+                    // Large sets may be rendered differently depending on
+                    // their content
+                    final int size = getFirstOperandAsRawSet(leaf).size();
+                    shape.add(size);
+                    return size <= LARGE_IN_THRESHOLD;
+                default:
+                    return true;
+            }
+        }
+
+        final Optional<AbstractCombinedBasePredicate> oCombined = Cast.cast(predicate, AbstractCombinedBasePredicate.class);
+        if (oCombined.isPresent()) {
+            final AbstractCombinedBasePredicate<?> combined = oCombined.get();
+            final List<Predicate<?>> members = combined.stream().collect(toList());
+            shape.add(combined.getType());
+            shape.add(combined.isNegated());
+            shape.add(members.size());
+            for (final Predicate<?> member : members) {
+                if (!addShape(member, shape)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        shape.add(UNRENDERABLE);
+        return true;
+    }
+
+    /**
+     * Returns the operands of the given predicates in the order they are 
+     * bound when the predicates are rendered. The predicate trees are
+     * traversed by {@link AbstractSpeedmentPredicateView#transform(Predicate, Function)},
+     * so exactly the operands of the rendered parts are returned.
+     *
+     * @param predicates  the predicates
+     * @return            the operands
+     */
+    static List<Object> operandsOf(List<? extends Predicate<?>> predicates) {
+        return collect(predicates, (leaf, operand) -> operand);
+    }
+
+    /**
+     * Applies the mapper to each operand of the rendered parts of the given
+     * predicates, in the order the operands are bound.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> collect(
+            List<? extends Predicate<?>> predicates, 
+            BiFunction<SpeedmentPredicate<?, ?, ?>, Object, T> mapper) {
+        
+        return predicates.stream()
+            .map(p -> AbstractSpeedmentPredicateView.transform(p, leaf -> 
+                SqlPredicateFragment.of("").addAll(leafOperands(leaf).stream()
+                    .map(operand -> mapper.apply(leaf, operand))
+                    .collect(toList())
+                )
+            ))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .flatMap(SqlPredicateFragment::objects)
+            .map(o -> (T) o)
+            .collect(toList());
+    }
+
+    /**
+     * Returns the operands of the given leaf in the order they are bound by
+     * the predicate view.
+     */
+    private static List<Object> leafOperands(SpeedmentPredicate<?, ?, ?> leaf) {
+        switch (leaf.getEffectivePredicateType()) {
+            case ALWAYS_TRUE:
+            case ALWAYS_FALSE:
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case IS_EMPTY:
+            case IS_NOT_EMPTY:
+                return emptyList();
+            case BETWEEN:
+            case NOT_BETWEEN:
+                return Arrays.asList(getFirstOperandAsRaw(leaf), getSecondOperandAsRaw(leaf));
+            case IN:
+            case NOT_IN:
+                return new ArrayList<>(getFirstOperandAsRawSet(leaf));
+            case STARTS_WITH:
+            case NOT_STARTS_WITH:
+            case ENDS_WITH:
+            case NOT_ENDS_WITH:
+            case CONTAINS:
+            case NOT_CONTAINS:
+                return singletonList(AbstractSpeedmentPredicateView.getFirstOperandAsLike(leaf));
+            default:
+                return singletonList(getFirstOperandAsRaw(leaf));
+        }
+    }
+
+    private static final class Entry {
+
+        private static final Entry NOT_CACHEABLE = new Entry(null, null);
+
+        private final Optional<String> sql;
+        private final List<TypeMapper<Object, Object>> converters;
+
+        private Entry(Optional<String> sql, List<TypeMapper<Object, Object>> converters) {
+            this.sql = sql;
+            this.converters = converters;
+        }
+
+        boolean isCacheable() {
+            return this != NOT_CACHEABLE;
+        }
+
+        Optional<SqlPredicateFragment> bind(List<? extends Predicate<?>> predicates) {
+            if (!sql.isPresent()) {
+                return Optional.empty();
+            }
+
+            final List<Object> values = operandsOf(predicates);
+            final List<Object> converted = new ArrayList<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                converted.add(converters.get(i).toDatabaseType(values.get(i)));
+            }
+            return Optional.of(SqlPredicateFragment.of(sql.get(), converted));
+        }
+
+        static Entry of(
+                List<? extends Predicate<?>> predicates, 
+                Optional<SqlPredicateFragment> rendered, 
+                Function<SpeedmentPredicate<?, ?, ?>, TypeMapper<Object, Object>> typeMapperOf) {
+            
+            if (!rendered.isPresent()) {
+                // Whether anything can be rendered only depends on the shape
+                return new Entry(Optional.empty(), emptyList());
+            }
+
+            final List<Object> expected = rendered.get().objects().collect(toList());
+
+            final List<TypeMapper<Object, Object>> converters 
+                = collect(predicates, (leaf, operand) -> typeMapperOf.apply(leaf));
+            
+            final List<Object> values = operandsOf(predicates);
+            if (values.size() != converters.size() || values.size() != expected.size()) {
+                return NOT_CACHEABLE;
+            }
+
+            for (int i = 0; i < values.size(); i++) {
+                final Object converted = converters.get(i).toDatabaseType(values.get(i));
+                if (!Objects.equals(converted, expected.get(i))) {
+                    return NOT_CACHEABLE;
+                }
+            }
+
+            return new Entry(Optional.of(rendered.get().getSql()), new ArrayList<>(converters));
+        }
+    }
+}
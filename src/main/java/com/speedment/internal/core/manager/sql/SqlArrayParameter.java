@@ -0,0 +1,76 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.internal.core.db.ParameterBinders;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A parameter value that is bound as a single SQL array instead of as one
+ * parameter per element. This is used to render large {@code IN} predicates
+ * as {@code = ANY(?)} on databases that support it.
+ *
+ * @author pemi
+ */
+public final class SqlArrayParameter {
+
+    private final String typeName;
+    private final Object[] elements;
+
+    public SqlArrayParameter(String typeName, Collection<?> elements) {
+        this.typeName = requireNonNull(typeName);
+        this.elements = elements.toArray();
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public String toString() {
+        return typeName + "[" + elements.length + "]";
+    }
+
+    /**
+     * Sets the parameter with the specified index of the provided statement
+     * to the provided value. If the value is a {@code SqlArrayParameter}, it
+     * is bound as an array created by the provided connection. Other values
+     * are bound using the {@link ParameterBinders binder} for their class.
+     *
+     * @param connection  the connection that prepared the statement
+     * @param ps          the statement
+     * @param index       the parameter index, starting at 1
+     * @param value       the value to set
+     * @throws SQLException  if the value could not be set
+     */
+    public static void setParameter(Connection connection, PreparedStatement ps, int index, Object value) throws SQLException {
+        if (value instanceof SqlArrayParameter) {
+            final SqlArrayParameter array = (SqlArrayParameter) value;
+            ps.setArray(index, connection.createArrayOf(array.typeName, array.elements));
+        } else {
+            ParameterBinders.forValue(value).bind(ps, index, value);
+        }
+    }
+}
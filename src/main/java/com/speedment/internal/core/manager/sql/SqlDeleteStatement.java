@@ -16,6 +16,7 @@
  */
 package com.speedment.internal.core.manager.sql;
 
+import com.speedment.db.ParameterBinder;
 import java.util.List;
 
 /**
@@ -28,6 +29,10 @@ public final class SqlDeleteStatement extends SqlStatement {
         super(sql, values);
     }
 
+    public SqlDeleteStatement(final String sql, final List<?> values, final List<ParameterBinder<Object>> binders) {
+        super(sql, values, binders);
+    }
+
     @Override
     public Type getType() {
         return Type.DELETE;
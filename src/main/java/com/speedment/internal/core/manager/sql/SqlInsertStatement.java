@@ -16,6 +16,7 @@
  */
 package com.speedment.internal.core.manager.sql;
 
+import com.speedment.db.ParameterBinder;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import java.util.ArrayList;
@@ -46,6 +47,19 @@ public final class SqlInsertStatement extends SqlStatement {
         this.generatedColumnFields = requireNonNull(generatedColumnFields);
     }
 
+    public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> SqlInsertStatement(
+        final String sql,
+        final List<?> values,
+        final List<ParameterBinder<Object>> binders,
+        final List<F> generatedColumnFields,
+        final Consumer<List<Long>> generatedKeysConsumer
+    ) {
+        super(sql, values, binders);
+        this.generatedKeys = new ArrayList<>();
+        this.generatedKeysConsumer = requireNonNull(generatedKeysConsumer);
+        this.generatedColumnFields = requireNonNull(generatedColumnFields);
+    }
+
     @SuppressWarnings("unchecked")
     public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> List<F> getGeneratedColumnFields() {
         return (List<F>) generatedColumnFields;
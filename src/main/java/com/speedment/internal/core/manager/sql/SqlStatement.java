@@ -16,9 +16,14 @@
  */
 package com.speedment.internal.core.manager.sql;
 
+import com.speedment.db.ParameterBinder;
+import com.speedment.internal.core.db.ParameterBinders;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import static java.util.stream.Collectors.toList;
 
 /**
  *
@@ -28,6 +33,7 @@ public abstract class SqlStatement {
 
     private final String sql;
     private final List<?> values;
+    private final List<ParameterBinder<Object>> binders;
 
     public enum Type {
         INSERT, UPDATE, DELETE;
@@ -36,6 +42,21 @@ public abstract class SqlStatement {
     public SqlStatement(final String sql, final List<?> values) {
         this.sql = Objects.requireNonNull(sql);
         this.values = new ArrayList<>(Objects.requireNonNull(values));
+        this.binders = this.values.stream()
+            .map(ParameterBinders::forValue)
+            .collect(toList());
+    }
+
+    public SqlStatement(final String sql, final List<?> values, final List<ParameterBinder<Object>> binders) {
+        this.sql = Objects.requireNonNull(sql);
+        this.values = new ArrayList<>(Objects.requireNonNull(values));
+        this.binders = new ArrayList<>(Objects.requireNonNull(binders));
+        if (this.values.size() != this.binders.size()) {
+            throw new IllegalArgumentException(
+                "Expected one binder per value, got " + this.binders.size()
+                + " binders for " + this.values.size() + " values."
+            );
+        }
     }
 
     public String getSql() {
@@ -46,6 +67,19 @@ public abstract class SqlStatement {
         return values;
     }
 
+    /**
+     * Sets the parameters of the given statement to the values of this
+     * statement, using the binder of each value.
+     *
+     * @param ps  the prepared statement
+     * @throws SQLException if a parameter could not be set
+     */
+    public void bind(PreparedStatement ps) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            binders.get(i).bind(ps, i + 1, values.get(i));
+        }
+    }
+
     @Override
     public String toString() {
         return getSql() + ", " + values.toString();
@@ -18,29 +18,70 @@ package com.speedment.internal.core.manager.sql;
 
 import com.speedment.config.db.Column;
 import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.bigdecimal.BigDecimalToDouble;
+import com.speedment.config.db.mapper.identity.AbstractIdentityMapper;
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
 import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.db.SqlFunction;
 import com.speedment.field.FieldIdentifier;
 import com.speedment.field.predicate.SpeedmentPredicate;
 import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.comparator.impl.CombinedComparator;
+import com.speedment.internal.comparator.impl.NullOrder;
+import com.speedment.internal.comparator.impl.SpeedmentComparatorImpl;
+import com.speedment.internal.core.db.KeysetPaging;
+import com.speedment.internal.core.db.RangePartitioning;
+import com.speedment.internal.core.field.FieldNumberGetter;
+import com.speedment.internal.core.stream.builder.action.reference.LimitAction;
+import com.speedment.internal.core.stream.builder.action.reference.PeekAction;
+import com.speedment.internal.core.stream.builder.action.reference.SkipAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.internal.core.stream.builder.action.trait.HasMapper;
+import com.speedment.internal.core.stream.collector.AggregateCollector;
+import com.speedment.internal.core.stream.collector.AggregateCollector.Kind;
+import com.speedment.internal.core.stream.collector.GroupingCollector;
 import com.speedment.internal.core.stream.builder.pipeline.DoublePipeline;
 import com.speedment.internal.core.stream.builder.pipeline.IntPipeline;
 import com.speedment.internal.core.stream.builder.pipeline.LongPipeline;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineRewriter;
 import com.speedment.internal.core.stream.builder.pipeline.ReferencePipeline;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminator;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.internal.util.Cast;
 import com.speedment.manager.SpeedmentPredicateView;
 import com.speedment.manager.SqlPredicateFragment;
 import com.speedment.stream.Pipeline;
 import com.speedment.stream.StreamDecorator;
+import com.speedment.stream.StreamingMode;
 import com.speedment.stream.action.Action;
+import static com.speedment.stream.action.Property.ORDER;
 import static com.speedment.stream.action.Property.SIZE;
 import static com.speedment.stream.action.Verb.PRESERVE;
+import static com.speedment.util.NullUtil.requireNonNullElements;
 import static com.speedment.util.NullUtil.requireNonNulls;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
+import static java.util.Collections.singletonList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
@@ -51,6 +92,10 @@ import static java.util.stream.Collectors.toList;
  */
 public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
     
+    // More partitions than threads evens out the load if the keys are not
+    // uniformly distributed
+    private static final int PARTITIONS_PER_THREAD = 4;
+    
     private final AbstractSqlManager<ENTITY> manager;
     private final AsynchronousQueryResult<ENTITY> asynchronousQueryResult;
     private final StreamDecorator decorator;
@@ -69,55 +114,564 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
     @Override
     public <P extends Pipeline> P optimize(P initialPipeline) {
         requireNonNull(initialPipeline);
-        final List<SpeedmentPredicate<ENTITY, ?, ?>> andPredicateBuilders = StreamTerminatorUtil.topLevelAndPredicates(initialPipeline);
+        PipelineRewriter.rewrite(initialPipeline);
+        
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(initialPipeline);
+        final boolean exactWhere = predicates.stream().allMatch(this::isExactlyRenderable);
+        final Optional<SqlPredicateFragment> where = where(predicates);
+        
+        // Keyset pages are ordered by the primary key, so only the filters
+        // can be rendered as SQL
+        final Optional<KeysetPaging> paging = keysetPaging(where.isPresent());
+        if (paging.isPresent()) {
+            if (where.isPresent()) {
+                asynchronousQueryResult.setSql(manager.sqlSelect() + " WHERE " + where.get().getSql());
+                asynchronousQueryResult.setValues(where.get().objects().collect(toList()));
+            }
+            asynchronousQueryResult.setKeysetPaging(paging.get());
+            return getStreamDecorator().apply(recordEmitted(initialPipeline));
+        }
+        
+        // Partitions are read in no particular order, so only the filters
+        // can be rendered as SQL
+        final Optional<RangePartitioning> partitioning = rangePartitioning(initialPipeline, where);
+        if (partitioning.isPresent()) {
+            if (where.isPresent()) {
+                asynchronousQueryResult.setSql(manager.sqlSelect() + " WHERE " + where.get().getSql());
+                asynchronousQueryResult.setValues(where.get().objects().collect(toList()));
+            }
+            asynchronousQueryResult.setRangePartitioning(partitioning.get());
+            return getStreamDecorator().apply(recordEmitted(initialPipeline));
+        }
+        
+        final Optional<String> orderBy = pushDownSorted(initialPipeline, predicates.size());
         
-        if (!andPredicateBuilders.isEmpty()) {
-            modifySource(andPredicateBuilders, asynchronousQueryResult);
+        final List<Object> values = new ArrayList<>();
+        String clauses = "";
+        
+        if (where.isPresent()) {
+            clauses += " WHERE " + where.get().getSql();
+            where.get().objects().forEachOrdered(values::add);
         }
         
-        return getStreamDecorator().apply(initialPipeline);
+        if (orderBy.isPresent()) {
+            clauses += " ORDER BY " + orderBy.get();
+        }
+        
+        // Skip and limit may only be applied by the database if it returns 
+        // exactly the rows that would otherwise have reached them
+        if (exactWhere) {
+            clauses = pushDownSkipLimit(initialPipeline, predicates.size(), clauses, values);
+        }
+        
+        // If the entities are only used to read a single field, only that
+        // column is selected. The filters are then enforced by the database
+        // alone since they can not be evaluated on partial entities, so this
+        // requires every filter to be rendered exactly.
+        final Optional<ReferenceFieldTrait<ENTITY, ?, ?>> projected = exactWhere 
+            ? projectedField(initialPipeline, predicates.size()) 
+            : Optional.empty();
+        
+        if (projected.isPresent()) {
+            for (int i = 0; i < predicates.size(); i++) {
+                initialPipeline.removeFirst();
+            }
+            
+            asynchronousQueryResult.setSql(
+                "SELECT " + manager.naming().fullNameOf(projected.get().getIdentifier()) + 
+                " FROM " + manager.sqlTableReference() + clauses
+            );
+            asynchronousQueryResult.setValues(values);
+            asynchronousQueryResult.setRsMapper(partialEntityMapper(projected.get()).unWrap());
+        } else if (!clauses.isEmpty()) {
+            asynchronousQueryResult.setSql(manager.sqlSelect() + clauses);
+            asynchronousQueryResult.setValues(values);
+        }
+        
+        return getStreamDecorator().apply(recordEmitted(initialPipeline));
     }
     
-    public void modifySource(final List<SpeedmentPredicate<ENTITY, ?, ?>> predicateBuilders, AsynchronousQueryResult<ENTITY> qr) {
-        requireNonNull(predicateBuilders);
+    /**
+     * Reports every entity that passes the filters that are applied in the 
+     * JVM to the recorder of the query, if the query is recorded. The number
+     * of emitted entities can then be compared to the number of rows read to
+     * reveal filters that could not be rendered as SQL.
+     * 
+     * @param <P>       the pipeline type
+     * @param pipeline  the optimized pipeline
+     * @return          the same pipeline
+     */
+    private <P extends Pipeline> P recordEmitted(P pipeline) {
+        asynchronousQueryResult.getQueryRecorder().ifPresent(recorder -> 
+            pipeline.add(
+                StreamTerminatorUtil.topLevelPredicates(pipeline).size(), 
+                new PeekAction<ENTITY>(entity -> recorder.rowEmitted())
+            )
+        );
+        return pipeline;
+    }
+    
+    /**
+     * Returns the paging to use if the rows of the query result should be 
+     * read in keyset pages. If keyset paging is requested but the table has
+     * no primary key or the database type can not restrict the number of 
+     * rows, the query result falls back to {@link StreamingMode#BUFFERED}.
+     * 
+     * @param filtered  if the query will have a {@code WHERE} clause
+     * @return          the paging, or empty if the rows are read at once
+     * @throws IllegalStateException  if a start key is set but the rows can
+     *                                not be read in keyset pages
+     */
+    private Optional<KeysetPaging> keysetPaging(boolean filtered) {
+        if (asynchronousQueryResult.getStreamingMode() != StreamingMode.KEYSET) {
+            return Optional.empty();
+        }
+        
+        final SkipLimitSyntax syntax = manager.getDbmsType().getSkipLimitSyntax();
+        final List<FieldTrait> keys = manager.primaryKeyFields().collect(toList());
+        
+        if (keys.isEmpty() || SkipLimitSyntax.NONE == syntax) {
+            if (!asynchronousQueryResult.getStartKey().isEmpty()) {
+                // Reading all the rows would silently repeat the ones that 
+                // were already processed
+                throw new IllegalStateException(
+                    "Can not start after " + asynchronousQueryResult.getStartKey() + 
+                    " since " + manager.getTable().getName() + " can not be read in keyset pages"
+                );
+            }
+            asynchronousQueryResult.setStreamingMode(StreamingMode.BUFFERED);
+            return Optional.empty();
+        }
+        
+        return Optional.of(new KeysetPaging(
+            keys.stream().map(f -> manager.naming().fullNameOf(f.getIdentifier())).collect(toList()),
+            keys.stream().map(f -> f.getIdentifier().columnName()).collect(toList()),
+            syntax,
+            filtered
+        ));
+    }
+    
+    /**
+     * Returns {@code true} if the stream starts after a keyset start key.
+     * The rows up to the key are then not part of the stream, so nothing can
+     * be computed by a query over the whole table.
+     * 
+     * @return  if the stream starts after a start key
+     */
+    private boolean isResumed() {
+        return !asynchronousQueryResult.getStartKey().isEmpty();
+    }
+    
+    /**
+     * Returns the partitioning to use if the rows of the query result should
+     * be read by several concurrent range queries. This requires the 
+     * {@link StreamingMode#PARTITIONED} mode, a parallel pipeline and a 
+     * table with a single integral primary key column.
+     * 
+     * @param pipeline  the pipeline
+     * @param where     the filters that will be rendered as SQL
+     * @return          the partitioning, or empty if the rows are read by a 
+     *                  single query
+     */
+    private Optional<RangePartitioning> rangePartitioning(Pipeline pipeline, Optional<SqlPredicateFragment> where) {
+        if (asynchronousQueryResult.getStreamingMode() != StreamingMode.PARTITIONED
+        ||  !pipeline.isParallel()) {
+            return Optional.empty();
+        }
+        
+        final List<FieldTrait> keys = manager.primaryKeyFields().collect(toList());
+        if (keys.size() != 1) {
+            return Optional.empty();
+        }
+        
+        final Class<?> type = findColumn(keys.get(0).getIdentifier().columnName()).findDatabaseType();
+        if (type != Long.class && type != Integer.class && type != Short.class && type != Byte.class) {
+            return Optional.empty();
+        }
+        
+        final String column = manager.naming().fullNameOf(keys.get(0).getIdentifier());
+        final String boundsSql = "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + 
+            manager.sqlTableReference() + 
+            where.map(w -> " WHERE " + w.getSql()).orElse("");
+        
+        return Optional.of(new RangePartitioning(
+            column, 
+            boundsSql, 
+            where.isPresent(), 
+            ForkJoinPool.getCommonPoolParallelism() * PARTITIONS_PER_THREAD
+        ));
+    }
+    
+    /**
+     * Modifies the source of the provided query result so that only rows that
+     * might match all the provided predicates are retrieved from the 
+     * database. Predicates (or parts of predicates) that can not be rendered
+     * as SQL are ignored and must therefore still be applied on the stream.
+     * 
+     * @param predicates  the predicates that all must hold
+     * @param qr          the query result to modify
+     */
+    public void modifySource(final List<? extends Predicate<? super ENTITY>> predicates, AsynchronousQueryResult<ENTITY> qr) {
+        requireNonNull(predicates);
         requireNonNull(qr);
-        if (predicateBuilders.isEmpty()) {
-            // Nothing to do...
-            return;
+        where(predicates).ifPresent(w -> {
+            qr.setSql(manager.sqlSelect() + " WHERE " + w.getSql());
+            qr.setValues(w.objects().collect(toList()));
+        });
+    }
+    
+    /**
+     * Renders the provided predicates as a single SQL condition where all the
+     * predicates must hold. If none of the predicates can be expressed in SQL,
+     * an empty {@code Optional} is returned.
+     * 
+     * @param predicates  the predicates that all must hold
+     * @return            the condition, if any
+     */
+    private Optional<SqlPredicateFragment> where(final List<? extends Predicate<? super ENTITY>> predicates) {
+        if (predicates.isEmpty()) {
+            return Optional.empty();
         }
         
-        final List<Column> columns = predicateBuilders
-                .stream()
-                .map(SpeedmentPredicate::getField)
-                .map(FieldTrait::getIdentifier)
-                .map(FieldIdentifier::columnName)
-                .map(this::findColumn)
+        return manager.getQueryShapeCache().where(predicates, this::typeMapperOf, () -> {
+            final SpeedmentPredicateView spv = manager.getDbmsType().getSpeedmentPredicateView();
+            final List<SqlPredicateFragment> fragments = predicates.stream()
+                .map(p -> AbstractSpeedmentPredicateView.transform(p, sp -> renderLeaf(spv, sp), this::renderIsNull))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
                 .collect(toList());
 
-        final SpeedmentPredicateView spv = manager.getDbmsType().getSpeedmentPredicateView();
-        final List<SqlPredicateFragment> fragments = predicateBuilders.stream()
-                .map(spv::transform)
-                .collect(toList());
-        
-        final String sql = manager.sqlSelect() + 
-            " WHERE " +
-            fragments.stream()
-                .map(SqlPredicateFragment::getSql)
-                .collect(joining(" AND "))
-        ;
+            if (fragments.isEmpty()) {
+                // None of the predicates could be expressed in SQL
+                return Optional.empty();
+            }
 
-        final List<Object> values = new ArrayList<>();
-        for (int i = 0; i < fragments.size(); i++) {
-            @SuppressWarnings("unchecked")
-            final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) columns.get(i).findTypeMapper();
-            fragments.get(i).objects()
-                    .map(tm::toDatabaseType)
-                    .forEach(values::add);
+            return Optional.of(AbstractSpeedmentPredicateView.and(fragments));
+        });
+    }
+    
+    /**
+     * Renders the {@link SortedComparatorAction} at the given index of the
+     * pipeline as the content of an {@code ORDER BY} clause and removes the
+     * action from the pipeline. The action is only pushed down if its 
+     * comparator is a (possibly combined) comparator of fields in this table
+     * that the database orders the same way, see 
+     * {@link #isSortable(SpeedmentComparatorImpl)}.
+     * If the action can not be pushed down, the pipeline is left untouched 
+     * and an empty {@code Optional} is returned.
+     * 
+     * @param pipeline  the pipeline
+     * @param index     the index of the action to push down
+     * @return          the content of the {@code ORDER BY} clause, if any
+     */
+    private Optional<String> pushDownSorted(Pipeline pipeline, int index) {
+        if (index >= pipeline.size()) {
+            return Optional.empty();
+        }
+        
+        final Action<?, ?> action = pipeline.get(index);
+        if (!(action instanceof SortedComparatorAction)) {
+            return Optional.empty();
+        }
+        
+        final Comparator<?> comparator = ((SortedComparatorAction<?>) action).getComparator();
+        final List<SpeedmentComparatorImpl<?, ?, ?>> comparators = new ArrayList<>();
+        
+        if (comparator instanceof SpeedmentComparatorImpl) {
+            comparators.add((SpeedmentComparatorImpl<?, ?, ?>) comparator);
+        } else if (comparator instanceof CombinedComparator) {
+            for (final Comparator<?> c : ((CombinedComparator<?>) comparator).stream().collect(toList())) {
+                if (c instanceof SpeedmentComparatorImpl) {
+                    comparators.add((SpeedmentComparatorImpl<?, ?, ?>) c);
+                } else {
+                    return Optional.empty();
+                }
+            }
+        } else {
+            return Optional.empty();
+        }
+        
+        if (!comparators.stream().map(SpeedmentComparatorImpl::getField).allMatch(this::isInTable)
+        ||  !comparators.stream().allMatch(this::isSortable)) {
+            return Optional.empty();
+        }
+        
+        final SortByNullOrderInsertion insertion = manager.getDbmsType().getSortByNullOrderInsertion();
+        final String orderBy = comparators.stream()
+            .map(c -> renderOrder(insertion, c))
+            .collect(joining(", "));
+        
+        pipeline.remove(index);
+        return Optional.of(orderBy);
+    }
+    
+    /**
+     * Returns if the database orders the rows by the field of the provided
+     * comparator the same way as the comparator does. Strings are ordered 
+     * by the collation of the column, which in general differs from 
+     * {@link String#compareTo(String)}, so they are always sorted in the JVM.
+     * A comparator without a {@link NullOrder} throws an exception for
+     * {@code null} values, so it is only pushed down if the column can not
+     * be {@code NULL}.
+     * 
+     * @param comparator  the comparator of a field in this table
+     * @return            {@code true} if the database orders the same way
+     */
+    private boolean isSortable(SpeedmentComparatorImpl<?, ?, ?> comparator) {
+        final FieldIdentifier<?> identifier = comparator.getField().getIdentifier();
+        return findColumn(identifier.columnName()).findDatabaseType() != String.class
+            && (NullOrder.NONE != comparator.getNullOrder() || !isNullable(identifier));
+    }
+    
+    /**
+     * Folds the consecutive {@link SkipAction}s and {@link LimitAction}s that
+     * start at the given index of the pipeline into a single range
+     * restriction of the provided query and removes them from the pipeline.
+     * If the database type does not support range restrictions, the pipeline
+     * is left untouched and the query is returned as is.
+     * 
+     * @param pipeline  the pipeline
+     * @param index     the index of the first action to push down
+     * @param sql       the query to restrict
+     * @param values    the values of the query, appended to by this method
+     * @return          the restricted query
+     */
+    private String pushDownSkipLimit(Pipeline pipeline, int index, String sql, List<Object> values) {
+        final SkipLimitSyntax syntax = manager.getDbmsType().getSkipLimitSyntax();
+        if (SkipLimitSyntax.NONE == syntax) {
+            return sql;
         }
         
-        qr.setSql(sql);
-            qr.setValues(values);
+        long skip = 0;
+        long limit = Long.MAX_VALUE;
+        boolean found = false;
+        
+        while (index < pipeline.size()) {
+            final Action<?, ?> action = pipeline.get(index);
+            if (action instanceof SkipAction) {
+                final long n = ((SkipAction<?>) action).getSkip();
+                skip = (Long.MAX_VALUE - skip < n) ? Long.MAX_VALUE : skip + n;
+                if (limit != Long.MAX_VALUE) {
+                    limit = Math.max(0, limit - n);
+                }
+            } else if (action instanceof LimitAction) {
+                limit = Math.min(limit, ((LimitAction<?>) action).getLimit());
+            } else {
+                break;
+            }
+            pipeline.remove(index);
+            found = true;
         }
+        
+        return found ? syntax.apply(sql, values, skip, limit) : sql;
+    }
+    
+    /**
+     * Returns the field that the mapping action at the given index of the 
+     * pipeline reads from each entity, if that action is a mapping to a 
+     * field of this table that reads nothing else from the entity. That is
+     * the case if the mapper is the {@link ReferenceFieldTrait#getter()} of
+     * a field or a {@link FieldNumberGetter}.
+     * 
+     * @param pipeline  the pipeline
+     * @param index     the index of the mapping action
+     * @return          the field, or empty if no single field is read
+     */
+    private Optional<ReferenceFieldTrait<ENTITY, ?, ?>> projectedField(Pipeline pipeline, int index) {
+        if (index >= pipeline.size()) {
+            return Optional.empty();
+        }
+        
+        final Action<?, ?> action = pipeline.get(index);
+        if (!(action instanceof HasMapper)) {
+            return Optional.empty();
+        }
+        
+        final Object mapper = ((HasMapper<?>) action).getMapper();
+        final Optional<ReferenceFieldTrait<?, ?, ?>> field;
+        
+        if (mapper instanceof FieldNumberGetter) {
+            field = Optional.of(((FieldNumberGetter<?>) mapper).getReferenceField());
+        } else {
+            field = manager.fields()
+                .filter(ReferenceFieldTrait.class::isInstance)
+                .<ReferenceFieldTrait<?, ?, ?>>map(f -> (ReferenceFieldTrait<?, ?, ?>) f)
+                .filter(f -> f.getter() == mapper)
+                .findAny();
+        }
+        
+        @SuppressWarnings("unchecked")
+        final Optional<ReferenceFieldTrait<ENTITY, ?, ?>> result = field
+            .filter(this::isInTable)
+            .map(f -> (ReferenceFieldTrait<ENTITY, ?, ?>) f);
+        
+        return result;
+    }
+    
+    /**
+     * Creates a mapper that creates an empty entity and sets the value of 
+     * the provided field to the first column of the result set.
+     * 
+     * @param field  the only field to populate
+     * @return       the mapper
+     */
+    private SqlFunction<ResultSet, ENTITY> partialEntityMapper(ReferenceFieldTrait<ENTITY, ?, ?> field) {
+        @SuppressWarnings("unchecked")
+        final ReferenceFieldTrait<ENTITY, Object, Object> f = (ReferenceFieldTrait<ENTITY, Object, Object>) field;
+        final SqlFunction<ResultSet, Object> reader = valueReader(field, 1);
+        
+        return rs -> {
+            final ENTITY entity = manager.newEmptyEntity();
+            f.set(entity, reader.apply(rs));
+            return entity;
+        };
+    }
+    
+    /**
+     * Creates a function that reads the value of the provided field from the
+     * given column index of a result set and converts it to the Java type of 
+     * the field.
+     * 
+     * @param field  the field
+     * @param index  the column index in the result set
+     * @return       the function
+     */
+    private SqlFunction<ResultSet, Object> valueReader(ReferenceFieldTrait<?, ?, ?> field, int index) {
+        @SuppressWarnings("unchecked")
+        final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) field.typeMapper();
+        final Class<?> databaseType = findColumn(field.getIdentifier().columnName()).findDatabaseType();
+        
+        return rs -> {
+            final Object value = rs.getObject(index, databaseType);
+            return value == null ? null : tm.toJavaType(value);
+        };
+    }
+    
+    /**
+     * Renders a single comparator as one or more {@code ORDER BY} sort keys.
+     * A reversed comparator sorts in descending order and also moves 
+     * {@code null} values to the opposite end.
+     * 
+     * @param insertion   how the null order is expressed by the database
+     * @param comparator  the comparator to render
+     * @return            the rendered sort keys
+     */
+    private String renderOrder(SortByNullOrderInsertion insertion, SpeedmentComparatorImpl<?, ?, ?> comparator) {
+        final String column = manager.naming().fullNameOf(comparator.getField().getIdentifier());
+        final boolean reversed = comparator.isReversed();
+        final String direction = reversed ? " DESC" : " ASC";
+        
+        if (NullOrder.NONE == comparator.getNullOrder()) {
+            return column + direction;
+        }
+        
+        final boolean nullsFirst = (NullOrder.FIRST == comparator.getNullOrder()) ^ reversed;
+        switch (insertion) {
+            case PRE:
+                return column + " IS NULL" + (nullsFirst ? " DESC, " : " ASC, ") + column + direction;
+            case POST:
+                return column + direction + (nullsFirst ? " NULLS FIRST" : " NULLS LAST");
+            default:
+                throw new IllegalStateException("Unknown " + SortByNullOrderInsertion.class.getSimpleName() + " " + insertion);
+        }
+    }
+    
+    /**
+     * Returns if the provided predicate can be rendered in its entirety by 
+     * the predicate view of the database type, so that the database selects
+     * exactly the rows that the predicate accepts.
+     * 
+     * @param predicate  the predicate
+     * @return           {@code true} if the rendered SQL is exact
+     */
+    private boolean isExactlyRenderable(Predicate<?> predicate) {
+        return Cast.cast(manager.getDbmsType().getSpeedmentPredicateView(), AbstractSpeedmentPredicateView.class)
+            .map(view -> view.isExactlyRenderable(predicate, this::isNullable))
+            .orElse(false);
+    }
+    
+    /**
+     * Returns if the column of the provided field may be {@code NULL}. 
+     * Fields that are not in this table are assumed to be nullable.
+     * 
+     * @param identifier  the identifier of the field
+     * @return            {@code true} if the column may be {@code NULL}
+     */
+    private boolean isNullable(FieldIdentifier<?> identifier) {
+        if (!manager.getTable().getName().equals(identifier.tableName())) {
+            return true;
+        }
+        
+        return manager.getTable().columns()
+            .filter(c -> identifier.columnName().equals(c.getName()))
+            .findAny()
+            .map(Column::isNullable)
+            .orElse(true);
+    }
+    
+    /**
+     * Renders a condition that holds if the column of the provided predicate
+     * is {@code NULL}, or returns an empty {@code Optional} if the column can
+     * not be {@code NULL}.
+     * 
+     * @param predicate  the predicate
+     * @return           the condition, if any
+     */
+    private Optional<SqlPredicateFragment> renderIsNull(SpeedmentPredicate<?, ?, ?> predicate) {
+        final FieldIdentifier<?> identifier = predicate.getField().getIdentifier();
+        if (!isNullable(identifier)) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(SqlPredicateFragment.of(
+            "(" + manager.naming().fullNameOf(identifier) + " IS NULL)"
+        ));
+    }
+    
+    private boolean isInTable(FieldTrait field) {
+        final String tableName = field.getIdentifier().tableName();
+        final String columnName = field.getIdentifier().columnName();
+        return manager.getTable().getName().equals(tableName)
+            && manager.getTable().columns().anyMatch(c -> columnName.equals(c.getName()));
+    }
+    
+    /**
+     * Renders a single {@link SpeedmentPredicate} and converts its operands
+     * into the database type of the column that it refers to.
+     * 
+     * @param spv         the view to use for rendering
+     * @param predicate   the predicate to render
+     * @return            the rendered fragment with converted operands
+     */
+    private SqlPredicateFragment renderLeaf(SpeedmentPredicateView spv, SpeedmentPredicate<?, ?, ?> predicate) {
+        final TypeMapper<Object, Object> tm = typeMapperOf(predicate);
+        final SqlPredicateFragment fragment = Cast.cast(spv, AbstractSpeedmentPredicateView.class)
+            .map(view -> view.transformWith(predicate, tm::toDatabaseType))
+            .orElseGet(() -> spv.transform(predicate));
+        
+        // Arrays are created from elements that are already converted
+        return SqlPredicateFragment.of(
+            fragment.getSql(), 
+            fragment.objects()
+                .map(o -> o instanceof SqlArrayParameter ? o : tm.toDatabaseType(o))
+                .collect(toList())
+        );
+    }
+    
+    /**
+     * Returns the type mapper of the column that the provided predicate 
+     * refers to.
+     * 
+     * @param predicate  the predicate
+     * @return           the type mapper of its column
+     */
+    private TypeMapper<Object, Object> typeMapperOf(SpeedmentPredicate<?, ?, ?> predicate) {
+        final Column column = findColumn(predicate.getField().getIdentifier().columnName());
+        
+        @SuppressWarnings("unchecked")
+        final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) column.findTypeMapper();
+        return tm;
+    }
     
     private Column findColumn(String name) {
         return manager.getTable().columns()
@@ -149,21 +703,488 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
         return countHelper(pipeline, () -> StreamTerminator.super.count(pipeline));
     }
     
+    @Override
+    public int sum(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> sumOf(rs, 1).intValue(), "SUM")
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public long sum(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> sumOf(rs, 1).longValue(), "SUM")
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public double sum(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> rs.getDouble(1), "SUM")
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public OptionalInt min(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalInt, "MIN")
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalLong min(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalLong, "MIN")
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble min(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalDouble, "MIN")
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalInt max(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalInt, "MAX")
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalLong max(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalLong, "MAX")
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble max(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, SqlStreamTerminator::optionalDouble, "MAX")
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> average(sumOf(rs, 1).longValue(), rs.getLong(2)), "SUM", "COUNT")
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> average(sumOf(rs, 1).longValue(), rs.getLong(2)), "SUM", "COUNT")
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregateHelper(pipeline, rs -> average(rs.getDouble(1), rs.getLong(2)), "SUM", "COUNT")
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    /**
+     * Optimizer for aggregate operations. If the pipeline only consists of
+     * leading filters that can be rendered exactly as SQL followed by a 
+     * single mapping to a primitive using a {@link FieldNumberGetter}, the 
+     * aggregate is computed by the database. Otherwise, an empty 
+     * {@code Optional} is returned and the aggregate must be computed in the
+     * JVM.
+     * <p>
+     * Each of the provided SQL aggregate functions is selected over the 
+     * mapped column, in the given order. An average is for an example
+     * selected as {@code SUM} and {@code COUNT} and divided in the JVM, 
+     * since {@code AVG} rounds the result to a few decimals on some 
+     * databases.
+     * 
+     * @param <T>        the result type
+     * @param pipeline   the pipeline
+     * @param rsMapper   the mapper from the single row result to the result
+     * @param functions  the SQL aggregate functions, like {@code SUM}
+     * @return           the result, or empty if not computed by the database
+     */
+    private <T> Optional<T> aggregateHelper(Pipeline pipeline, SqlFunction<ResultSet, T> rsMapper, String... functions) {
+        requireNonNulls(pipeline, rsMapper);
+        requireNonNullElements(functions);
+        PipelineRewriter.rewrite(pipeline);
+        
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+        if (pipeline.size() != predicates.size() + 1
+        ||  !predicates.stream().allMatch(this::isExactlyRenderable)
+        ||  isResumed()) {
+            return Optional.empty();
+        }
+        
+        final Action<?, ?> action = pipeline.getLast();
+        if (!(action instanceof HasMapper)) {
+            return Optional.empty();
+        }
+        
+        final Object mapper = ((HasMapper<?>) action).getMapper();
+        if (!(mapper instanceof FieldNumberGetter)) {
+            return Optional.empty();
+        }
+        
+        final ReferenceFieldTrait<?, ?, ?> field = ((FieldNumberGetter<?>) mapper).getReferenceField();
+        final Kind kind = pipeline instanceof IntPipeline  ? Kind.SUM_INT
+                        : pipeline instanceof LongPipeline ? Kind.SUM_LONG
+                        : Kind.SUM_DOUBLE;
+        
+        if (!isInTable(field) || !isAggregatable(field, kind)) {
+            return Optional.empty();
+        }
+        
+        final Optional<SqlPredicateFragment> where = where(predicates);
+        final String column = manager.naming().fullNameOf(field.getIdentifier());
+        final String sql = "SELECT " + Stream.of(functions).map(f -> f + "(" + column + ")").collect(joining(", ")) +
+            " FROM " + manager.sqlTableReference() + 
+            where.map(w -> " WHERE " + w.getSql()).orElse("");
+        
+        final List<Object> values = where
+            .map(w -> w.objects().collect(toList()))
+            .orElseGet(Collections::emptyList);
+        
+        return manager.synchronousStreamOf(sql, values, rsMapper).findAny();
+    }
+    
+    /**
+     * Returns if the database can compute aggregates over the provided field
+     * that are equal to those computed by an aggregate of the given kind in 
+     * the JVM. That requires that the column is {@code NOT NULL}, since the 
+     * database skips {@code null} values while the JVM throws an exception, 
+     * and that the aggregate does not narrow the values. An {@code int} or 
+     * {@code long} sum truncates each value, so it may only aggregate 
+     * integral columns that fit in its primitive type.
+     * 
+     * @param field  the field to aggregate
+     * @param kind   the kind of aggregate computed in the JVM
+     * @return       {@code true} if the database can compute the aggregate
+     */
+    private boolean isAggregatable(ReferenceFieldTrait<?, ?, ?> field, Kind kind) {
+        if (!isNumericInDatabase(field.typeMapper())
+        ||  findColumn(field.getIdentifier().columnName()).isNullable()) {
+            return false;
+        }
+        
+        final Class<?> javaType = field.typeMapper().getJavaType();
+        switch (kind) {
+            case SUM_INT  : return javaType == Integer.class || javaType == Short.class || javaType == Byte.class;
+            case SUM_LONG : return javaType == Long.class || javaType == Integer.class || javaType == Short.class || javaType == Byte.class;
+            default       : return true;
+        }
+    }
+    
+    /**
+     * Returns if the database forms the same groups of the provided field as
+     * the JVM does. Strings are only grouped the same way if the database 
+     * compares them exactly, since a collation may for an example put 
+     * {@code "a"}, {@code "A"} and {@code "a "} in the same group.
+     * 
+     * @param classifier  the field to group by
+     * @return            {@code true} if the database can group by the field
+     */
+    private boolean isGroupable(ReferenceFieldTrait<?, ?, ?> classifier) {
+        return !AbstractSpeedmentPredicateView.isString(classifier)
+            || Cast.cast(manager.getDbmsType().getSpeedmentPredicateView(), AbstractSpeedmentPredicateView.class)
+                .map(AbstractSpeedmentPredicateView::comparesStringsExactly)
+                .orElse(false);
+    }
+    
+    /**
+     * Returns if the provided type mapper stores numbers in the database 
+     * that are numerically equal to the values in the JVM, so that the 
+     * database can compute aggregates over them.
+     * 
+     * @param typeMapper  the type mapper
+     * @return            {@code true} if the database values are numerically
+     *                    equal to the Java values
+     */
+    private static boolean isNumericInDatabase(TypeMapper<?, ?> typeMapper) {
+        return (typeMapper instanceof AbstractIdentityMapper || typeMapper instanceof BigDecimalToDouble)
+            && Number.class.isAssignableFrom(typeMapper.getDatabaseType());
+    }
+    
+    private static OptionalInt optionalInt(ResultSet rs) throws SQLException {
+        final int value = rs.getInt(1);
+        return rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+    
+    private static OptionalLong optionalLong(ResultSet rs) throws SQLException {
+        final long value = rs.getLong(1);
+        return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+    
+    private static OptionalDouble optionalDouble(ResultSet rs) throws SQLException {
+        final double value = rs.getDouble(1);
+        return rs.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+    
+    /**
+     * Reads the result of a {@code SUM} over an integral column. The sum is 
+     * read as a {@code BigDecimal}, since it may not fit in a {@code long},
+     * so that narrowing it wraps around the same way as a sum in the JVM. 
+     * The sum of no rows is {@code NULL} in SQL, but {@code 0} in the JVM.
+     * 
+     * @param rs     the result set
+     * @param index  the index of the column
+     * @return       the sum
+     * @throws SQLException  if the column could not be read
+     */
+    private static BigDecimal sumOf(ResultSet rs, int index) throws SQLException {
+        final BigDecimal value = rs.getBigDecimal(index);
+        return value == null ? BigDecimal.ZERO : value;
+    }
+    
+    private static OptionalDouble average(double sum, long count) {
+        return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum / count);
+    }
+    
+    @Override
+    public <T, R, A> R collect(ReferencePipeline<T> pipeline, Collector<? super T, A, R> collector) {
+        requireNonNulls(pipeline, collector);
+        return groupingHelper(pipeline, collector)
+            .orElseGet(() -> StreamTerminator.super.collect(pipeline, collector));
+    }
+    
+    /**
+     * Optimizer for grouping collect operations. If the pipeline only 
+     * consists of filters that can be rendered exactly as SQL and the collector 
+     * is a {@link GroupingCollector} of a field in this table with an 
+     * {@link AggregateCollector} downstream, the grouping is performed by the
+     * database using {@code GROUP BY}. Otherwise, an empty {@code Optional} 
+     * is returned and the collect operation must be performed in the JVM.
+     * 
+     * @param <R>        the result type
+     * @param pipeline   the pipeline
+     * @param collector  the collector
+     * @return           the result, or empty if not computed by the database
+     */
+    private <R> Optional<R> groupingHelper(Pipeline pipeline, Collector<?, ?, R> collector) {
+        PipelineRewriter.rewrite(pipeline);
+        
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+        if (pipeline.size() != predicates.size()
+        ||  !predicates.stream().allMatch(this::isExactlyRenderable)
+        ||  !(collector instanceof GroupingCollector)
+        ||  isResumed()) {
+            return Optional.empty();
+        }
+        
+        final GroupingCollector<?, ?, ?> grouping = (GroupingCollector<?, ?, ?>) collector;
+        if (!(grouping.getDownstream() instanceof AggregateCollector)
+        ||  !isInTable(grouping.getClassifier())
+        ||  !isGroupable(grouping.getClassifier())) {
+            return Optional.empty();
+        }
+        
+        final AggregateCollector<?, ?> aggregate = (AggregateCollector<?, ?>) grouping.getDownstream();
+        final Optional<ReferenceFieldTrait<?, ?, ?>> field = aggregate.getField();
+        if (field.isPresent() && (!isInTable(field.get()) || !isAggregatable(field.get(), aggregate.getKind()))) {
+            return Optional.empty();
+        }
+        
+        final String classifierColumn = manager.naming().fullNameOf(grouping.getClassifier().getIdentifier());
+        final String aggregateColumn = field
+            .map(f -> manager.naming().fullNameOf(f.getIdentifier()))
+            .orElse("*");
+        
+        final String function;
+        final SqlFunction<ResultSet, Object> valueReader;
+        switch (aggregate.getKind()) {
+            case COUNT      : function = "COUNT"; valueReader = rs -> rs.getLong(2); break;
+            case SUM_INT    : function = "SUM";   valueReader = rs -> sumOf(rs, 2).intValue(); break;
+            case SUM_LONG   : function = "SUM";   valueReader = rs -> sumOf(rs, 2).longValue(); break;
+            case SUM_DOUBLE : function = "SUM";   valueReader = rs -> rs.getDouble(2); break;
+            case MIN        : function = "MIN";   valueReader = optionalReader(field.get()); break;
+            case MAX        : function = "MAX";   valueReader = optionalReader(field.get()); break;
+            default : throw new IllegalStateException("Unknown aggregate " + aggregate.getKind());
+        }
+        
+        final Optional<SqlPredicateFragment> where = where(predicates);
+        final String sql = "SELECT " + classifierColumn + ", " + function + "(" + aggregateColumn + ")" +
+            " FROM " + manager.sqlTableReference() + 
+            where.map(w -> " WHERE " + w.getSql()).orElse("") + 
+            " GROUP BY " + classifierColumn;
+        
+        final List<Object> values = where
+            .map(w -> w.objects().collect(toList()))
+            .orElseGet(Collections::emptyList);
+        
+        final SqlFunction<ResultSet, Object> keyReader = valueReader(grouping.getClassifier(), 1);
+        final Map<Object, Object> result = new HashMap<>();
+        
+        manager.synchronousStreamOf(sql, values, rs -> new SimpleImmutableEntry<>(keyReader.apply(rs), valueReader.apply(rs)))
+            .forEachOrdered(e -> {
+                if (e.getKey() == null) {
+                    // Mimic Collectors.groupingBy(...)
+                    throw new NullPointerException("element cannot be mapped to a null key");
+                }
+                result.put(e.getKey(), e.getValue());
+            });
+        
+        @SuppressWarnings("unchecked")
+        final R r = (R) result;
+        return Optional.of(r);
+    }
+    
+    private SqlFunction<ResultSet, Object> optionalReader(ReferenceFieldTrait<?, ?, ?> field) {
+        final SqlFunction<ResultSet, Object> reader = valueReader(field, 2);
+        return rs -> Optional.ofNullable(reader.apply(rs));
+    }
+    
+    @Override
+    public <T> Optional<T> findFirst(ReferencePipeline<T> pipeline) {
+        requireNonNull(pipeline);
+        limitToOne(pipeline, CHECK_RETAIN_SIZE.and(CHECK_RETAIN_ORDER));
+        return StreamTerminator.super.findFirst(pipeline);
+    }
+    
+    @Override
+    public <T> Optional<T> findAny(ReferencePipeline<T> pipeline) {
+        requireNonNull(pipeline);
+        limitToOne(pipeline, CHECK_RETAIN_SIZE);
+        return StreamTerminator.super.findAny(pipeline);
+    }
+    
+    @Override
+    public <T> boolean anyMatch(ReferencePipeline<T> pipeline, Predicate<? super T> predicate) {
+        requireNonNulls(pipeline, predicate);
+        return existsHelper(pipeline, predicate, false)
+            .orElseGet(() -> StreamTerminator.super.anyMatch(pipeline, predicate));
+    }
+    
+    @Override
+    public <T> boolean noneMatch(ReferencePipeline<T> pipeline, Predicate<? super T> predicate) {
+        requireNonNulls(pipeline, predicate);
+        return existsHelper(pipeline, predicate, false)
+            .map(exists -> !exists)
+            .orElseGet(() -> StreamTerminator.super.noneMatch(pipeline, predicate));
+    }
+    
+    @Override
+    public <T> boolean allMatch(ReferencePipeline<T> pipeline, Predicate<? super T> predicate) {
+        requireNonNulls(pipeline, predicate);
+        return existsHelper(pipeline, predicate, true)
+            .map(exists -> !exists)
+            .orElseGet(() -> StreamTerminator.super.allMatch(pipeline, predicate));
+    }
+    
+    /**
+     * Inserts a {@link LimitAction} of one element after the leading filters,
+     * sort, skip and limit operations of the pipeline, so that it can be 
+     * pushed down to the database together with them. The limit is only 
+     * inserted if all the actions after that point are accepted by the 
+     * provided predicate, which must make sure that the limit does not change 
+     * the outcome of the terminal operation.
+     * 
+     * @param pipeline  the pipeline
+     * @param accepted  the predicate that all following actions must match
+     */
+    private void limitToOne(Pipeline pipeline, Predicate<Action<?, ?>> accepted) {
+        PipelineRewriter.rewrite(pipeline);
+        
+        int index = StreamTerminatorUtil.topLevelPredicates(pipeline).size();
+        
+        if (index < pipeline.size() && pipeline.get(index) instanceof SortedComparatorAction) {
+            index++;
+        }
+        
+        while (index < pipeline.size() 
+        &&    (pipeline.get(index) instanceof SkipAction 
+            || pipeline.get(index) instanceof LimitAction)) {
+            index++;
+        }
+        
+        if (pipeline.stream().skip(index).allMatch(accepted)) {
+            pipeline.add(index, new LimitAction<>(1));
+        }
+    }
+    
+    /**
+     * Optimizer for match operations. If the pipeline only consists of filters
+     * and these as well as the provided predicate can be rendered exactly as 
+     * SQL, the database is asked if there exists a row that matches all the
+     * filters and the predicate (or, if {@code negate} is set, a row that 
+     * matches all the filters but not the predicate). Otherwise, an empty 
+     * {@code Optional} is returned and the operation must be performed in 
+     * the JVM.
+     * 
+     * @param pipeline   the pipeline
+     * @param predicate  the predicate of the match operation
+     * @param negate     if rows where the predicate does not hold are sought
+     * @return           if such a row exists, or empty if not known
+     */
+    private Optional<Boolean> existsHelper(Pipeline pipeline, Predicate<?> predicate, boolean negate) {
+        PipelineRewriter.rewrite(pipeline);
+        
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+        if (pipeline.size() != predicates.size()
+        ||  !predicates.stream().allMatch(this::isExactlyRenderable)
+        ||  !isExactlyRenderable(predicate)
+        ||  isResumed()) {
+            return Optional.empty();
+        }
+        
+        @SuppressWarnings("unchecked")
+        final Predicate<? super ENTITY> entityPredicate = (Predicate<? super ENTITY>) predicate;
+        final SqlPredicateFragment condition = where(singletonList(entityPredicate)).get();
+        
+        final List<SqlPredicateFragment> fragments = new ArrayList<>();
+        where(predicates).ifPresent(fragments::add);
+        
+        if (negate) {
+            // A condition that evaluates to NULL does not hold either
+            fragments.add(SqlPredicateFragment.of(
+                "((" + condition.getSql() + ") IS NOT TRUE)", 
+                condition.objects().collect(toList())
+            ));
+        } else {
+            fragments.add(condition);
+        }
+        
+        final SqlPredicateFragment where = AbstractSpeedmentPredicateView.and(fragments);
+        final String sql = "SELECT EXISTS (SELECT 1 FROM " + manager.sqlTableReference() + 
+            " WHERE " + where.getSql() + ")";
+        
+        return manager.synchronousStreamOf(
+            sql, 
+            where.objects().collect(toList()), 
+            rs -> rs.getBoolean(1)
+        ).findAny();
+    }
+    
     private static final Predicate<Action<?, ?>> CHECK_RETAIN_SIZE = action -> action.is(PRESERVE, SIZE);
+    private static final Predicate<Action<?, ?>> CHECK_RETAIN_ORDER = action -> action.is(PRESERVE, ORDER);
 
     /**
-     * Optimizer for count operations.
+     * Optimizer for count operations. If the pipeline only consists of 
+     * leading filters that can be rendered exactly as SQL followed by size 
+     * retaining actions, the rows are counted by the database.
      *
      * @param pipeline          the pipeline
-     * @param fallbackSupplier  a fallback supplier should every item be size
-     *                          retaining
+     * @param fallbackSupplier  a fallback supplier should the count not be
+     *                          possible to perform in the database
      * @return the number of rows
      */
     private long countHelper(Pipeline pipeline, LongSupplier fallbackSupplier) {
         requireNonNulls(pipeline, fallbackSupplier);
+        PipelineRewriter.rewrite(pipeline);
+        
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
         
-        if (pipeline.stream().allMatch(CHECK_RETAIN_SIZE)) {
-            return manager.count();
+        if (predicates.stream().allMatch(this::isExactlyRenderable)
+        &&  pipeline.stream().skip(predicates.size()).allMatch(CHECK_RETAIN_SIZE)
+        &&  !isResumed()) {
+            final Optional<SqlPredicateFragment> where = where(predicates);
+            if (where.isPresent()) {
+                return manager.count(where.get());
+            } else {
+                return manager.count();
+            }
         } else return fallbackSupplier.getAsLong();
     }
     
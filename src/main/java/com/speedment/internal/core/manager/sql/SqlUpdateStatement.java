@@ -16,6 +16,7 @@
  */
 package com.speedment.internal.core.manager.sql;
 
+import com.speedment.db.ParameterBinder;
 import java.util.List;
 
 /**
@@ -28,6 +29,10 @@ public final class SqlUpdateStatement extends SqlStatement {
         super(sql, values);
     }
 
+    public SqlUpdateStatement(final String sql, final List<?> values, final List<ParameterBinder<Object>> binders) {
+        super(sql, values, binders);
+    }
+
     @Override
     public Type getType() {
         return Type.UPDATE;
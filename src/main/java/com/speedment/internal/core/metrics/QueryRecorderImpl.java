@@ -0,0 +1,123 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.metrics;
+
+import com.speedment.component.metrics.QueryRecorder;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * The default implementation of the {@link QueryRecorder} interface. Rows
+ * may be read and emitted by several threads concurrently if the query is
+ * streamed in parallel.
+ *
+ * @author pemi
+ */
+public final class QueryRecorderImpl implements QueryRecorder {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(QueryRecorderImpl.class);
+
+    private final String tableName;
+    private final BiFunction<String, String, Optional<QueryStatisticsImpl>> statistics;
+    private final long slowQueryNanos;
+    private final AtomicLong firstRow;
+    private final LongAdder mappingNanos;
+    private final LongAdder rowsRead;
+    private final LongAdder rowsEmitted;
+    private final AtomicBoolean stopped;
+    private volatile String sql;
+    private volatile List<?> values;
+    private volatile long started;
+    private volatile long connectionWait;
+
+    /**
+     * Creates a new recorder.
+     *
+     * @param tableName       the name of the queried table
+     * @param statistics      looks up the statistics of a table and SQL
+     * @param slowQueryNanos  the time above which the query is logged, or 
+     *                        {@code 0} or less to never log it
+     */
+    public QueryRecorderImpl(String tableName, BiFunction<String, String, Optional<QueryStatisticsImpl>> statistics, long slowQueryNanos) {
+        this.tableName = requireNonNull(tableName);
+        this.statistics = requireNonNull(statistics);
+        this.slowQueryNanos = slowQueryNanos;
+        this.firstRow = new AtomicLong(-1);
+        this.mappingNanos = new LongAdder();
+        this.rowsRead = new LongAdder();
+        this.rowsEmitted = new LongAdder();
+        this.stopped = new AtomicBoolean();
+        this.connectionWait = -1;
+    }
+
+    @Override
+    public void start(String sql, List<?> values) {
+        this.sql = requireNonNull(sql);
+        this.values = requireNonNull(values);
+        this.started = System.nanoTime();
+    }
+
+    @Override
+    public void connectionAcquired() {
+        connectionWait = System.nanoTime() - started;
+    }
+
+    @Override
+    public void rowRead(long mappingNanos) {
+        if (firstRow.get() < 0) {
+            firstRow.compareAndSet(-1, System.nanoTime() - started);
+        }
+        this.mappingNanos.add(mappingNanos);
+        rowsRead.increment();
+    }
+
+    @Override
+    public void rowEmitted() {
+        rowsEmitted.increment();
+    }
+
+    @Override
+    public void stop() {
+        if (sql == null || !stopped.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long elapsed = System.nanoTime() - started;
+        statistics.apply(tableName, sql).ifPresent(s -> s.record(
+            connectionWait, firstRow.get(), elapsed, mappingNanos.sum(), rowsRead.sum(), rowsEmitted.sum()
+        ));
+
+        if (slowQueryNanos > 0 && elapsed >= slowQueryNanos) {
+            LOGGER.warn("Slow query on %s took %d ms (%d rows read, %d rows emitted): %s, values=%s",
+                tableName,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                rowsRead.sum(),
+                rowsEmitted.sum(),
+                sql,
+                values
+            );
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.metrics;
+
+import com.speedment.component.metrics.QueryStatistics;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default implementation of the {@link QueryStatistics} interface. All
+ * counters may be updated concurrently by several queries.
+ *
+ * @author pemi
+ */
+public final class QueryStatisticsImpl implements QueryStatistics {
+
+    private final String tableName;
+    private final String sql;
+    private final LongAdder executions;
+    private final LongAdder rowsRead;
+    private final LongAdder rowsEmitted;
+    private final AtomicHistogram connectionWaitTime;
+    private final AtomicHistogram timeToFirstRow;
+    private final AtomicHistogram fetchTime;
+    private final AtomicHistogram mappingTime;
+
+    public QueryStatisticsImpl(String tableName, String sql) {
+        this.tableName = requireNonNull(tableName);
+        this.sql = requireNonNull(sql);
+        this.executions = new LongAdder();
+        this.rowsRead = new LongAdder();
+        this.rowsEmitted = new LongAdder();
+        this.connectionWaitTime = new AtomicHistogram();
+        this.timeToFirstRow = new AtomicHistogram();
+        this.fetchTime = new AtomicHistogram();
+        this.mappingTime = new AtomicHistogram();
+    }
+
+    /**
+     * Adds a completed execution to these statistics. Negative times denote
+     * that the corresponding phase was never reached and are not recorded.
+     *
+     * @param connectionWaitNanos  time waited for a connection
+     * @param firstRowNanos        time until the first row was read
+     * @param fetchNanos           time until the result was closed
+     * @param mappingNanos         time spent mapping rows
+     * @param read                 number of rows read
+     * @param emitted              number of rows emitted
+     */
+    public void record(long connectionWaitNanos, long firstRowNanos, long fetchNanos, long mappingNanos, long read, long emitted) {
+        executions.increment();
+        rowsRead.add(read);
+        rowsEmitted.add(emitted);
+        if (connectionWaitNanos >= 0) {
+            connectionWaitTime.record(connectionWaitNanos);
+        }
+        if (firstRowNanos >= 0) {
+            timeToFirstRow.record(firstRowNanos);
+        }
+        fetchTime.record(fetchNanos);
+        mappingTime.record(mappingNanos);
+    }
+
+    @Override
+    public String getTableName() {
+        return tableName;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    @Override
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    @Override
+    public long getRowsEmitted() {
+        return rowsEmitted.sum();
+    }
+
+    @Override
+    public AtomicHistogram getConnectionWaitTime() {
+        return connectionWaitTime;
+    }
+
+    @Override
+    public AtomicHistogram getTimeToFirstRow() {
+        return timeToFirstRow;
+    }
+
+    @Override
+    public AtomicHistogram getFetchTime() {
+        return fetchTime;
+    }
+
+    @Override
+    public AtomicHistogram getMappingTime() {
+        return mappingTime;
+    }
+
+    @Override
+    public String toString() {
+        return tableName + " \"" + sql + "\""
+            + ": executions=" + getExecutions()
+            + ", rowsRead=" + getRowsRead()
+            + ", rowsEmitted=" + getRowsEmitted()
+            + ", fetchTime={" + fetchTime + "}";
+    }
+}
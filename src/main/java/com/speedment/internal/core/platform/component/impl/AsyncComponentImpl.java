@@ -0,0 +1,106 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.AsyncComponent;
+import com.speedment.internal.core.stream.StreamPublisher;
+import com.speedment.license.Software;
+import com.speedment.stream.Flow;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of the {@link AsyncComponent}. Unless another
+ * executor is set, operations run on a cached pool of daemon threads that is
+ * created lazily and shut down when the platform is stopped.
+ *
+ * @author pemi
+ */
+public final class AsyncComponentImpl extends InternalOpenSourceComponent implements AsyncComponent {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private transient ExecutorService ownedExecutor;
+    private transient Executor executor;
+
+    public AsyncComponentImpl(Speedment speedment) {
+        super(speedment);
+    }
+
+    @Override
+    public Class<AsyncComponent> getComponentClass() {
+        return AsyncComponent.class;
+    }
+
+    @Override
+    public synchronized Executor getExecutor() {
+        if (executor == null) {
+            ownedExecutor = Executors.newCachedThreadPool(newThreadFactory());
+            executor = ownedExecutor;
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void setExecutor(Executor executor) {
+        this.executor = requireNonNull(executor);
+        shutdownOwnedExecutor();
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> publisher(Supplier<? extends Stream<T>> streamSupplier) {
+        return new StreamPublisher<>(streamSupplier, getExecutor());
+    }
+
+    @Override
+    public synchronized void onStop() {
+        shutdownOwnedExecutor();
+        executor = null;
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public AsyncComponent defaultCopy(Speedment speedment) {
+        return new AsyncComponentImpl(speedment);
+    }
+
+    private void shutdownOwnedExecutor() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+            ownedExecutor = null;
+        }
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "speedment-async-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
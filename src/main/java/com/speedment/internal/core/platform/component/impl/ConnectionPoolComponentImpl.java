@@ -33,6 +33,8 @@ import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -46,19 +48,26 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
 
     private final long DEFAULT_MAX_AGE = 30_000;
     private final int DEFAULT_MIN_POOL_SIZE_PER_DB = 32;
+    private final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
 
     private long maxAge;
     private int maxRetainSize;
+    private int statementCacheSize;
 
     private final Map<Long, PoolableConnection> leasedConnections;
     private final Map<String, Deque<PoolableConnection>> pools;
+    private final AtomicLong discardedStatementCacheHits;
+    private final AtomicLong discardedStatementCacheMisses;
 
     public ConnectionPoolComponentImpl(Speedment speedment) {
         super(speedment);
         maxAge = DEFAULT_MAX_AGE;
         maxRetainSize = DEFAULT_MIN_POOL_SIZE_PER_DB;
+        statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
         pools = new ConcurrentHashMap<>();
         leasedConnections = new ConcurrentHashMap<>();
+        discardedStatementCacheHits = new AtomicLong();
+        discardedStatementCacheMisses = new AtomicLong();
     }
 
     private ConnectionPoolComponentImpl(Speedment speedment, ConnectionPoolComponentImpl template) {
@@ -79,7 +88,7 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
             return lease(reusedConnection);
         } else {
             final Connection newRawConnection = newConnection(uri, user, password);
-            final PoolableConnection newConnection = new PoolableConnectionImpl(uri, user, password, newRawConnection, System.currentTimeMillis() + getMaxAge());
+            final PoolableConnection newConnection = new PoolableConnectionImpl(uri, user, password, newRawConnection, System.currentTimeMillis() + getMaxAge(), getStatementCacheSize());
 //            getLogger().info("Created connection " + newConnection.getId() + " (" + leasedConnections.size() + ")");
             newConnection.setOnClose(() -> returnConnection(newConnection));
             logger.debug("New Connection:" + newConnection);
@@ -114,6 +123,8 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
     private void discard(PoolableConnection connection) {
         requireNonNull(connection);
         logger.debug("Discard:" + connection);
+        discardedStatementCacheHits.addAndGet(connection.getStatementCacheHits());
+        discardedStatementCacheMisses.addAndGet(connection.getStatementCacheMisses());
         try {
             connection.rawClose();
 //            getLogger().info("Discarded connection " + connection.getId() + " (" + leasedConnections.size() + ")");
@@ -203,6 +214,35 @@ public class ConnectionPoolComponentImpl extends InternalOpenSourceComponent imp
         this.maxRetainSize = maxRetainSize;
     }
 
+    @Override
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    @Override
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return discardedStatementCacheHits.get()
+            + sumOverConnections(PoolableConnection::getStatementCacheHits);
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return discardedStatementCacheMisses.get()
+            + sumOverConnections(PoolableConnection::getStatementCacheMisses);
+    }
+
+    private long sumOverConnections(ToLongFunction<PoolableConnection> mapper) {
+        return Stream.concat(
+            leasedConnections.values().stream(),
+            pools.values().stream().flatMap(Collection::stream)
+        ).mapToLong(mapper).sum();
+    }
+
     private Logger getLogger() {
         return logger;
     }
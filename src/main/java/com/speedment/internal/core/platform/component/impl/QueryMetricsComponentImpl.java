@@ -0,0 +1,126 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.metrics.QueryMetricsComponent;
+import com.speedment.component.metrics.QueryRecorder;
+import com.speedment.component.metrics.QueryStatistics;
+import com.speedment.internal.core.metrics.QueryRecorderImpl;
+import com.speedment.internal.core.metrics.QueryStatisticsImpl;
+import static com.speedment.internal.util.LruMaps.newSynchronizedLruMap;
+import com.speedment.license.Software;
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of the {@link QueryMetricsComponent}. Statistics
+ * are kept for at most {@link #MAX_SHAPES} query shapes. When a new shape is
+ * seen after that limit is reached, the statistics of the least recently
+ * executed shape are discarded.
+ *
+ * @author pemi
+ */
+public final class QueryMetricsComponentImpl extends InternalOpenSourceComponent implements QueryMetricsComponent {
+
+    public static final int MAX_SHAPES = 1024;
+    public static final long DEFAULT_SLOW_QUERY_THRESHOLD = 1000;
+
+    private final Map<List<String>, QueryStatisticsImpl> statistics;
+    private volatile boolean enabled;
+    private volatile long slowQueryThreshold;
+
+    public QueryMetricsComponentImpl(Speedment speedment) {
+        super(speedment);
+        this.statistics = newSynchronizedLruMap(MAX_SHAPES);
+        this.slowQueryThreshold = DEFAULT_SLOW_QUERY_THRESHOLD;
+    }
+
+    @Override
+    public Class<QueryMetricsComponent> getComponentClass() {
+        return QueryMetricsComponent.class;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    @Override
+    public void setSlowQueryThreshold(long millis) {
+        this.slowQueryThreshold = millis;
+    }
+
+    @Override
+    public Optional<QueryRecorder> newRecorder(String tableName) {
+        requireNonNull(tableName);
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new QueryRecorderImpl(
+            tableName, 
+            this::statisticsOf, 
+            TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold)
+        ));
+    }
+
+    @Override
+    public Stream<QueryStatistics> statistics() {
+        final List<QueryStatistics> copy;
+        synchronized (statistics) {
+            copy = new ArrayList<>(statistics.values());
+        }
+        return copy.stream();
+    }
+
+    @Override
+    public void clear() {
+        statistics.clear();
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public QueryMetricsComponent defaultCopy(Speedment speedment) {
+        return new QueryMetricsComponentImpl(speedment);
+    }
+
+    private Optional<QueryStatisticsImpl> statisticsOf(String tableName, String sql) {
+        final List<String> key = Arrays.asList(tableName, sql);
+        return Optional.of(statistics.computeIfAbsent(key, k -> new QueryStatisticsImpl(tableName, sql)));
+    }
+}
@@ -72,6 +72,12 @@ public final class ResultSetMapperComponentImpl extends InternalOpenSourceCompon
         return getFromMapOrThrow(map, javaClass, javaClass::getName);
     }
 
+    @Override
+    public <T> Optional<ResultSetMapping<T>> findMapping(Class<T> javaClass) {
+        requireNonNull(javaClass);
+        return getFromMap(map, javaClass);
+    }
+
     @Override
     public Stream<Software> getDependencies() {
         return Stream.empty();
@@ -83,11 +89,15 @@ public final class ResultSetMapperComponentImpl extends InternalOpenSourceCompon
     }
 
     @SuppressWarnings("unchecked")
-    private <T> ResultSetMapping<T> getFromMapOrThrow(Map<Class<?>, ResultSetMapping<?>> map, Class<T> javaClass, Supplier<String> throwMessageSupplier) {
+    private <T> Optional<ResultSetMapping<T>> getFromMap(Map<Class<?>, ResultSetMapping<?>> map, Class<T> javaClass) {
         requireNonNull(map);
         requireNonNull(javaClass);
+        return Optional.ofNullable((ResultSetMapping<T>) map.get(javaClass));
+    }
+
+    private <T> ResultSetMapping<T> getFromMapOrThrow(Map<Class<?>, ResultSetMapping<?>> map, Class<T> javaClass, Supplier<String> throwMessageSupplier) {
         requireNonNull(throwMessageSupplier);
-        return Optional.ofNullable((ResultSetMapping<T>) map.get(javaClass))
+        return getFromMap(map, javaClass)
             .orElseThrow(() -> new NullPointerException("The " + ResultSetMapperComponent.class.getSimpleName() + " does not have a mapping for " + throwMessageSupplier.get()));
     }
 
@@ -0,0 +1,301 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.StreamSupplierComponent;
+import com.speedment.component.snapshot.SnapshotStreamSupplierComponent;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.field.ComparableField;
+import com.speedment.internal.core.snapshot.ChangeTracker;
+import com.speedment.internal.core.snapshot.TableSnapshot;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.license.Software;
+import com.speedment.stream.StreamDecorator;
+import java.io.IOException;
+import java.nio.file.Path;
+import static java.util.Objects.requireNonNull;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of the {@link SnapshotStreamSupplierComponent}.
+ * Tables that are not accelerated are streamed from the database in the same
+ * way as by the {@link NativeStreamSupplierComponentImpl}.
+ *
+ * @author pemi
+ */
+public final class SnapshotStreamSupplierComponentImpl extends InternalOpenSourceComponent implements SnapshotStreamSupplierComponent {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(SnapshotStreamSupplierComponentImpl.class);
+
+    private final Map<Class<?>, Storage> accelerated;
+    private final Map<Class<?>, ChangeTracker<?, ?>> trackers;
+    private final Map<Class<?>, TableSnapshot<?>> snapshots;
+    private long reloadInterval;
+    private long refreshInterval;
+    private Path snapshotDirectory;
+    private boolean started;
+    private transient ScheduledExecutorService scheduler;
+    private transient ScheduledFuture<?> reloading;
+    private transient ScheduledFuture<?> refreshing;
+
+    public SnapshotStreamSupplierComponentImpl(Speedment speedment) {
+        super(speedment);
+        this.accelerated = new ConcurrentHashMap<>();
+        this.trackers = new ConcurrentHashMap<>();
+        this.snapshots = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public <ENTITY> Stream<ENTITY> stream(Class<ENTITY> entityClass, StreamDecorator decorator) {
+        if (accelerated.containsKey(entityClass)) {
+            return snapshotOf(entityClass).stream(decorator);
+        } else {
+            return getSpeedment().managerOf(entityClass).nativeStream(decorator);
+        }
+    }
+
+    @Override
+    public void accelerate(Class<?> entityClass, Storage storage) {
+        accelerated.put(requireNonNull(entityClass), requireNonNull(storage));
+    }
+
+    @Override
+    public boolean isAccelerated(Class<?> entityClass) {
+        return accelerated.containsKey(requireNonNull(entityClass));
+    }
+
+    @Override
+    public <ENTITY, V extends Comparable<? super V>> void trackChanges(
+            Class<ENTITY> entityClass, 
+            ComparableField<ENTITY, ?, V> field, 
+            Predicate<? super ENTITY> tombstone) {
+        
+        trackers.put(requireNonNull(entityClass), new ChangeTracker<>(field, tombstone));
+        
+        // A snapshot that is already loaded does not know the tracker, so it
+        // is replaced by a new one that is loaded when it is streamed
+        snapshots.remove(entityClass);
+    }
+
+    @Override
+    public void reload(Class<?> entityClass) {
+        if (!isAccelerated(entityClass)) {
+            throw new IllegalArgumentException(entityClass.getName() + " is not accelerated");
+        }
+        snapshotOf(entityClass).reload();
+    }
+
+    @Override
+    public void reloadAll() {
+        accelerated.keySet().forEach(this::reload);
+    }
+
+    @Override
+    public void refresh(Class<?> entityClass) {
+        if (!isAccelerated(entityClass)) {
+            throw new IllegalArgumentException(entityClass.getName() + " is not accelerated");
+        }
+        snapshotOf(entityClass).refresh();
+    }
+
+    @Override
+    public void refreshAll() {
+        accelerated.keySet().forEach(this::refresh);
+    }
+
+    @Override
+    public synchronized long getReloadInterval() {
+        return reloadInterval;
+    }
+
+    @Override
+    public synchronized void setReloadInterval(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The reload interval can not be negative: " + millis);
+        }
+        this.reloadInterval = millis;
+        if (started) {
+            schedule();
+        }
+    }
+
+    @Override
+    public synchronized long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    @Override
+    public synchronized void setRefreshInterval(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The refresh interval can not be negative: " + millis);
+        }
+        this.refreshInterval = millis;
+        if (started) {
+            schedule();
+        }
+    }
+
+    @Override
+    public synchronized Optional<Path> getSnapshotDirectory() {
+        return Optional.ofNullable(snapshotDirectory);
+    }
+
+    @Override
+    public synchronized void setSnapshotDirectory(Path directory) {
+        this.snapshotDirectory = directory; // Nullable
+    }
+
+    @Override
+    public void save(Class<?> entityClass) {
+        if (!isAccelerated(entityClass)) {
+            throw new IllegalArgumentException(entityClass.getName() + " is not accelerated");
+        }
+
+        final Path directory = getSnapshotDirectory().orElseThrow(
+            () -> new IllegalStateException("No snapshot directory is set")
+        );
+
+        try {
+            snapshotOf(entityClass).save(directory);
+        } catch (IOException | IllegalArgumentException ex) {
+            // Thrown if a value is of a type that the file can not store
+            throw new SpeedmentException("Could not save the snapshot of " + entityClass.getName(), ex);
+        }
+    }
+
+    @Override
+    public void saveAll() {
+        accelerated.keySet().forEach(this::save);
+    }
+
+    @Override
+    public synchronized void onStart() {
+        started = true;
+        accelerated.keySet().forEach(this::restoreOrReload);
+        schedule();
+    }
+
+    @Override
+    public synchronized void onStop() {
+        started = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            reloading = null;
+            refreshing = null;
+        }
+
+        if (snapshotDirectory != null) {
+            for (final Class<?> entityClass : accelerated.keySet()) {
+                try {
+                    save(entityClass);
+                } catch (RuntimeException ex) {
+                    LOGGER.error(ex, "Error saving the snapshot of %s", entityClass.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public StreamSupplierComponent defaultCopy(Speedment speedment) {
+        return new SnapshotStreamSupplierComponentImpl(speedment);
+    }
+
+    private <ENTITY> TableSnapshot<ENTITY> snapshotOf(Class<ENTITY> entityClass) {
+        @SuppressWarnings("unchecked")
+        final TableSnapshot<ENTITY> snapshot = (TableSnapshot<ENTITY>) snapshots.computeIfAbsent(entityClass, 
+            c -> new TableSnapshot<>(
+                getSpeedment().managerOf(entityClass), 
+                accelerated.get(entityClass), 
+                (ChangeTracker<ENTITY, ?>) trackers.get(entityClass)
+            )
+        );
+        return snapshot;
+    }
+
+    private void restoreOrReload(Class<?> entityClass) {
+        if (snapshotDirectory != null) {
+            try {
+                if (snapshotOf(entityClass).restore(snapshotDirectory)) {
+                    return;
+                }
+            } catch (IOException | RuntimeException ex) {
+                // Reloading from the database is always an option
+                LOGGER.warn(ex, "Could not restore the snapshot of %s", entityClass.getName());
+            }
+        }
+        reload(entityClass);
+    }
+
+    private void schedule() {
+        reloading = schedule(reloading, reloadInterval, this::reloadSilently);
+        refreshing = schedule(refreshing, refreshInterval, this::refreshSilently);
+    }
+
+    private ScheduledFuture<?> schedule(ScheduledFuture<?> current, long interval, Runnable task) {
+        if (current != null) {
+            current.cancel(false);
+        }
+
+        if (interval <= 0) {
+            return null;
+        }
+
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "speedment-snapshot-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return scheduler.scheduleWithFixedDelay(task, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void reloadSilently() {
+        try {
+            reloadAll();
+        } catch (RuntimeException ex) {
+            // Keep the current snapshots and try again at the next reload
+            LOGGER.error(ex, "Error reloading snapshots");
+        }
+    }
+
+    private void refreshSilently() {
+        try {
+            refreshAll();
+        } catch (RuntimeException ex) {
+            // Keep the current snapshots and try again at the next refresh
+            LOGGER.error(ex, "Error refreshing snapshots");
+        }
+    }
+}
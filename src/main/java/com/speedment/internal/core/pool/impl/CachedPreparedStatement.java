@@ -0,0 +1,120 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.pool.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link PreparedStatement} that is given back to its {@link StatementCache}
+ * instead of being closed. Before that, any result sets opened through it are
+ * closed and its parameters and settings are reset.
+ *
+ * @author pemi
+ */
+final class CachedPreparedStatement extends PreparedStatementDelegator {
+
+    private final StatementCache cache;
+    private final StatementCache.Key key;
+    private final int initialFetchSize;
+    private final int initialMaxRows;
+    private final int initialQueryTimeout;
+    private final int initialFetchDirection;
+    private final List<ResultSet> resultSets;
+    private boolean closed;
+
+    CachedPreparedStatement(StatementCache cache, StatementCache.Key key, PreparedStatement statement) throws SQLException {
+        super(statement);
+        this.cache = requireNonNull(cache);
+        this.key = requireNonNull(key);
+        this.initialFetchSize = statement.getFetchSize();
+        this.initialMaxRows = statement.getMaxRows();
+        this.initialQueryTimeout = statement.getQueryTimeout();
+        this.initialFetchDirection = statement.getFetchDirection();
+        this.resultSets = new ArrayList<>();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return track(super.executeQuery());
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return track(super.getResultSet());
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return track(super.getGeneratedKeys());
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed || super.isClosed();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            for (final ResultSet rs : resultSets) {
+                rs.close();
+            }
+            resultSets.clear();
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+            if (statement.getFetchSize() != initialFetchSize) {
+                statement.setFetchSize(initialFetchSize);
+            }
+            if (statement.getMaxRows() != initialMaxRows) {
+                statement.setMaxRows(initialMaxRows);
+            }
+            if (statement.getQueryTimeout() != initialQueryTimeout) {
+                statement.setQueryTimeout(initialQueryTimeout);
+            }
+            if (statement.getFetchDirection() != initialFetchDirection) {
+                statement.setFetchDirection(initialFetchDirection);
+            }
+        } catch (final SQLException ex) {
+            statement.close();
+            throw ex;
+        }
+
+        if (statement.isClosed()) {
+            return;
+        }
+
+        cache.offer(key, statement);
+    }
+
+    private ResultSet track(ResultSet rs) {
+        if (rs != null) {
+            resultSets.add(rs);
+        }
+        return rs;
+    }
+}
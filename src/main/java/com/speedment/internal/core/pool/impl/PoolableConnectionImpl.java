@@ -18,6 +18,7 @@ package com.speedment.internal.core.pool.impl;
 
 import com.speedment.component.connectionpool.PoolableConnection;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.atomic.AtomicLong;
@@ -35,9 +36,14 @@ public final class PoolableConnectionImpl extends PoolableConnectionDelegator im
     private final String uri;
     private final long created;
     private final long expires;
+    private final StatementCache statementCache;
     private Runnable onClose;
 
     public PoolableConnectionImpl(String uri, String user, String password, Connection connection, long expires) {
+        this(uri, user, password, connection, expires, 0);
+    }
+
+    public PoolableConnectionImpl(String uri, String user, String password, Connection connection, long expires, int statementCacheSize) {
         super(connection);
         this.id = ID_GENERATOR.getAndIncrement();
         this.uri = requireNonNull(uri);
@@ -45,6 +51,7 @@ public final class PoolableConnectionImpl extends PoolableConnectionDelegator im
         this.password = password; //nullable
         this.created = System.currentTimeMillis();
         this.expires = expires;
+        this.statementCache = new StatementCache(statementCacheSize);
     }
 
     @Override
@@ -59,7 +66,45 @@ public final class PoolableConnectionImpl extends PoolableConnectionDelegator im
 
     @Override
     public void rawClose() throws SQLException {
-        connection.close();
+        try {
+            statementCache.clear();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return statementCache.prepare(
+            new StatementCache.Key(sql),
+            () -> connection.prepareStatement(sql)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return statementCache.prepare(
+            new StatementCache.Key(sql, resultSetType, resultSetConcurrency),
+            () -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return statementCache.prepare(
+            new StatementCache.Key(sql, autoGeneratedKeys),
+            () -> connection.prepareStatement(sql, autoGeneratedKeys)
+        );
+    }
+
+    @Override
+    public long getStatementCacheHits() {
+        return statementCache.getHits();
+    }
+
+    @Override
+    public long getStatementCacheMisses() {
+        return statementCache.getMisses();
     }
 
     @Override
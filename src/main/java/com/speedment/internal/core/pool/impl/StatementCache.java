@@ -0,0 +1,211 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.pool.impl;
+
+import com.speedment.db.SqlSupplier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A least recently used cache of idle prepared statements belonging to a
+ * single connection. Statements handed out by the cache are removed from it
+ * while in use and are put back when they are closed by the caller, so a
+ * statement is never shared between two concurrent users.
+ *
+ * @author pemi
+ */
+final class StatementCache {
+
+    private final int maxSize;
+    private final Map<Key, PreparedStatement> idle;
+    private long hits;
+    private long misses;
+
+    StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns a cached statement for the given key if one is idle, or else
+     * prepares a new one using the given supplier. The returned statement is
+     * given back to the cache when it is closed.
+     *
+     * @param key       the key of the statement
+     * @param preparer  supplier that prepares a new statement
+     * @return          a statement that is returned to the cache when closed
+     * @throws SQLException if a new statement could not be prepared
+     */
+    PreparedStatement prepare(Key key, SqlSupplier<PreparedStatement> preparer) throws SQLException {
+        requireNonNull(key);
+        requireNonNull(preparer);
+        if (maxSize <= 0) {
+            return preparer.get();
+        }
+
+        PreparedStatement statement = poll(key);
+        if (statement == null) {
+            statement = preparer.get();
+        }
+        return new CachedPreparedStatement(this, key, statement);
+    }
+
+    /**
+     * Gives a statement that is no longer in use back to the cache. If there
+     * already is an idle statement for the same key, the given statement is
+     * closed. If the cache is full, the least recently used statement is
+     * closed.
+     *
+     * @param key        the key of the statement
+     * @param statement  the statement
+     * @throws SQLException if a statement could not be closed
+     */
+    void offer(Key key, PreparedStatement statement) throws SQLException {
+        final PreparedStatement evicted;
+        synchronized (this) {
+            if (idle.containsKey(key)) {
+                evicted = statement;
+            } else {
+                idle.put(key, statement);
+                evicted = evictEldestIfFull();
+            }
+        }
+        if (evicted != null) {
+            evicted.close();
+        }
+    }
+
+    /**
+     * Closes all idle statements in this cache.
+     *
+     * @throws SQLException if a statement could not be closed
+     */
+    void clear() throws SQLException {
+        final PreparedStatement[] statements;
+        synchronized (this) {
+            statements = idle.values().toArray(new PreparedStatement[idle.size()]);
+            idle.clear();
+        }
+        for (final PreparedStatement statement : statements) {
+            statement.close();
+        }
+    }
+
+    synchronized int size() {
+        return idle.size();
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    private PreparedStatement poll(Key key) throws SQLException {
+        PreparedStatement statement;
+        synchronized (this) {
+            statement = idle.remove(key);
+        }
+        if (statement != null && statement.isClosed()) {
+            statement = null;
+        }
+        synchronized (this) {
+            if (statement == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+        }
+        return statement;
+    }
+
+    private PreparedStatement evictEldestIfFull() {
+        if (idle.size() > maxSize) {
+            final Iterator<PreparedStatement> it = idle.values().iterator();
+            final PreparedStatement eldest = it.next();
+            it.remove();
+            return eldest;
+        }
+        return null;
+    }
+
+    /**
+     * The key of a cached statement. Two statements are interchangeable if
+     * they were prepared from the same SQL text with the same result set
+     * properties.
+     */
+    static final class Key {
+
+        private final String sql;
+        private final int resultSetType;
+        private final int resultSetConcurrency;
+        private final int autoGeneratedKeys;
+
+        Key(String sql) {
+            this(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, Statement.NO_GENERATED_KEYS);
+        }
+
+        Key(String sql, int resultSetType, int resultSetConcurrency) {
+            this(sql, resultSetType, resultSetConcurrency, Statement.NO_GENERATED_KEYS);
+        }
+
+        Key(String sql, int autoGeneratedKeys) {
+            this(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, autoGeneratedKeys);
+        }
+
+        private Key(String sql, int resultSetType, int resultSetConcurrency, int autoGeneratedKeys) {
+            this.sql = requireNonNull(sql);
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 31 * hash + sql.hashCode();
+            hash = 31 * hash + resultSetType;
+            hash = 31 * hash + resultSetConcurrency;
+            hash = 31 * hash + autoGeneratedKeys;
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return resultSetType == other.resultSetType
+                && resultSetConcurrency == other.resultSetConcurrency
+                && autoGeneratedKeys == other.autoGeneratedKeys
+                && Objects.equals(sql, other.sql);
+        }
+    }
+}
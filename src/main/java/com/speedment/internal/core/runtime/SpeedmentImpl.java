@@ -17,6 +17,7 @@
 package com.speedment.internal.core.runtime;
 
 import com.speedment.Speedment;
+import com.speedment.component.AsyncComponent;
 import com.speedment.component.CodeGenerationComponent;
 import com.speedment.component.Component;
 import com.speedment.component.ComponentConstructor;
@@ -32,9 +33,11 @@ import com.speedment.component.StreamSupplierComponent;
 import com.speedment.component.TypeMapperComponent;
 import com.speedment.component.UserInterfaceComponent;
 import com.speedment.component.connectionpool.ConnectionPoolComponent;
+import com.speedment.component.metrics.QueryMetricsComponent;
 import com.speedment.component.resultset.ResultSetMapperComponent;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.internal.core.platform.DefaultClassMapper;
+import com.speedment.internal.core.platform.component.impl.AsyncComponentImpl;
 import com.speedment.internal.core.platform.component.impl.CodeGenerationComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ConnectionPoolComponentImpl;
 import com.speedment.internal.core.platform.component.impl.DbmsHandlerComponentImpl;
@@ -46,6 +49,7 @@ import com.speedment.internal.core.platform.component.impl.NativeStreamSupplierC
 import com.speedment.internal.core.platform.component.impl.PasswordComponentImpl;
 import com.speedment.internal.core.platform.component.impl.PrimaryKeyFactoryComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ProjectComponentImpl;
+import com.speedment.internal.core.platform.component.impl.QueryMetricsComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ResultSetMapperComponentImpl;
 import com.speedment.internal.core.platform.component.impl.TypeMapperComponentImpl;
 import com.speedment.internal.core.platform.component.impl.UserInterfaceComponentImpl;
@@ -80,6 +84,8 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
     private PasswordComponent passwordComponent;
     private CodeGenerationComponent codeGenerationComponent;
     private DocumentPropertyComponent documentPropertyComponent;
+    private AsyncComponent asyncComponent;
+    private QueryMetricsComponent queryMetricsComponent;
 
     SpeedmentImpl() {
         logger = LoggerManager.getLogger(SpeedmentImpl.class);
@@ -97,6 +103,8 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         put(PasswordComponentImpl::new);
         put(CodeGenerationComponentImpl::new);
         put(DocumentPropertyComponentImpl::new);
+        put(AsyncComponentImpl::new);
+        put(QueryMetricsComponentImpl::new);
     }
 
     @Override
@@ -166,6 +174,12 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         if (item instanceof DocumentPropertyComponent) {
             documentPropertyComponent = castOrFail(item, DocumentPropertyComponent.class);
         }
+        if (item instanceof AsyncComponent) {
+            asyncComponent = castOrFail(item, AsyncComponent.class);
+        }
+        if (item instanceof QueryMetricsComponent) {
+            queryMetricsComponent = castOrFail(item, QueryMetricsComponent.class);
+        }
         return put(item, Component::getComponentClass);
     }
 
@@ -276,6 +290,16 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         return documentPropertyComponent;
     }
 
+    @Override
+    public AsyncComponent getAsyncComponent() {
+        return asyncComponent;
+    }
+
+    @Override
+    public QueryMetricsComponent getQueryMetricsComponent() {
+        return queryMetricsComponent;
+    }
+
     @Override
     public Speedment copyWithSameTypeOfComponents() {
         final SpeedmentApplicationLifecycle<?> lifecycle = new DefaultSpeedmentApplicationLifecycle();
@@ -0,0 +1,65 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import static java.util.Objects.requireNonNull;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityStore} that holds the entities of all rows in an array.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class ArrayEntityStore<ENTITY> implements EntityStore<ENTITY> {
+
+    private final Object[] entities;
+
+    /**
+     * Creates a store of all the entities of the given stream. The stream 
+     * is consumed but not closed.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entities  the entities to store
+     * @return          the new store
+     */
+    public static <ENTITY> ArrayEntityStore<ENTITY> of(Stream<ENTITY> entities) {
+        return new ArrayEntityStore<>(entities.toArray());
+    }
+
+    private ArrayEntityStore(Object[] entities) {
+        this.entities = requireNonNull(entities);
+    }
+
+    @Override
+    public int size() {
+        return entities.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ENTITY entity(int row) {
+        return (ENTITY) entities[row];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<ENTITY> stream() {
+        return (Stream<ENTITY>) Arrays.stream(entities);
+    }
+}
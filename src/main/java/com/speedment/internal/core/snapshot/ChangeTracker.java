@@ -0,0 +1,101 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.field.ComparableField;
+import static java.util.Objects.requireNonNull;
+import java.util.function.Predicate;
+
+/**
+ * Tracks the changes of a table by a column that is assigned an increasing
+ * value every time a row is inserted or updated, like a timestamp, a version
+ * number or an auto-increment id. The greatest value that has been seen is
+ * remembered so that only rows with a greater value need to be read to catch
+ * up with the database.
+ * <p>
+ * Rows that are deleted by marking them as such, are recognized by a 
+ * tombstone predicate. Instances are not thread safe.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ * @param <V>       the value type of the change column
+ */
+public final class ChangeTracker<ENTITY, V extends Comparable<? super V>> {
+
+    private final ComparableField<ENTITY, ?, V> field;
+    private final Predicate<? super ENTITY> tombstone;
+    private V lastSeen;
+
+    public ChangeTracker(ComparableField<ENTITY, ?, V> field, Predicate<? super ENTITY> tombstone) {
+        this.field = requireNonNull(field);
+        this.tombstone = requireNonNull(tombstone);
+    }
+
+    /**
+     * Returns a predicate that accepts the rows that have changed since any
+     * of the rows that have been seen. The predicate can be rendered as a 
+     * SQL condition.
+     *
+     * @return the predicate
+     */
+    public Predicate<ENTITY> isChanged() {
+        return lastSeen == null ? field.isNotNull() : field.greaterThan(lastSeen);
+    }
+
+    /**
+     * Returns if the given row is a tombstone of a deleted row.
+     *
+     * @param entity  the row
+     * @return        {@code true} if the row is deleted
+     */
+    public boolean isDeleted(ENTITY entity) {
+        return tombstone.test(entity);
+    }
+
+    /**
+     * Returns if the first row has changed after the second row.
+     *
+     * @param first   the first row
+     * @param second  the second row
+     * @return        {@code true} if the first row is newer
+     */
+    public boolean isNewer(ENTITY first, ENTITY second) {
+        final V a = field.get(first);
+        final V b = field.get(second);
+        return a != null && (b == null || a.compareTo(b) > 0);
+    }
+
+    /**
+     * Remembers the change value of the given row.
+     *
+     * @param entity  the row
+     */
+    public void seen(ENTITY entity) {
+        final V value = field.get(entity);
+        if (value != null && (lastSeen == null || value.compareTo(lastSeen) > 0)) {
+            lastSeen = value;
+        }
+    }
+
+    /**
+     * Forgets all rows that have been seen, so that every row with a change
+     * value is considered changed.
+     */
+    public void reset() {
+        lastSeen = null;
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import static com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate.Type.AND;
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import com.speedment.internal.core.snapshot.column.ColumnBuilder;
+import com.speedment.internal.core.snapshot.column.ColumnVector;
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityStore} that keeps the value of every field in a 
+ * {@link ColumnVector} outside of the Java heap. Entities are only created 
+ * when they are requested, so every call to {@link #entity(int)} returns a 
+ * new entity that may be modified freely.
+ * <p>
+ * Speedment predicates on the fields of the store, and combinations of them,
+ * can be evaluated directly against the columns without creating any 
+ * entities.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class ColumnarEntityStore<ENTITY> implements EntityStore<ENTITY> {
+
+    private final Supplier<ENTITY> constructor;
+    private final List<ReferenceFieldTrait<ENTITY, ?, Object>> fields;
+    private final ColumnVector[] columns;
+    private final Map<FieldIdentifier<?>, ColumnVector> columnsByIdentifier;
+    private final int size;
+
+    /**
+     * Creates a store of all the entities of the given stream. The stream 
+     * is consumed but not closed.
+     *
+     * @param <ENTITY>     the entity type
+     * @param constructor  creates new empty entities
+     * @param fields       the fields to store
+     * @param entities     the entities to store
+     * @return             the new store
+     */
+    public static <ENTITY> ColumnarEntityStore<ENTITY> of(
+            Supplier<ENTITY> constructor, 
+            List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields, 
+            Stream<ENTITY> entities) {
+        
+        final List<ColumnBuilder> builders = fields.stream()
+            .map(f -> ColumnBuilder.forType(f.typeMapper().getJavaType()))
+            .collect(toList());
+        
+        final int[] size = new int[1];
+        entities.forEachOrdered(entity -> {
+            for (int i = 0; i < fields.size(); i++) {
+                builders.get(i).append(fields.get(i).get(entity));
+            }
+            size[0]++;
+        });
+        
+        final ColumnVector[] columns = builders.stream()
+            .map(ColumnBuilder::build)
+            .toArray(ColumnVector[]::new);
+        
+        return new ColumnarEntityStore<>(constructor, fields, columns, size[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ColumnarEntityStore(
+            Supplier<ENTITY> constructor, 
+            List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields, 
+            ColumnVector[] columns, 
+            int size) {
+        
+        this.constructor = requireNonNull(constructor);
+        this.fields = new ArrayList<>();
+        this.columns = requireNonNull(columns);
+        this.columnsByIdentifier = new HashMap<>();
+        this.size = size;
+        
+        for (int i = 0; i < fields.size(); i++) {
+            this.fields.add((ReferenceFieldTrait<ENTITY, ?, Object>) fields.get(i));
+            this.columnsByIdentifier.put(fields.get(i).getIdentifier(), columns[i]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ENTITY entity(int row) {
+        final ENTITY entity = constructor.get();
+        for (int i = 0; i < columns.length; i++) {
+            fields.get(i).setter().apply(entity, columns[i].get(row));
+        }
+        return entity;
+    }
+
+    @Override
+    public Object get(int row, ReferenceFieldTrait<ENTITY, ?, ?> field) {
+        final ColumnVector column = columnsByIdentifier.get(field.getIdentifier());
+        return column == null ? EntityStore.super.get(row, field) : column.get(row);
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public Optional<IntPredicate> rowPredicate(Predicate<?> predicate) {
+        requireNonNull(predicate);
+        
+        if (predicate instanceof SpeedmentPredicateImpl) {
+            final SpeedmentPredicateImpl<?, ?, ?> leaf = (SpeedmentPredicateImpl<?, ?, ?>) predicate;
+            return Optional.ofNullable(columnsByIdentifier.get(leaf.getField().getIdentifier()))
+                .map(column -> column.matcher(leaf));
+        }
+        
+        if (predicate instanceof AbstractCombinedBasePredicate) {
+            final AbstractCombinedBasePredicate<?> combined = (AbstractCombinedBasePredicate<?>) predicate;
+            final List<Predicate<?>> members = combined.stream().collect(toList());
+            final IntPredicate[] matchers = new IntPredicate[members.size()];
+            for (int i = 0; i < matchers.length; i++) {
+                final Optional<IntPredicate> matcher = rowPredicate(members.get(i));
+                if (!matcher.isPresent()) {
+                    return Optional.empty();
+                }
+                matchers[i] = matcher.get();
+            }
+            
+            final boolean all = combined.getType() == AND;
+            final boolean negated = combined.isNegated();
+            return Optional.of(row -> {
+                for (final IntPredicate matcher : matchers) {
+                    if (matcher.test(row) != all) {
+                        return !all ^ negated;
+                    }
+                }
+                return all ^ negated;
+            });
+        }
+        
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable set of rows of a table held in memory. Rows are addressed by
+ * their position in the store.
+ * <p>
+ * The entities returned by a store may be shared between streams, in which 
+ * case they must never be modified. See {@link #isShared()}.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public interface EntityStore<ENTITY> {
+
+    /**
+     * Returns the number of rows in this store.
+     *
+     * @return the number of rows
+     */
+    int size();
+
+    /**
+     * Returns the entity of the given row.
+     *
+     * @param row  the row
+     * @return     the entity of the row
+     */
+    ENTITY entity(int row);
+
+    /**
+     * Returns the value of the given field in the given row.
+     *
+     * @param row    the row
+     * @param field  the field
+     * @return       the value, or {@code null}
+     */
+    default Object get(int row, ReferenceFieldTrait<ENTITY, ?, ?> field) {
+        return field.get(entity(row));
+    }
+
+    /**
+     * Returns a stream over the entities of all rows, in row order.
+     *
+     * @return a stream of entities
+     */
+    default Stream<ENTITY> stream() {
+        return IntStream.range(0, size()).mapToObj(this::entity);
+    }
+
+    /**
+     * Returns a stream over the entities of the rows accepted by the given
+     * predicate, in row order.
+     *
+     * @param rows  the predicate over the rows
+     * @return      a stream of entities
+     */
+    default Stream<ENTITY> stream(IntPredicate rows) {
+        return IntStream.range(0, size()).filter(rows).mapToObj(this::entity);
+    }
+
+    /**
+     * Returns if the entities returned by this store are shared, in which 
+     * case they must be copied before they are handed out.
+     *
+     * @return {@code true} if the entities are shared
+     */
+    default boolean isShared() {
+        return true;
+    }
+
+    /**
+     * Returns a predicate over the rows of this store that accepts exactly 
+     * the rows whose entities are accepted by the given predicate, if the 
+     * predicate can be evaluated without creating the entities. 
+     *
+     * @param predicate  the predicate on the entities
+     * @return           the predicate over the rows, or empty
+     */
+    default Optional<IntPredicate> rowPredicate(Predicate<?> predicate) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the rows, in ascending order, that may be accepted by all of 
+     * the given predicates, if the store can narrow them down without 
+     * reading every row. The predicates must still be applied to the 
+     * returned rows.
+     *
+     * @param predicates  the leading filters of a stream
+     * @return            the candidate rows, or empty if all rows must be read
+     */
+    default Optional<int[]> candidates(List<? extends Predicate<?>> predicates) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.snapshot.index.SecondaryIndexes;
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityStore} that adds {@link SecondaryIndexes} to another store.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class IndexedEntityStore<ENTITY> implements EntityStore<ENTITY> {
+
+    private final EntityStore<ENTITY> store;
+    private final SecondaryIndexes indexes;
+
+    public IndexedEntityStore(EntityStore<ENTITY> store, SecondaryIndexes indexes) {
+        this.store = requireNonNull(store);
+        this.indexes = requireNonNull(indexes);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public ENTITY entity(int row) {
+        return store.entity(row);
+    }
+
+    @Override
+    public Object get(int row, ReferenceFieldTrait<ENTITY, ?, ?> field) {
+        return store.get(row, field);
+    }
+
+    @Override
+    public Stream<ENTITY> stream() {
+        return store.stream();
+    }
+
+    @Override
+    public Stream<ENTITY> stream(IntPredicate rows) {
+        return store.stream(rows);
+    }
+
+    @Override
+    public boolean isShared() {
+        return store.isShared();
+    }
+
+    @Override
+    public Optional<IntPredicate> rowPredicate(Predicate<?> predicate) {
+        return store.rowPredicate(predicate);
+    }
+
+    @Override
+    public Optional<int[]> candidates(List<? extends Predicate<?>> predicates) {
+        return indexes.candidates(predicates);
+    }
+}
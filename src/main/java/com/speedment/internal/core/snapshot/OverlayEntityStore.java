@@ -0,0 +1,119 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityStore} that hides some rows of another store and adds
+ * other rows after them, without copying the rows of the other store. The
+ * rows of the other store that are not hidden come first, in their original
+ * order, followed by the added rows.
+ * <p>
+ * Any index of the other store is still used to narrow down its rows. Added
+ * rows are always candidates, so they should be few compared to the rows of
+ * the other store.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class OverlayEntityStore<ENTITY> implements EntityStore<ENTITY> {
+
+    private final EntityStore<ENTITY> base;
+    private final BitSet hidden;
+    private final EntityStore<ENTITY> added;
+    private final int[] baseRows;
+    private final int[] overlayRows;
+
+    /**
+     * Creates a new store.
+     *
+     * @param base    the store to add rows to
+     * @param hidden  the rows of the base store to hide, must not be modified
+     *                after this store is created
+     * @param added   the rows to add
+     */
+    public OverlayEntityStore(EntityStore<ENTITY> base, BitSet hidden, EntityStore<ENTITY> added) {
+        this.base = requireNonNull(base);
+        this.hidden = requireNonNull(hidden);
+        this.added = requireNonNull(added);
+        this.baseRows = IntStream.range(0, base.size()).filter(row -> !hidden.get(row)).toArray();
+        this.overlayRows = new int[base.size()];
+        Arrays.fill(overlayRows, -1);
+        for (int row = 0; row < baseRows.length; row++) {
+            overlayRows[baseRows[row]] = row;
+        }
+    }
+
+    @Override
+    public int size() {
+        return baseRows.length + added.size();
+    }
+
+    @Override
+    public ENTITY entity(int row) {
+        return row < baseRows.length
+            ? base.entity(baseRows[row])
+            : added.entity(row - baseRows.length);
+    }
+
+    @Override
+    public Object get(int row, ReferenceFieldTrait<ENTITY, ?, ?> field) {
+        return row < baseRows.length
+            ? base.get(baseRows[row], field)
+            : added.get(row - baseRows.length, field);
+    }
+
+    @Override
+    public Stream<ENTITY> stream() {
+        return Stream.concat(base.stream(row -> !hidden.get(row)), added.stream());
+    }
+
+    @Override
+    public boolean isShared() {
+        return base.isShared() || added.isShared();
+    }
+
+    @Override
+    public Optional<IntPredicate> rowPredicate(Predicate<?> predicate) {
+        @SuppressWarnings("unchecked")
+        final Predicate<? super ENTITY> entityPredicate = (Predicate<? super ENTITY>) predicate;
+
+        return base.rowPredicate(predicate).map(basePredicate ->
+            row -> row < baseRows.length
+                ? basePredicate.test(baseRows[row])
+                : entityPredicate.test(added.entity(row - baseRows.length))
+        );
+    }
+
+    @Override
+    public Optional<int[]> candidates(List<? extends Predicate<?>> predicates) {
+        return base.candidates(predicates).map(candidates -> IntStream.concat(
+            Arrays.stream(candidates).map(row -> overlayRows[row]).filter(row -> row >= 0),
+            IntStream.range(baseRows.length, size())
+        ).toArray());
+    }
+}
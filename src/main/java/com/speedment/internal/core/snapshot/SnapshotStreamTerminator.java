@@ -0,0 +1,141 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.internal.core.stream.builder.action.reference.MapAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToDoubleAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToIntAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToLongAction;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineRewriter;
+import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminator;
+import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.stream.Pipeline;
+import com.speedment.stream.StreamDecorator;
+import com.speedment.stream.action.Action;
+import static java.util.Objects.requireNonNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link StreamTerminator} for streams over an {@link EntityStore}. If the
+ * store has an index that can narrow down the rows accepted by the leading 
+ * filters, only those rows are read. Leading filters that the store can 
+ * evaluate on its rows are removed from the pipeline and applied by the 
+ * store instead, before any entity is created.
+ * <p>
+ * If the entities of the store are shared, the stream is rewritten to copy 
+ * every entity that passes the remaining leading filters before it can be
+ * observed by the rest of the pipeline. Entities that are filtered out are
+ * never copied.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class SnapshotStreamTerminator<ENTITY> implements StreamTerminator {
+
+    private final EntityStore<ENTITY> store;
+    private final UnaryOperator<ENTITY> copier;
+    private final StreamDecorator decorator;
+    private int[] candidates;
+    private IntPredicate rows;
+
+    /**
+     * Creates a new terminator.
+     *
+     * @param store      the store that is streamed
+     * @param copier     creates a copy of a stored entity
+     * @param decorator  the decorator of the stream
+     */
+    public SnapshotStreamTerminator(EntityStore<ENTITY> store, UnaryOperator<ENTITY> copier, StreamDecorator decorator) {
+        this.store = requireNonNull(store);
+        this.copier = requireNonNull(copier);
+        this.decorator = requireNonNull(decorator);
+    }
+
+    /**
+     * Returns the initial stream of the pipeline. This method must be called
+     * after the pipeline is optimized.
+     *
+     * @return the initial stream
+     */
+    public Stream<ENTITY> source() {
+        if (candidates == null) {
+            return rows == null ? store.stream() : store.stream(rows);
+        }
+        
+        final IntStream candidateRows = Arrays.stream(candidates);
+        return (rows == null ? candidateRows : candidateRows.filter(rows))
+            .mapToObj(store::entity);
+    }
+
+    @Override
+    public StreamDecorator getStreamDecorator() {
+        return decorator;
+    }
+
+    @Override
+    public <P extends Pipeline> P optimize(P initialPipeline) {
+        requireNonNull(initialPipeline);
+        PipelineRewriter.rewrite(initialPipeline);
+
+        final List<Predicate<? super ENTITY>> predicates = StreamTerminatorUtil.topLevelPredicates(initialPipeline);
+        candidates = store.candidates(predicates).orElse(null);
+        
+        int filters = 0;
+        for (final Predicate<? super ENTITY> predicate : predicates) {
+            final Optional<IntPredicate> rowPredicate = store.rowPredicate(predicate);
+            if (rowPredicate.isPresent()) {
+                rows = rows == null ? rowPredicate.get() : rows.and(rowPredicate.get());
+                initialPipeline.remove(filters);
+            } else {
+                filters++;
+            }
+        }
+        
+        if (store.isShared() && !isPrimitiveMapping(initialPipeline, filters)) {
+            initialPipeline.add(filters, new MapAction<ENTITY, ENTITY>(copier));
+        }
+
+        return getStreamDecorator().apply(initialPipeline);
+    }
+
+    /**
+     * Returns if the action at the given index maps the entities to 
+     * primitive values. The entities can then not escape the stream and need
+     * not be copied.
+     *
+     * @param pipeline  the pipeline
+     * @param index     the index of the action
+     * @return          {@code true} if the action is a primitive mapping
+     */
+    private static boolean isPrimitiveMapping(Pipeline pipeline, int index) {
+        if (index >= pipeline.size()) {
+            return false;
+        }
+
+        final Action<?, ?> action = pipeline.get(index);
+        return action instanceof MapToIntAction
+            || action instanceof MapToLongAction
+            || action instanceof MapToDoubleAction;
+    }
+}
@@ -0,0 +1,388 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.component.snapshot.SnapshotStreamSupplierComponent.Storage;
+import com.speedment.config.db.Index;
+import com.speedment.config.db.IndexColumn;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.trait.HasOrdinalPosition;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.snapshot.file.SnapshotFile;
+import com.speedment.internal.core.snapshot.index.SecondaryIndexes;
+import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import com.speedment.manager.Manager;
+import com.speedment.stream.StreamDecorator;
+import java.io.IOException;
+import java.nio.file.Path;
+import static java.util.Objects.requireNonNull;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import java.util.stream.Stream;
+
+/**
+ * The rows of a table held in memory. The rows are loaded from the database
+ * the first time they are needed and are then replaced atomically every 
+ * time the snapshot is reloaded.
+ * <p>
+ * The leading column of every enabled index of the table is indexed in 
+ * memory as well, so that streams filtering on it only read matching rows.
+ * <p>
+ * If the changes of the table are tracked by a {@link ChangeTracker}, the 
+ * snapshot can also be refreshed by only reading the rows that have changed
+ * since they were last read. The changed rows are laid over the rows that 
+ * were last loaded in a new snapshot that then replaces the current one, so
+ * streams are never blocked by a refresh. Once the changed rows have grown 
+ * to a fraction of the table, they are merged with the loaded rows into a 
+ * new store with new indexes. Such a snapshot can also be saved to a 
+ * {@link SnapshotFile} and later be restored from it and refreshed, instead
+ * of being reloaded.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class TableSnapshot<ENTITY> {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(TableSnapshot.class);
+    
+    /**
+     * The changed rows are merged with the loaded rows once there are more 
+     * than one in this many of them.
+     */
+    private static final int MERGE_RATIO = 8;
+
+    private final Manager<ENTITY> manager;
+    private final Storage storage;
+    private final ChangeTracker<ENTITY, ?> tracker;
+    private volatile EntityStore<ENTITY> store;
+    
+    // The rows that were last loaded and the changes laid over them
+    private EntityStore<ENTITY> loaded;
+    private Map<Object, Integer> loadedRows;
+    private BitSet replaced;
+    private Map<Object, ENTITY> changed;
+
+    public TableSnapshot(Manager<ENTITY> manager, Storage storage) {
+        this(manager, storage, null);
+    }
+
+    /**
+     * Creates a snapshot of the table of the given manager.
+     *
+     * @param manager  the manager of the table
+     * @param storage  how the rows are held
+     * @param tracker  tracks the changes of the table, or {@code null} if 
+     *                 changes are not tracked
+     */
+    public TableSnapshot(Manager<ENTITY> manager, Storage storage, ChangeTracker<ENTITY, ?> tracker) {
+        this.manager = requireNonNull(manager);
+        this.storage = requireNonNull(storage);
+        this.tracker = tracker; // Nullable
+    }
+
+    public Manager<ENTITY> getManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the current rows of the table, loading them from the database
+     * if this has not been done before.
+     *
+     * @return the current rows
+     */
+    public EntityStore<ENTITY> getStore() {
+        final EntityStore<ENTITY> current = store;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (store == null) {
+                reload();
+            }
+            return store;
+        }
+    }
+
+    /**
+     * Loads the rows of the table from the database and replaces the current
+     * rows with them. Streams that are already created continue to use the 
+     * rows they were created with.
+     */
+    public synchronized void reload() {
+        final long start = System.nanoTime();
+        final EntityStore<ENTITY> loaded;
+        try (final Stream<ENTITY> entities = manager.nativeStream(StreamDecorator.IDENTITY)) {
+            if (tracker == null) {
+                loaded = load(entities);
+            } else {
+                tracker.reset();
+                loaded = load(entities.peek(tracker::seen).filter(e -> !tracker.isDeleted(e)));
+            }
+        }
+
+        setLoaded(loaded);
+        LOGGER.info("Loaded %d rows of %s in %d ms", 
+            loaded.size(), 
+            manager.getTable().getName(), 
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    /**
+     * Reads the rows that have changed since they were last read and merges
+     * them with the current rows. Changed rows replace the current rows with 
+     * the same primary key and tombstones remove them. If changes are not
+     * tracked or if the rows have not been loaded yet, the whole table is 
+     * reloaded instead.
+     * <p>
+     * The first refresh after a load maps the primary key of every loaded 
+     * row to its position. After that, a refresh only copies the changed 
+     * rows and the positions of the other rows, until the changes are merged 
+     * with the loaded rows.
+     * <p>
+     * Rows that are deleted from the database without leaving a tombstone 
+     * are only removed by a {@link #reload()}.
+     */
+    public synchronized void refresh() {
+        final EntityStore<ENTITY> current = store;
+        if (tracker == null || current == null) {
+            reload();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final Map<Object, ENTITY> changes = new HashMap<>();
+        try (final Stream<ENTITY> changed = manager.nativeStream(StreamDecorator.IDENTITY).filter(tracker.isChanged())) {
+            changed.forEach(entity -> changes.merge(manager.primaryKeyFor(entity), entity, 
+                (a, b) -> tracker.isNewer(b, a) ? b : a
+            ));
+        }
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (loadedRows == null) {
+            loadedRows = new HashMap<>();
+            for (int row = 0; row < loaded.size(); row++) {
+                loadedRows.put(manager.primaryKeyFor(loaded.entity(row)), row);
+            }
+        }
+
+        final BitSet nextReplaced = (BitSet) replaced.clone();
+        final Map<Object, ENTITY> nextChanged = new LinkedHashMap<>(changed);
+        changes.forEach((key, entity) -> {
+            final Integer row = loadedRows.get(key);
+            if (row != null) {
+                nextReplaced.set(row);
+            }
+            
+            // A changed row is moved last, like an inserted row
+            nextChanged.remove(key);
+            if (!tracker.isDeleted(entity)) {
+                nextChanged.put(key, entity);
+            }
+        });
+
+        final EntityStore<ENTITY> refreshed;
+        if (nextReplaced.cardinality() + nextChanged.size() > loaded.size() / MERGE_RATIO) {
+            final EntityStore<ENTITY> merged = load(Stream.concat(
+                loaded.stream(row -> !nextReplaced.get(row)), 
+                nextChanged.values().stream()
+            ));
+            setLoaded(merged);
+            refreshed = merged;
+        } else {
+            replaced = nextReplaced;
+            changed = nextChanged;
+            refreshed = new OverlayEntityStore<>(loaded, nextReplaced, ArrayEntityStore.of(nextChanged.values().stream()));
+            store = refreshed;
+        }
+        
+        // Only move past the changes once they are part of the snapshot
+        changes.values().forEach(tracker::seen);
+        LOGGER.debug("Merged %d changed rows into %d rows of %s in %d ms", 
+            changes.size(),
+            refreshed.size(), 
+            manager.getTable().getName(), 
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    /**
+     * Writes the current rows to a snapshot file in the given directory. If
+     * the rows have not been loaded, nothing is written.
+     *
+     * @param directory  the directory of the snapshot file
+     * @throws IOException  if the file could not be written
+     */
+    public synchronized void save(Path directory) throws IOException {
+        final EntityStore<ENTITY> current = store;
+        if (current == null) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final SnapshotFile<ENTITY> file = fileIn(directory);
+        file.write(current);
+        LOGGER.info("Saved %d rows of %s to %s in %d ms", 
+            current.size(), 
+            manager.getTable().getName(), 
+            file.getPath(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    /**
+     * Restores the rows from the snapshot file in the given directory and 
+     * then refreshes them. Since only the changes made after the file was 
+     * written can be read from the database, this requires the changes of 
+     * the table to be tracked.
+     *
+     * @param directory  the directory of the snapshot file
+     * @return           {@code true} if the rows were restored, or 
+     *                   {@code false} if there is no valid snapshot file or
+     *                   if changes are not tracked
+     * @throws IOException  if the file could not be read
+     */
+    public synchronized boolean restore(Path directory) throws IOException {
+        if (tracker == null) {
+            return false;
+        }
+
+        final long start = System.nanoTime();
+        final SnapshotFile<ENTITY> file = fileIn(directory);
+        final Optional<Stream<ENTITY>> entities = file.read();
+        if (!entities.isPresent()) {
+            return false;
+        }
+
+        tracker.reset();
+        final EntityStore<ENTITY> restored = load(entities.get().peek(tracker::seen));
+        setLoaded(restored);
+        LOGGER.info("Restored %d rows of %s from %s in %d ms", 
+            restored.size(), 
+            manager.getTable().getName(), 
+            file.getPath(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+
+        refresh();
+        return true;
+    }
+
+    private void setLoaded(EntityStore<ENTITY> loaded) {
+        this.loaded = loaded;
+        this.loadedRows = null;
+        this.replaced = new BitSet();
+        this.changed = new LinkedHashMap<>();
+        this.store = loaded;
+    }
+
+    private SnapshotFile<ENTITY> fileIn(Path directory) {
+        final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields = fields();
+        final Table table = manager.getTable();
+        
+        // Any change of the columns that are stored invalidates the file
+        final String layout = fields.stream()
+            .map(f -> f.getIdentifier().columnName())
+            .map(name -> table.findColumn(name)
+                .map(c -> name + " " + c.getDatabaseType() + " " + c.getTypeMapper() + (c.isNullable() ? " NULL" : " NOT NULL"))
+                .orElse(name)
+            )
+            .collect(joining(", ", table.getName() + " (", ")"));
+        
+        return new SnapshotFile<>(
+            directory.resolve(manager.getEntityClass().getName() + ".snapshot"), 
+            layout, 
+            manager::newEmptyEntity, 
+            fields
+        );
+    }
+
+    private List<ReferenceFieldTrait<ENTITY, ?, ?>> fields() {
+        @SuppressWarnings("unchecked")
+        final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields = manager.fields()
+            .filter(ReferenceFieldTrait.class::isInstance)
+            .map(f -> (ReferenceFieldTrait<ENTITY, ?, ?>) f)
+            .collect(toList());
+        
+        return fields;
+    }
+
+    private EntityStore<ENTITY> load(Stream<ENTITY> entities) {
+        final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields = fields();
+        final EntityStore<ENTITY> loaded;
+        switch (storage) {
+            case HEAP : 
+                loaded = ArrayEntityStore.of(entities);
+                break;
+            case OFF_HEAP : 
+                loaded = ColumnarEntityStore.of(manager::newEmptyEntity, fields, entities);
+                break;
+            default : 
+                throw new IllegalStateException("Unknown storage " + storage);
+        }
+        
+        final Set<String> indexedColumns = manager.getTable().indexes()
+            .filter(Index::isEnabled)
+            .map(index -> index.indexColumns().sorted(HasOrdinalPosition.COMPARATOR).findFirst())
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .map(IndexColumn::getName)
+            .collect(toSet());
+        
+        final List<ReferenceFieldTrait<ENTITY, ?, ?>> indexed = fields.stream()
+            .filter(f -> indexedColumns.contains(f.getIdentifier().columnName()))
+            .collect(toList());
+        
+        if (indexed.isEmpty()) {
+            return loaded;
+        }
+        
+        return new IndexedEntityStore<>(loaded, SecondaryIndexes.of(loaded, indexed));
+    }
+
+    /**
+     * Returns a stream over the current rows of the table.
+     *
+     * @param decorator  decorates the stream before building it
+     * @return           a stream over the rows
+     */
+    public Stream<ENTITY> stream(StreamDecorator decorator) {
+        requireNonNull(decorator);
+        final EntityStore<ENTITY> current = getStore();
+        final SnapshotStreamTerminator<ENTITY> terminator = new SnapshotStreamTerminator<>(current, manager::newCopyOf, decorator);
+        final Supplier<BaseStream<?, ?>> initialSupplier = () -> decorator.applyOnInitial(terminator.source());
+        return decorator.applyOnFinal(new ReferenceStreamBuilder<>(new PipelineImpl<>(initialSupplier), terminator));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+/**
+ * Builds a {@link ColumnVector} by appending the value of one row at a time.
+ *
+ * @author pemi
+ */
+public interface ColumnBuilder {
+
+    /**
+     * Appends the value of the next row.
+     *
+     * @param value  the value, or {@code null}
+     */
+    void append(Object value);
+
+    /**
+     * Returns the column with all the values appended so far. The builder 
+     * must not be used after this method is called.
+     *
+     * @return the column
+     */
+    ColumnVector build();
+
+    /**
+     * Returns a builder for a column of values of the given Java type. Boxed
+     * primitives are stored using their primitive encoding, while all other
+     * types are dictionary encoded.
+     *
+     * @param javaType  the Java type of the values
+     * @return          the new builder
+     */
+    static ColumnBuilder forType(Class<?> javaType) {
+        return PrimitiveEncoding.of(javaType)
+            .<ColumnBuilder>map(PrimitiveColumn::builder)
+            .orElseGet(DictionaryColumn::builder);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import java.util.function.IntPredicate;
+
+/**
+ * The values of a single column for all rows of a table.
+ *
+ * @author pemi
+ */
+public interface ColumnVector {
+
+    /**
+     * Returns the number of rows in this column.
+     *
+     * @return the number of rows
+     */
+    int size();
+
+    /**
+     * Returns if the value of the given row is {@code null}.
+     *
+     * @param row  the row
+     * @return     {@code true} if the value is {@code null}
+     */
+    boolean isNull(int row);
+
+    /**
+     * Returns the value of the given row, or {@code null}.
+     *
+     * @param row  the row
+     * @return     the value
+     */
+    Object get(int row);
+
+    /**
+     * Returns a predicate over the rows of this column that accepts exactly 
+     * the rows whose value is accepted by the given predicate. The predicate
+     * must be a predicate on the field of this column.
+     * <p>
+     * The default implementation tests the value of each row with the given
+     * predicate. Implementations may override this method to evaluate the
+     * predicate directly against the stored representation.
+     *
+     * @param predicate  the predicate on the field of this column
+     * @return           the predicate over the rows
+     */
+    default IntPredicate matcher(SpeedmentPredicateImpl<?, ?, ?> predicate) {
+        @SuppressWarnings("unchecked")
+        final SpeedmentPredicateImpl<?, ?, Object> p = (SpeedmentPredicateImpl<?, ?, Object>) predicate;
+        final boolean negated = p.isNegated();
+        return row -> p.testField(get(row)) ^ negated;
+    }
+}
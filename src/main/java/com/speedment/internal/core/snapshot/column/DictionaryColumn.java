@@ -0,0 +1,136 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * A column where every distinct value is stored once in a dictionary on the
+ * heap, while the rows hold the index of their value in the dictionary as an
+ * {@code int} in an {@link OffHeapBuffer}. The code {@code -1} denotes
+ * {@code null}.
+ * <p>
+ * Predicates are evaluated once for every distinct value, after which each 
+ * row is matched by looking up its code.
+ *
+ * @author pemi
+ */
+final class DictionaryColumn implements ColumnVector {
+
+    private static final int NULL = -1;
+
+    private final Object[] dictionary;
+    private final OffHeapBuffer codes;
+    private final boolean hasNulls;
+    private final int size;
+
+    static ColumnBuilder builder() {
+        return new Builder();
+    }
+
+    private DictionaryColumn(Object[] dictionary, OffHeapBuffer codes, boolean hasNulls, int size) {
+        this.dictionary = requireNonNull(dictionary);
+        this.codes = requireNonNull(codes);
+        this.hasNulls = hasNulls;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+        return codeOf(row) == NULL;
+    }
+
+    @Override
+    public Object get(int row) {
+        final int code = codeOf(row);
+        return code == NULL ? null : dictionary[code];
+    }
+
+    @Override
+    public IntPredicate matcher(SpeedmentPredicateImpl<?, ?, ?> predicate) {
+        @SuppressWarnings("unchecked")
+        final SpeedmentPredicateImpl<?, ?, Object> p = (SpeedmentPredicateImpl<?, ?, Object>) predicate;
+        final boolean negated = p.isNegated();
+
+        // Index 0 holds the result for null and index i + 1 the result for
+        // the value with code i. Values that are not present are never 
+        // tested, just like when the predicate is applied to the entities.
+        final boolean[] matches = new boolean[dictionary.length + 1];
+        if (hasNulls) {
+            matches[0] = p.testField(null) ^ negated;
+        }
+        for (int i = 0; i < dictionary.length; i++) {
+            matches[i + 1] = p.testField(dictionary[i]) ^ negated;
+        }
+
+        return row -> matches[codeOf(row) + 1];
+    }
+
+    private int codeOf(int row) {
+        return codes.getInt((long) row * Integer.BYTES);
+    }
+
+    private static final class Builder implements ColumnBuilder {
+
+        private final Map<Object, Integer> codesByValue;
+        private final List<Object> dictionary;
+        private final OffHeapBuffer codes;
+        private boolean hasNulls;
+        private int size;
+
+        private Builder() {
+            this.codesByValue = new HashMap<>();
+            this.dictionary = new ArrayList<>();
+            this.codes = new OffHeapBuffer();
+        }
+
+        @Override
+        public void append(Object value) {
+            final int code;
+            if (value == null) {
+                code = NULL;
+                hasNulls = true;
+            } else {
+                code = codesByValue.computeIfAbsent(value, v -> {
+                    dictionary.add(v);
+                    return dictionary.size() - 1;
+                });
+            }
+
+            final long offset = (long) size * Integer.BYTES;
+            codes.ensureCapacity(offset + Integer.BYTES);
+            codes.putInt(offset, code);
+            size++;
+        }
+
+        @Override
+        public ColumnVector build() {
+            return new DictionaryColumn(dictionary.toArray(), codes, hasNulls, size);
+        }
+    }
+}
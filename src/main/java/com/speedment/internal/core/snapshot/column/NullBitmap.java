@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+/**
+ * A set of rows that are {@code null} in a column, stored as one bit per row
+ * in an {@link OffHeapBuffer}. Memory is only allocated up to the last row
+ * that has been set.
+ *
+ * @author pemi
+ */
+final class NullBitmap {
+
+    private final OffHeapBuffer bits;
+
+    NullBitmap() {
+        this.bits = new OffHeapBuffer();
+    }
+
+    void set(int row) {
+        final long offset = offsetOf(row);
+        bits.ensureCapacity(offset + Long.BYTES);
+        bits.putLong(offset, bits.getLong(offset) | (1L << row));
+    }
+
+    boolean get(int row) {
+        final long offset = offsetOf(row);
+        return offset < bits.capacity() 
+            && (bits.getLong(offset) & (1L << row)) != 0;
+    }
+
+    private static long offsetOf(int row) {
+        return (long) (row >>> 6) * Long.BYTES;
+    }
+}
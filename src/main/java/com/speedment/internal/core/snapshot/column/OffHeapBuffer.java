@@ -0,0 +1,142 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A growable block of memory outside of the Java heap. The memory is divided
+ * into segments of {@link #SEGMENT_SIZE} bytes each, so the buffer is not
+ * limited to the 2 GB that a single {@code ByteBuffer} can address. Values 
+ * must be aligned to their size so that they never span two segments.
+ * <p>
+ * Memory is zeroed when allocated. Until the buffer holds a full segment,
+ * it grows by doubling in order to keep small tables small.
+ * <p>
+ * This class is not thread safe while it is written to. Once written, it can
+ * be read by any number of threads.
+ *
+ * @author pemi
+ */
+public final class OffHeapBuffer {
+
+    public static final int SEGMENT_SHIFT = 24;
+    public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int INITIAL_SIZE = 1 << 10;
+
+    private ByteBuffer[] segments;
+    private long capacity;
+
+    public OffHeapBuffer() {
+        this.segments = new ByteBuffer[0];
+    }
+
+    /**
+     * Returns the number of bytes allocated by this buffer.
+     *
+     * @return the number of bytes allocated
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Makes sure that the given number of bytes can be addressed.
+     *
+     * @param bytes  the number of bytes required
+     */
+    public void ensureCapacity(long bytes) {
+        while (capacity < bytes) {
+            final int last = segments.length - 1;
+            if (last >= 0 && segments[last].capacity() < SEGMENT_SIZE) {
+                final ByteBuffer grown = allocate(segments[last].capacity() * 2);
+                final ByteBuffer old = segments[last].duplicate();
+                old.clear();
+                grown.put(old).clear();
+                segments[last] = grown;
+            } else {
+                segments = Arrays.copyOf(segments, segments.length + 1);
+                segments[last + 1] = allocate(last < 0 ? INITIAL_SIZE : SEGMENT_SIZE);
+            }
+            capacity = (long) (segments.length - 1) * SEGMENT_SIZE + segments[segments.length - 1].capacity();
+        }
+    }
+
+    public byte getByte(long offset) {
+        return segment(offset).get(position(offset));
+    }
+
+    public void putByte(long offset, byte value) {
+        segment(offset).put(position(offset), value);
+    }
+
+    public short getShort(long offset) {
+        return segment(offset).getShort(position(offset));
+    }
+
+    public void putShort(long offset, short value) {
+        segment(offset).putShort(position(offset), value);
+    }
+
+    public int getInt(long offset) {
+        return segment(offset).getInt(position(offset));
+    }
+
+    public void putInt(long offset, int value) {
+        segment(offset).putInt(position(offset), value);
+    }
+
+    public long getLong(long offset) {
+        return segment(offset).getLong(position(offset));
+    }
+
+    public void putLong(long offset, long value) {
+        segment(offset).putLong(position(offset), value);
+    }
+
+    public float getFloat(long offset) {
+        return segment(offset).getFloat(position(offset));
+    }
+
+    public void putFloat(long offset, float value) {
+        segment(offset).putFloat(position(offset), value);
+    }
+
+    public double getDouble(long offset) {
+        return segment(offset).getDouble(position(offset));
+    }
+
+    public void putDouble(long offset, double value) {
+        segment(offset).putDouble(position(offset), value);
+    }
+
+    private ByteBuffer segment(long offset) {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)];
+    }
+
+    private static int position(long offset) {
+        return (int) (offset & SEGMENT_MASK);
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+import com.speedment.field.predicate.PredicateType;
+import com.speedment.internal.core.field.predicate.PredicateUtil;
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import com.speedment.internal.core.field.predicate.iface.type.HasFirstOperand;
+import static java.util.Objects.requireNonNull;
+import java.util.function.IntPredicate;
+
+/**
+ * A column of boxed primitive values stored using a fixed width 
+ * {@link PrimitiveEncoding} in an {@link OffHeapBuffer}. Rows that are
+ * {@code null} are recorded in a {@link NullBitmap}.
+ *
+ * @author pemi
+ */
+final class PrimitiveColumn implements ColumnVector {
+
+    private final PrimitiveEncoding encoding;
+    private final OffHeapBuffer values;
+    private final NullBitmap nulls;
+    private final int size;
+
+    static ColumnBuilder builder(PrimitiveEncoding encoding) {
+        return new Builder(encoding);
+    }
+
+    private PrimitiveColumn(PrimitiveEncoding encoding, OffHeapBuffer values, NullBitmap nulls, int size) {
+        this.encoding = requireNonNull(encoding);
+        this.values = requireNonNull(values);
+        this.nulls = nulls;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isNull(int row) {
+        return nulls != null && nulls.get(row);
+    }
+
+    @Override
+    public Object get(int row) {
+        return isNull(row) ? null : encoding.read(values, offsetOf(row));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Comparisons of integral columns with a non-null operand are evaluated
+     * without boxing the values of the rows.
+     */
+    @Override
+    public IntPredicate matcher(SpeedmentPredicateImpl<?, ?, ?> predicate) {
+        final PredicateType type = predicate.getPredicateType();
+        if (!encoding.isIntegral() 
+        ||  !(predicate instanceof HasFirstOperand) 
+        ||  !isComparison(type)) {
+            return ColumnVector.super.matcher(predicate);
+        }
+
+        final Object operand = PredicateUtil.getFirstOperandAsRaw(predicate);
+        if (!encoding.accepts(operand)) {
+            return ColumnVector.super.matcher(predicate);
+        }
+
+        final long value = ((Number) operand).longValue();
+        final boolean negated = predicate.isNegated();
+        final boolean whenNull = (type == PredicateType.NOT_EQUAL) ^ negated;
+
+        return row -> {
+            if (isNull(row)) {
+                return whenNull;
+            }
+
+            final int comparison = Long.compare(encoding.readLong(values, offsetOf(row)), value);
+            final boolean result;
+            switch (type) {
+                case EQUAL            : result = comparison == 0; break;
+                case NOT_EQUAL        : result = comparison != 0; break;
+                case GREATER_THAN     : result = comparison > 0;  break;
+                case GREATER_OR_EQUAL : result = comparison >= 0; break;
+                case LESS_THAN        : result = comparison < 0;  break;
+                case LESS_OR_EQUAL    : result = comparison <= 0; break;
+                default : throw new IllegalStateException("Unknown comparison " + type);
+            }
+            return result ^ negated;
+        };
+    }
+
+    private long offsetOf(int row) {
+        return (long) row * encoding.width();
+    }
+
+    private static boolean isComparison(PredicateType type) {
+        switch (type) {
+            case EQUAL:
+            case NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_OR_EQUAL:
+            case LESS_THAN:
+            case LESS_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final class Builder implements ColumnBuilder {
+
+        private final PrimitiveEncoding encoding;
+        private final OffHeapBuffer values;
+        private NullBitmap nulls;
+        private int size;
+
+        private Builder(PrimitiveEncoding encoding) {
+            this.encoding = requireNonNull(encoding);
+            this.values = new OffHeapBuffer();
+        }
+
+        @Override
+        public void append(Object value) {
+            final long offset = (long) size * encoding.width();
+            values.ensureCapacity(offset + encoding.width());
+            if (value == null) {
+                if (nulls == null) {
+                    nulls = new NullBitmap();
+                }
+                nulls.set(size);
+            } else if (encoding.accepts(value)) {
+                encoding.write(values, offset, value);
+            } else {
+                throw new IllegalArgumentException(
+                    "Value " + value + " of " + value.getClass() + 
+                    " can not be stored as " + encoding
+                );
+            }
+            size++;
+        }
+
+        @Override
+        public ColumnVector build() {
+            return new PrimitiveColumn(encoding, values, nulls, size);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.column;
+
+import java.util.Optional;
+
+/**
+ * The ways in which boxed primitive values are encoded in an 
+ * {@link OffHeapBuffer}.
+ *
+ * @author pemi
+ */
+enum PrimitiveEncoding {
+
+    BOOLEAN (Boolean.class, 1, false) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getByte(offset) != 0;
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putByte(offset, (byte) ((Boolean) value ? 1 : 0));
+        }
+    },
+
+    BYTE (Byte.class, 1, true) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getByte(offset);
+        }
+
+        @Override
+        long readLong(OffHeapBuffer buffer, long offset) {
+            return buffer.getByte(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putByte(offset, (Byte) value);
+        }
+    },
+
+    SHORT (Short.class, 2, true) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getShort(offset);
+        }
+
+        @Override
+        long readLong(OffHeapBuffer buffer, long offset) {
+            return buffer.getShort(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putShort(offset, (Short) value);
+        }
+    },
+
+    INT (Integer.class, 4, true) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        long readLong(OffHeapBuffer buffer, long offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putInt(offset, (Integer) value);
+        }
+    },
+
+    LONG (Long.class, 8, true) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        long readLong(OffHeapBuffer buffer, long offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putLong(offset, (Long) value);
+        }
+    },
+
+    FLOAT (Float.class, 4, false) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getFloat(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putFloat(offset, (Float) value);
+        }
+    },
+
+    DOUBLE (Double.class, 8, false) {
+        @Override
+        Object read(OffHeapBuffer buffer, long offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        void write(OffHeapBuffer buffer, long offset, Object value) {
+            buffer.putDouble(offset, (Double) value);
+        }
+    };
+
+    private final Class<?> javaType;
+    private final int width;
+    private final boolean integral;
+
+    private PrimitiveEncoding(Class<?> javaType, int width, boolean integral) {
+        this.javaType = javaType;
+        this.width = width;
+        this.integral = integral;
+    }
+
+    /**
+     * Returns the number of bytes used by each value.
+     *
+     * @return the width of a value
+     */
+    int width() {
+        return width;
+    }
+
+    /**
+     * Returns if the values are integral numbers that can be compared using
+     * {@link #readLong(OffHeapBuffer, long)}.
+     *
+     * @return {@code true} if the values are integral
+     */
+    boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Returns if the given value is of the Java type of this encoding.
+     *
+     * @param value  the value
+     * @return       {@code true} if the value can be encoded
+     */
+    boolean accepts(Object value) {
+        return javaType.isInstance(value);
+    }
+
+    abstract Object read(OffHeapBuffer buffer, long offset);
+
+    abstract void write(OffHeapBuffer buffer, long offset, Object value);
+
+    long readLong(OffHeapBuffer buffer, long offset) {
+        throw new UnsupportedOperationException(name() + " is not integral");
+    }
+
+    /**
+     * Returns the encoding of values of the given Java type, or an empty
+     * {@code Optional} if the type has no primitive encoding.
+     *
+     * @param javaType  the Java type
+     * @return          the encoding, if any
+     */
+    static Optional<PrimitiveEncoding> of(Class<?> javaType) {
+        for (final PrimitiveEncoding encoding : values()) {
+            if (encoding.javaType.equals(javaType)) {
+                return Optional.of(encoding);
+            }
+        }
+        return Optional.empty();
+    }
+}
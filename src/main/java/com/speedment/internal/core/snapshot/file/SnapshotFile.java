@@ -0,0 +1,281 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.file;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.snapshot.EntityStore;
+import com.speedment.internal.logging.Logger;
+import com.speedment.internal.logging.LoggerManager;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A file that holds the rows of a table snapshot, so that the snapshot can
+ * be restored without reading the table from the database.
+ * <p>
+ * The file starts with a header that holds the version of the file format
+ * and the layout of the columns that the rows were written with. The rows
+ * follow in blocks that each have a checksum of their row count, length and
+ * content, and the file ends with an empty block. A file is only read if it
+ * is complete, if every length and checksum is correct and if both the 
+ * format and the layout are the same as those of the reader. Blocks are 
+ * memory mapped when the file is read.
+ * <p>
+ * Files are written to a temporary file that then replaces the previous 
+ * file atomically, so a file is never observed partially written.
+ *
+ * @author pemi
+ * @param <ENTITY>  the entity type
+ */
+public final class SnapshotFile<ENTITY> {
+
+    private static final Logger LOGGER = LoggerManager.getLogger(SnapshotFile.class);
+
+    static final long MAGIC = 0x5350454544534E50L;
+    static final int VERSION = 2;
+    static final int BLOCK_SIZE = 1 << 24;
+    private static final int BLOCK_HEADER_SIZE = 16;
+    private static final int END = -1;
+
+    private final Path path;
+    private final String layout;
+    private final Supplier<ENTITY> constructor;
+    private final List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields;
+
+    /**
+     * Creates a snapshot file.
+     *
+     * @param path         the path of the file
+     * @param layout       a description of the columns of the table that 
+     *                     changes whenever the stored rows would change
+     * @param constructor  creates empty entities
+     * @param fields       the fields to store
+     */
+    public SnapshotFile(
+            Path path, 
+            String layout, 
+            Supplier<ENTITY> constructor, 
+            List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields) {
+        
+        this.path = requireNonNull(path);
+        this.layout = requireNonNull(layout);
+        this.constructor = requireNonNull(constructor);
+        this.fields = requireNonNull(fields);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Writes all rows of the given store to this file, replacing any 
+     * previous content.
+     *
+     * @param store  the rows to write
+     * @throws IOException  if the file could not be written
+     * @throws IllegalArgumentException  if a value can not be stored
+     */
+    public void write(EntityStore<ENTITY> store) throws IOException {
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            final byte[] layoutBytes = layout.getBytes(UTF_8);
+            out.writeInt(layoutBytes.length);
+            out.write(layoutBytes);
+
+            final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE);
+            final DataOutputStream rows = new DataOutputStream(block);
+            int rowsInBlock = 0;
+            for (int row = 0; row < store.size(); row++) {
+                for (final ReferenceFieldTrait<ENTITY, ?, ?> field : fields) {
+                    ValueCodec.writeValue(rows, store.get(row, field));
+                }
+
+                rowsInBlock++;
+                if (block.size() >= BLOCK_SIZE) {
+                    writeBlock(out, rowsInBlock, block);
+                    rowsInBlock = 0;
+                }
+            }
+
+            if (rowsInBlock > 0) {
+                writeBlock(out, rowsInBlock, block);
+            }
+            writeBlock(out, END, block);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+
+        Files.move(temporary, path, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the rows of this file, if the file exists and is valid. The 
+     * returned stream reads the rows from memory mapped blocks of the file.
+     *
+     * @return  the rows, or empty if the file does not exist or is invalid
+     * @throws IOException  if the file could not be read
+     */
+    public Optional<Stream<ENTITY>> read() throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        final List<Block> blocks = new ArrayList<>();
+        try (final FileChannel channel = FileChannel.open(path, READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(16);
+            if (!readFully(channel, header, 0) || header.getLong() != MAGIC) {
+                return invalid("it is not a snapshot file");
+            }
+
+            final int version = header.getInt();
+            if (version != VERSION) {
+                return invalid("its version " + version + " is not " + VERSION);
+            }
+
+            final int layoutLength = header.getInt();
+            if (layoutLength < 0 || layoutLength > channel.size() - header.capacity()) {
+                return invalid("the length of its layout is wrong");
+            }
+
+            final ByteBuffer layoutBytes = ByteBuffer.allocate(layoutLength);
+            if (!readFully(channel, layoutBytes, header.capacity())
+            ||  !layout.equals(new String(layoutBytes.array(), UTF_8))) {
+                return invalid("the layout of its columns has changed");
+            }
+
+            long position = header.capacity() + layoutBytes.capacity();
+            final ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+            while (true) {
+                blockHeader.clear();
+                if (!readFully(channel, blockHeader, position)) {
+                    return invalid("it is incomplete");
+                }
+
+                final int rows = blockHeader.getInt();
+                final int length = blockHeader.getInt();
+                final long checksum = blockHeader.getLong();
+                position += BLOCK_HEADER_SIZE;
+
+                if (rows == END && length == 0 && checksum == checksum(END, 0, ByteBuffer.allocate(0))) {
+                    break;
+                }
+
+                // Every value is at least one byte long
+                if (rows <= 0 || length < 0 || (long) rows * fields.size() > length) {
+                    return invalid("the length of a block is wrong");
+                }
+
+                if (length > channel.size() - position) {
+                    return invalid("it is incomplete");
+                }
+
+                final MappedByteBuffer buffer = channel.map(READ_ONLY, position, length);
+                if (checksum(rows, length, buffer.duplicate()) != checksum) {
+                    return invalid("the checksum of a block is wrong");
+                }
+
+                blocks.add(new Block(rows, buffer));
+                position += length;
+            }
+        }
+
+        // The mapped blocks remain valid after the channel is closed
+        return Optional.of(blocks.stream().flatMap(this::entities));
+    }
+
+    private Stream<ENTITY> entities(Block block) {
+        final ByteBuffer buffer = block.buffer.duplicate();
+        return IntStream.range(0, block.rows).mapToObj(i -> {
+            final ENTITY entity = constructor.get();
+            for (final ReferenceFieldTrait<ENTITY, ?, ?> field : fields) {
+                set(field, entity, ValueCodec.readValue(buffer));
+            }
+            return entity;
+        });
+    }
+
+    private <V> void set(ReferenceFieldTrait<ENTITY, ?, V> field, ENTITY entity, Object value) {
+        @SuppressWarnings("unchecked")
+        final V casted = (V) value;
+        field.setter().apply(entity, casted);
+    }
+
+    private Optional<Stream<ENTITY>> invalid(String reason) {
+        LOGGER.warn("Ignoring the snapshot file %s since %s.", path, reason);
+        return Optional.empty();
+    }
+
+    private static void writeBlock(DataOutputStream out, int rows, ByteArrayOutputStream block) throws IOException {
+        final byte[] bytes = block.toByteArray();
+        out.writeInt(rows);
+        out.writeInt(bytes.length);
+        out.writeLong(checksum(rows, bytes.length, ByteBuffer.wrap(bytes)));
+        out.write(bytes);
+        block.reset();
+    }
+
+    private static long checksum(int rows, int length, ByteBuffer content) {
+        final CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(8).putInt(rows).putInt(length).array());
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private static final class Block {
+
+        private final int rows;
+        private final ByteBuffer buffer;
+
+        private Block(int rows, ByteBuffer buffer) {
+            this.rows = rows;
+            this.buffer = buffer;
+        }
+    }
+}
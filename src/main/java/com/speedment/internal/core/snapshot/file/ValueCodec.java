@@ -0,0 +1,312 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.file;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * The ways in which the values of a row are encoded in a snapshot file. 
+ * Every value is preceded by the ordinal of its codec, so new codecs must be
+ * added last and existing codecs must never be changed without changing the 
+ * version of the file format.
+ *
+ * @author pemi
+ */
+enum ValueCodec {
+
+    NULL (Void.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return null;
+        }
+
+        @Override
+        void write(DataOutput out, Object value) {}
+    },
+
+    BOOLEAN (Boolean.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeBoolean((Boolean) value);
+        }
+    },
+
+    BYTE (Byte.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.get();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeByte((Byte) value);
+        }
+    },
+
+    SHORT (Short.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getShort();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeShort((Short) value);
+        }
+    },
+
+    INT (Integer.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeInt((Integer) value);
+        }
+    },
+
+    LONG (Long.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeLong((Long) value);
+        }
+    },
+
+    FLOAT (Float.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeFloat((Float) value);
+        }
+    },
+
+    DOUBLE (Double.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeDouble((Double) value);
+        }
+    },
+
+    CHARACTER (Character.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return buffer.getChar();
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeChar((Character) value);
+        }
+    },
+
+    STRING (String.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return new String(readBytes(buffer), UTF_8);
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            writeBytes(out, ((String) value).getBytes(UTF_8));
+        }
+    },
+
+    BYTES (byte[].class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return readBytes(buffer);
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            writeBytes(out, (byte[]) value);
+        }
+    },
+
+    BIG_INTEGER (BigInteger.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return new BigInteger(readBytes(buffer));
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        }
+    },
+
+    BIG_DECIMAL (BigDecimal.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            final int scale = buffer.getInt();
+            return new BigDecimal(new BigInteger(readBytes(buffer)), scale);
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            final BigDecimal decimal = (BigDecimal) value;
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        }
+    },
+
+    TIMESTAMP (Timestamp.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            final Timestamp timestamp = new Timestamp(buffer.getLong());
+            timestamp.setNanos(buffer.getInt());
+            return timestamp;
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            final Timestamp timestamp = (Timestamp) value;
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        }
+    },
+
+    DATE (Date.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return new Date(buffer.getLong());
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeLong(((Date) value).getTime());
+        }
+    },
+
+    TIME (Time.class) {
+        @Override
+        Object read(ByteBuffer buffer) {
+            return new Time(buffer.getLong());
+        }
+
+        @Override
+        void write(DataOutput out, Object value) throws IOException {
+            out.writeLong(((Time) value).getTime());
+        }
+    };
+
+    private static final ValueCodec[] VALUES = values();
+
+    private final Class<?> type;
+
+    ValueCodec(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Reads a value that was written by this codec.
+     *
+     * @param buffer  the buffer to read from
+     * @return        the value
+     */
+    abstract Object read(ByteBuffer buffer);
+
+    /**
+     * Writes a value of the type of this codec.
+     *
+     * @param out    the output to write to
+     * @param value  the value
+     * @throws IOException  if the value could not be written
+     */
+    abstract void write(DataOutput out, Object value) throws IOException;
+
+    /**
+     * Writes the given value preceded by its codec.
+     *
+     * @param out    the output to write to
+     * @param value  the value, or {@code null}
+     * @throws IOException  if the value could not be written
+     * @throws IllegalArgumentException  if the type of the value can not be 
+     *                                   encoded
+     */
+    static void writeValue(DataOutput out, Object value) throws IOException {
+        final ValueCodec codec = of(value);
+        out.writeByte(codec.ordinal());
+        codec.write(out, value);
+    }
+
+    /**
+     * Reads a value that was written by {@link #writeValue}.
+     *
+     * @param buffer  the buffer to read from
+     * @return        the value, or {@code null}
+     */
+    static Object readValue(ByteBuffer buffer) {
+        return VALUES[buffer.get()].read(buffer);
+    }
+
+    private static ValueCodec of(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+
+        for (final ValueCodec codec : VALUES) {
+            if (codec.type == value.getClass()) {
+                return codec;
+            }
+        }
+
+        throw new IllegalArgumentException(
+            "Values of " + value.getClass().getName() + " can not be stored in a snapshot file."
+        );
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index from each distinct value of a column to the rows that hold it.
+ * Lookups of a value take constant time. Rows where the column is 
+ * {@code null} are not indexed.
+ *
+ * @author pemi
+ */
+public final class HashIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Map<Object, int[]> rowsByValue;
+
+    /**
+     * Creates an index of the given values.
+     *
+     * @param values  the value of each row, or {@code null}
+     */
+    public HashIndex(Object[] values) {
+        final Map<Object, Integer> remaining = new HashMap<>();
+        for (final Object value : values) {
+            if (value != null) {
+                remaining.merge(value, 1, Integer::sum);
+            }
+        }
+
+        this.rowsByValue = new HashMap<>();
+        for (int row = 0; row < values.length; row++) {
+            final Object value = values[row];
+            if (value != null) {
+                final int[] rows = rowsByValue.computeIfAbsent(value, v -> new int[remaining.get(v)]);
+                rows[rows.length - remaining.merge(value, -1, Integer::sum) - 1] = row;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows that hold the given value.
+     *
+     * @param value  the value
+     * @return       the number of rows
+     */
+    public int count(Object value) {
+        return rowsByValue.getOrDefault(value, NO_ROWS).length;
+    }
+
+    /**
+     * Returns the number of rows that hold any of the given values.
+     *
+     * @param values  the distinct values
+     * @return        the number of rows
+     */
+    public int count(Collection<?> values) {
+        int count = 0;
+        for (final Object value : values) {
+            count += count(value);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the rows that hold any of the given values, in ascending 
+     * order.
+     *
+     * @param values  the distinct values
+     * @return        the rows
+     */
+    public int[] rows(Collection<?> values) {
+        final int[] rows = new int[count(values)];
+        int position = 0;
+        for (final Object value : values) {
+            final int[] matching = rowsByValue.getOrDefault(value, NO_ROWS);
+            System.arraycopy(matching, 0, rows, position, matching.length);
+            position += matching.length;
+        }
+
+        if (values.size() > 1) {
+            Arrays.sort(rows);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.index;
+
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.Inclusion;
+import com.speedment.field.predicate.PredicateType;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import static com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate.Type.AND;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRaw;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRawSet;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getSecondOperandAsRaw;
+import static com.speedment.internal.core.field.predicate.PredicateUtil.getThirdOperandAsInclusion;
+import com.speedment.internal.core.field.predicate.impl.SpeedmentPredicateImpl;
+import com.speedment.internal.core.snapshot.EntityStore;
+import static java.util.Collections.singleton;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The secondary indexes of an {@link EntityStore}. Every indexed field has a
+ * {@link HashIndex} that is used for {@code EQUAL} and {@code IN} predicates.
+ * Fields with comparable values also have a {@link SortedIndex} that is used
+ * for the range predicates and for {@code STARTS_WITH}.
+ * <p>
+ * Given the leading filters of a stream, the indexes plan which rows need to
+ * be considered by picking the single most selective index lookup. The 
+ * selectivity of each lookup is known exactly before any row is read.
+ *
+ * @author pemi
+ */
+public final class SecondaryIndexes {
+
+    private final Map<FieldIdentifier<?>, HashIndex> hashIndexes;
+    private final Map<FieldIdentifier<?>, SortedIndex> sortedIndexes;
+    private final int size;
+
+    /**
+     * Creates indexes of the given fields of all rows in the store.
+     *
+     * @param <ENTITY>  the entity type
+     * @param store     the store to index
+     * @param fields    the fields to index
+     * @return          the indexes
+     */
+    public static <ENTITY> SecondaryIndexes of(EntityStore<ENTITY> store, List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields) {
+        final SecondaryIndexes indexes = new SecondaryIndexes(store.size());
+        for (final ReferenceFieldTrait<ENTITY, ?, ?> field : fields) {
+            final Object[] values = new Object[store.size()];
+            boolean comparable = true;
+            for (int row = 0; row < values.length; row++) {
+                values[row] = store.get(row, field);
+                comparable &= values[row] == null || values[row] instanceof Comparable;
+            }
+
+            indexes.hashIndexes.put(field.getIdentifier(), new HashIndex(values));
+            if (comparable) {
+                indexes.sortedIndexes.put(field.getIdentifier(), new SortedIndex(values));
+            }
+        }
+        return indexes;
+    }
+
+    private SecondaryIndexes(int size) {
+        this.hashIndexes = new HashMap<>();
+        this.sortedIndexes = new HashMap<>();
+        this.size = size;
+    }
+
+    /**
+     * Returns the rows, in ascending order, that may be accepted by all of 
+     * the given predicates, if an index can narrow them down. The returned
+     * rows are a superset of the accepted rows, so the predicates must still
+     * be applied to them.
+     *
+     * @param predicates  the leading filters of a stream
+     * @return            the candidate rows, or empty if all rows must be read
+     */
+    public Optional<int[]> candidates(List<? extends Predicate<?>> predicates) {
+        Lookup best = null;
+        for (final Predicate<?> predicate : predicates) {
+            best = plan(predicate, best);
+        }
+        return Optional.ofNullable(best).map(lookup -> lookup.rows.get());
+    }
+
+    /**
+     * Returns the most selective of the given lookup and the lookups that 
+     * can be used for the predicate.
+     */
+    private Lookup plan(Predicate<?> predicate, Lookup best) {
+        if (predicate instanceof AbstractCombinedBasePredicate) {
+            final AbstractCombinedBasePredicate<?> combined = (AbstractCombinedBasePredicate<?>) predicate;
+            
+            // Every member of a conjunction must hold, so any of them can 
+            // be used to narrow the rows down
+            if (combined.getType() == AND && !combined.isNegated()) {
+                return combined.stream().reduce(best, (b, p) -> plan(p, b), (a, b) -> a);
+            }
+            return best;
+        }
+        
+        if (predicate instanceof SpeedmentPredicateImpl) {
+            final Lookup lookup = lookup((SpeedmentPredicateImpl<?, ?, ?>) predicate);
+            if (lookup != null && lookup.count < size && (best == null || lookup.count < best.count)) {
+                return lookup;
+            }
+        }
+        
+        return best;
+    }
+
+    /**
+     * Returns the lookup that finds every row that may be accepted by the 
+     * given predicate, or {@code null} if no index can be used.
+     */
+    private Lookup lookup(SpeedmentPredicateImpl<?, ?, ?> predicate) {
+        if (predicate.isNegated()) {
+            return null;
+        }
+        
+        final FieldIdentifier<?> identifier = predicate.getField().getIdentifier();
+        final HashIndex hash = hashIndexes.get(identifier);
+        final SortedIndex sorted = sortedIndexes.get(identifier);
+        final PredicateType type = predicate.getPredicateType();
+        
+        switch (type) {
+            case ALWAYS_FALSE : 
+                return new Lookup(0, () -> new int[0]);
+            case EQUAL : {
+                final Object operand = getFirstOperandAsRaw(predicate);
+                if (hash == null || operand == null) {
+                    return null;
+                }
+                final Set<?> values = singleton(operand);
+                return new Lookup(hash.count(values), () -> hash.rows(values));
+            }
+            case IN : {
+                final Set<?> values = getFirstOperandAsRawSet(predicate);
+                if (hash == null || values.contains(null)) {
+                    return null;
+                }
+                return new Lookup(hash.count(values), () -> hash.rows(values));
+            }
+            case GREATER_THAN :
+            case GREATER_OR_EQUAL : {
+                final Object operand = getFirstOperandAsRaw(predicate);
+                if (sorted == null || operand == null) {
+                    return null;
+                }
+                return range(sorted, sorted.from(operand, type == PredicateType.GREATER_OR_EQUAL), sorted.size());
+            }
+            case LESS_THAN :
+            case LESS_OR_EQUAL : {
+                final Object operand = getFirstOperandAsRaw(predicate);
+                if (sorted == null || operand == null) {
+                    return null;
+                }
+                return range(sorted, 0, sorted.to(operand, type == PredicateType.LESS_OR_EQUAL));
+            }
+            case BETWEEN : {
+                final Object start = getFirstOperandAsRaw(predicate);
+                final Object end = getSecondOperandAsRaw(predicate);
+                if (sorted == null || start == null || end == null) {
+                    return null;
+                }
+                final Inclusion inclusion = getThirdOperandAsInclusion(predicate);
+                return range(sorted, 
+                    sorted.from(start, inclusion.isStartInclusive()), 
+                    sorted.to(end, inclusion.isEndInclusive())
+                );
+            }
+            case STARTS_WITH : {
+                final Object prefix = getFirstOperandAsRaw(predicate);
+                if (sorted == null || !(prefix instanceof String)) {
+                    return null;
+                }
+                return range(sorted, sorted.from(prefix, true), sorted.toPrefix((String) prefix));
+            }
+            default : 
+                return null;
+        }
+    }
+
+    private static Lookup range(SortedIndex sorted, int from, int to) {
+        return new Lookup(Math.max(0, to - from), () -> sorted.rows(from, to));
+    }
+
+    private static final class Lookup {
+
+        private final int count;
+        private final Supplier<int[]> rows;
+
+        private Lookup(int count, Supplier<int[]> rows) {
+            this.count = count;
+            this.rows = rows;
+        }
+    }
+}
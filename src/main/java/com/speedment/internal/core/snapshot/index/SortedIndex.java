@@ -0,0 +1,153 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * An index of the rows of a column ordered by value. Rows holding a range
+ * of values are found by binary search in {@code O(log n)} time. Rows where
+ * the column is {@code null} are not indexed.
+ * <p>
+ * Values are ordered by their natural order, which is the same order that
+ * is used by the comparable predicates.
+ *
+ * @author pemi
+ */
+public final class SortedIndex {
+
+    private final Object[] values;
+    private final int[] rows;
+
+    /**
+     * Creates an index of the given values. All values that are not
+     * {@code null} must be mutually comparable.
+     *
+     * @param values  the value of each row, or {@code null}
+     */
+    public SortedIndex(Object[] values) {
+        this.rows = IntStream.range(0, values.length)
+            .filter(row -> values[row] != null)
+            .boxed()
+            .sorted(Comparator.comparing(row -> comparable(values[row])))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        this.values = new Object[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            this.values[i] = values[rows[i]];
+        }
+    }
+
+    /**
+     * Returns the position of the first indexed value that is greater than,
+     * or if inclusive equal to, the given value.
+     *
+     * @param value      the lower bound
+     * @param inclusive  if values equal to the bound are included
+     * @return           the start position of the range
+     */
+    public int from(Object value, boolean inclusive) {
+        return search(value, inclusive);
+    }
+
+    /**
+     * Returns the position after the last indexed value that is less than,
+     * or if inclusive equal to, the given value.
+     *
+     * @param value      the upper bound
+     * @param inclusive  if values equal to the bound are included
+     * @return           the end position of the range
+     */
+    public int to(Object value, boolean inclusive) {
+        return search(value, !inclusive);
+    }
+
+    /**
+     * Returns the position after the last indexed value that starts with the
+     * given prefix. Since strings that share a prefix are adjacent in their
+     * natural order, the range of such values starts at 
+     * {@code from(prefix, true)}. All indexed values must be strings.
+     *
+     * @param prefix  the prefix
+     * @return        the end position of the range
+     */
+    public int toPrefix(String prefix) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final String value = (String) values[mid];
+            if (value.compareTo(prefix) < 0 || value.startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of indexed rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the rows of the given range of positions, in ascending order.
+     *
+     * @param from  the start position, inclusive
+     * @param to    the end position, exclusive
+     * @return      the rows
+     */
+    public int[] rows(int from, int to) {
+        final int[] result = Arrays.copyOfRange(rows, from, Math.max(from, to));
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the first position whose value is greater than or equal to the
+     * given value if {@code lower} is {@code true}, and the first position 
+     * whose value is strictly greater than the given value otherwise.
+     */
+    private int search(Object value, boolean lower) {
+        final Comparable<Object> key = comparable(value);
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = key.compareTo(values[mid]);
+            if (comparison > 0 || (comparison == 0 && !lower)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+}
@@ -18,6 +18,7 @@ package com.speedment.internal.core.stream;
 
 import com.speedment.field.predicate.SpeedmentPredicate;
 import com.speedment.stream.HasParallelStrategy;
+import com.speedment.stream.HasStreamingMode;
 import com.speedment.stream.Pipeline;
 import com.speedment.stream.StreamDecorator;
 import java.util.Arrays;
@@ -96,4 +97,14 @@ public final class ComposedStreamDecorator implements StreamDecorator {
 
     }
 
+    @Override
+    public <H extends HasStreamingMode> H applyOnQuery(H hasStreamingMode) {
+        H h = hasStreamingMode;
+
+        for (StreamDecorator sd : decorators) {
+            h = sd.applyOnQuery(h);
+        }
+        return h;
+    }
+
 }
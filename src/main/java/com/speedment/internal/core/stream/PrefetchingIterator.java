@@ -0,0 +1,158 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.exception.SpeedmentException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@code Iterator} that reads the elements of another iterator ahead of
+ * time using a background thread. At most a fixed number of elements are 
+ * buffered, so the producing thread waits if the consumer falls behind. This
+ * lets slow I/O in the source iterator overlap with the processing of 
+ * previous elements.
+ * <p>
+ * The iterator must be closed if it is not read to the end. Closing it stops 
+ * the background thread, waits for it to finish and discards any buffered 
+ * elements, but does not close the source. Anything thrown by the source is 
+ * rethrown to the consumer.
+ *
+ * @author pemi
+ * @param <T> the element type
+ */
+public final class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> buffer;
+    private final Thread producer;
+    private volatile boolean closed;
+    private Object next;
+
+    /**
+     * Creates a new {@code PrefetchingIterator} and starts reading from the
+     * provided source.
+     *
+     * @param source  the iterator to read from, must not return 
+     *                {@code null} elements
+     * @param depth   the maximum number of buffered elements
+     */
+    public PrefetchingIterator(Iterator<? extends T> source, int depth) {
+        requireNonNull(source);
+        if (depth < 1) {
+            throw new IllegalArgumentException("The prefetch depth must be positive: " + depth);
+        }
+        
+        this.buffer   = new ArrayBlockingQueue<>(depth);
+        this.producer = new Thread(() -> produce(source), "speedment-prefetch-" + THREAD_COUNTER.incrementAndGet());
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = buffer.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new SpeedmentException("Interrupted while waiting for the next element", ie);
+            }
+        }
+        
+        if (next instanceof Failure) {
+            final Throwable thrown = ((Failure) next).thrown;
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            } else if (thrown instanceof Error) {
+                throw (Error) thrown;
+            } else {
+                throw new SpeedmentException("Failed to read the next element", thrown);
+            }
+        }
+        
+        return next != END;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        
+        @SuppressWarnings("unchecked")
+        final T result = (T) next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Stops the background thread and waits for it to finish, so that the
+     * source is no longer used once this method returns.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        producer.interrupt();
+        buffer.clear();
+        
+        try {
+            producer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new SpeedmentException("Interrupted while waiting for the prefetching thread", ie);
+        }
+        
+        buffer.clear();
+    }
+
+    private void produce(Iterator<? extends T> source) {
+        try {
+            while (!closed && source.hasNext()) {
+                buffer.put(requireNonNull(source.next()));
+            }
+            if (!closed) {
+                buffer.put(END);
+            }
+        } catch (InterruptedException ie) {
+            // Closed by the consumer
+        } catch (Throwable thrown) {
+            if (!closed) {
+                try {
+                    buffer.put(new Failure(thrown));
+                } catch (InterruptedException ie) {
+                    // Closed by the consumer
+                }
+            }
+        }
+    }
+
+    private static final class Failure {
+
+        private final Throwable thrown;
+
+        private Failure(Throwable thrown) {
+            this.thrown = thrown;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.stream.Flow.Publisher;
+import com.speedment.stream.Flow.Subscriber;
+import com.speedment.stream.Flow.Subscription;
+import static java.util.Objects.requireNonNull;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Publisher} that pulls elements from a {@link Stream} only as
+ * subscribers signal demand. A new stream is created for each subscriber. The
+ * stream is iterated on the given executor, and a thread is only occupied
+ * while there is unfulfilled demand. For database streams, this means that
+ * rows are fetched from the cursor as they are requested rather than being
+ * buffered in memory.
+ * <p>
+ * The stream is closed when it is exhausted, when it fails and when the
+ * subscription is cancelled.
+ *
+ * @author pemi
+ * @param <T> the element type
+ */
+public final class StreamPublisher<T> implements Publisher<T> {
+
+    private final Supplier<? extends Stream<T>> streamSupplier;
+    private final Executor executor;
+
+    public StreamPublisher(Supplier<? extends Stream<T>> streamSupplier, Executor executor) {
+        this.streamSupplier = requireNonNull(streamSupplier);
+        this.executor = requireNonNull(executor);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber);
+        final StreamSubscription<T> subscription = new StreamSubscription<>(subscriber, streamSupplier, executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class StreamSubscription<T> implements Subscription, Runnable {
+
+        private final Subscriber<? super T> subscriber;
+        private final Supplier<? extends Stream<T>> streamSupplier;
+        private final Executor executor;
+        private final AtomicLong demand;
+        private final AtomicInteger pending;
+
+        // Only accessed from within run(), which is never executed concurrently
+        private Stream<T> stream;
+        private Iterator<T> iterator;
+
+        private volatile boolean done;
+        private volatile Throwable illegalRequest;
+
+        private StreamSubscription(Subscriber<? super T> subscriber, Supplier<? extends Stream<T>> streamSupplier, Executor executor) {
+            this.subscriber = subscriber;
+            this.streamSupplier = streamSupplier;
+            this.executor = executor;
+            this.demand = new AtomicLong();
+            this.pending = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                illegalRequest = new IllegalArgumentException(
+                    "The number of requested elements must be positive, was " + n + "."
+                );
+            } else {
+                demand.getAndUpdate(current -> {
+                    final long sum = current + n;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (done) {
+                    closeStream();
+                    return;
+                }
+                if (illegalRequest != null) {
+                    fail(illegalRequest);
+                    return;
+                }
+                try {
+                    if (iterator == null) {
+                        stream = streamSupplier.get();
+                        iterator = stream.iterator();
+                    }
+
+                    final long requested = demand.get();
+                    long emitted = 0;
+                    while (emitted != requested && !done) {
+                        if (!iterator.hasNext()) {
+                            done = true;
+                            closeStream();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(iterator.next());
+                        emitted++;
+                    }
+                    if (emitted != 0 && requested != Long.MAX_VALUE) {
+                        demand.addAndGet(-emitted);
+                    }
+                } catch (final RuntimeException ex) {
+                    fail(ex);
+                    return;
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fail(Throwable throwable) {
+            done = true;
+            closeStream();
+            subscriber.onError(throwable);
+        }
+
+        private void closeStream() {
+            if (stream != null) {
+                final Stream<T> toClose = stream;
+                stream = null;
+                iterator = null;
+                toClose.close();
+            }
+        }
+    }
+}
@@ -76,7 +76,7 @@ public final class StreamUtil {
         requireNonNull(resultSet);
         requireNonNull(mapper);
         final Iterator<T> iterator = new ResultSetIterator<>(resultSet, mapper);
-        return StreamSupport.stream(parallelStrategy.spliteratorUnknownSize(iterator, Spliterator.IMMUTABLE + Spliterator.NONNULL), false);
+        return StreamSupport.stream(parallelStrategy.spliteratorUnknownSize(iterator, Spliterator.ORDERED + Spliterator.IMMUTABLE + Spliterator.NONNULL), false);
     }
 
     public static <T> Stream<T> from(Optional<T> optional) {
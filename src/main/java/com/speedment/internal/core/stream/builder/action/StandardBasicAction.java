@@ -18,6 +18,7 @@ package com.speedment.internal.core.stream.builder.action;
 
 import com.speedment.stream.action.BasicAction;
 import com.speedment.stream.action.Property;
+import static com.speedment.stream.action.Property.INDEPENDENT;
 import static com.speedment.stream.action.Property.ORDER;
 import static com.speedment.stream.action.Property.SIDE_EFFECT;
 import static com.speedment.stream.action.Property.SIZE;
@@ -39,7 +40,8 @@ public enum StandardBasicAction implements BasicAction {
     FILTER(
         Statement.of(PRESERVE, ORDER),
         Statement.of(PRESERVE, TYPE),
-        Statement.of(PRESERVE, STREAM_TYPE)
+        Statement.of(PRESERVE, STREAM_TYPE),
+        Statement.of(SET, INDEPENDENT)
     ),
     DISTINCT(
         Statement.of(PRESERVE, ORDER),
@@ -17,6 +17,7 @@
 package com.speedment.internal.core.stream.builder.action.reference;
 
 import static com.speedment.internal.core.stream.builder.action.StandardBasicAction.MAP;
+import com.speedment.internal.core.stream.builder.action.trait.HasMapper;
 import com.speedment.stream.action.Action;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Function;
@@ -28,10 +29,18 @@ import java.util.stream.Stream;
  * @param <T> the input type of the stream elements
  * @param <R> the output type of the stream elements
  */
-public final class MapAction<T, R> extends Action<Stream<T>, Stream<R>> {
+public final class MapAction<T, R> extends Action<Stream<T>, Stream<R>> implements HasMapper<Function<? super T, ? extends R>> {
+
+    private final Function<? super T, ? extends R> mapper;
 
     public MapAction(Function<? super T, ? extends R> mapper) {
         super(s -> s.map(requireNonNull(mapper)), Stream.class, MAP);
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Function<? super T, ? extends R> getMapper() {
+        return mapper;
     }
 
 }
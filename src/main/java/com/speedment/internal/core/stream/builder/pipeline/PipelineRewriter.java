@@ -0,0 +1,164 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.builder.pipeline;
+
+import com.speedment.internal.core.field.predicate.AbstractBasePredicate;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate.AndCombinedBasePredicate;
+import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.stream.Pipeline;
+import com.speedment.stream.action.Action;
+import com.speedment.stream.action.Property;
+import static com.speedment.stream.action.Property.INDEPENDENT;
+import static com.speedment.stream.action.Property.SIDE_EFFECT;
+import static com.speedment.stream.action.Property.SORTED;
+import static com.speedment.stream.action.Verb.SET;
+import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rewrites a {@link Pipeline} into an equivalent pipeline that is easier to
+ * optimize. The rewrite is performed in place and consists of the following
+ * rules that are applied until no rule matches anymore:
+ * <ul>
+ *   <li>An action that handles every element independently, like a filter,
+ *       and that directly follows a sort is moved in front of the sort. The
+ *       same elements are then retained, and sorting fewer elements is 
+ *       cheaper. Whether an action may be moved is decided by its
+ *       {@link Property properties}, so any action that declares itself 
+ *       {@link Property#INDEPENDENT} is moved.
+ *   <li>Two adjacent filters with Speedment predicates are merged into a 
+ *       single filter with a combined predicate.
+ *   <li>Two adjacent sorts are merged into a single sort. Since sorting is
+ *       stable, the last sort decides the order and the first one only breaks
+ *       ties.
+ * </ul>
+ * <p>
+ * Actions with side effects, like {@code peek}, are never moved or merged 
+ * since that would change what they observe.
+ *
+ * @author pemi
+ */
+public final class PipelineRewriter {
+
+    /**
+     * Rewrites the provided pipeline in place.
+     *
+     * @param <P>       the pipeline type
+     * @param pipeline  the pipeline to rewrite
+     * @return          the same pipeline, for convenience
+     */
+    public static <P extends Pipeline> P rewrite(P pipeline) {
+        requireNonNull(pipeline);
+        
+        boolean changed;
+        do {
+            changed = false;
+            for (int i = 1; i < pipeline.size(); i++) {
+                if (hoistIndependent(pipeline, i) 
+                ||  mergeFilters(pipeline, i) 
+                ||  mergeSorts(pipeline, i)) {
+                    changed = true;
+                }
+            }
+        } while (changed);
+        
+        return pipeline;
+    }
+
+    private static boolean hoistIndependent(Pipeline pipeline, int index) {
+        final Action<?, ?> previous = pipeline.get(index - 1);
+        final Action<?, ?> action   = pipeline.get(index);
+        
+        if (previous.is(SET, SORTED) 
+        &&  action.is(SET, INDEPENDENT) 
+        && !action.is(SET, SIDE_EFFECT)) {
+            pipeline.add(index - 1, pipeline.remove(index));
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean mergeFilters(Pipeline pipeline, int index) {
+        final Action<?, ?> first  = pipeline.get(index - 1);
+        final Action<?, ?> second = pipeline.get(index);
+        
+        if (first instanceof FilterAction && second instanceof FilterAction) {
+            @SuppressWarnings("unchecked")
+            final FilterAction<Object> firstFilter  = (FilterAction<Object>) first;
+            @SuppressWarnings("unchecked")
+            final FilterAction<Object> secondFilter = (FilterAction<Object>) second;
+            
+            if (firstFilter.getPredicate() instanceof AbstractBasePredicate
+            &&  secondFilter.getPredicate() instanceof AbstractBasePredicate) {
+                @SuppressWarnings("unchecked")
+                final AbstractBasePredicate<Object> predicate = 
+                    (AbstractBasePredicate<Object>) firstFilter.getPredicate();
+                
+                pipeline.remove(index);
+                pipeline.remove(index - 1);
+                pipeline.add(index - 1, new FilterAction<>(
+                    new AndCombinedBasePredicate<>(predicate, secondFilter.getPredicate())
+                ));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mergeSorts(Pipeline pipeline, int index) {
+        final Action<?, ?> first  = pipeline.get(index - 1);
+        final Action<?, ?> second = pipeline.get(index);
+        
+        if (isSort(first) && isSort(second)) {
+            final Comparator<Object> firstComparator  = comparatorOf(first);
+            final Comparator<Object> secondComparator = comparatorOf(second);
+            
+            pipeline.remove(index);
+            
+            if (firstComparator != secondComparator) {
+                pipeline.remove(index - 1);
+                pipeline.add(index - 1, new SortedComparatorAction<>(
+                    secondComparator.thenComparing(firstComparator)
+                ));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isSort(Action<?, ?> action) {
+        return action instanceof SortedAction 
+            || action instanceof SortedComparatorAction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparatorOf(Action<?, ?> action) {
+        if (action instanceof SortedComparatorAction) {
+            return (Comparator<Object>) ((SortedComparatorAction<?>) action).getComparator();
+        } else {
+            @SuppressWarnings("rawtypes")
+            final Comparator natural = Comparator.naturalOrder();
+            return (Comparator<Object>) natural;
+        }
+    }
+
+    private PipelineRewriter() {
+    }
+
+}
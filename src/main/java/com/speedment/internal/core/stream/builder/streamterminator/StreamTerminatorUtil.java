@@ -16,8 +16,6 @@
  */
 package com.speedment.internal.core.stream.builder.streamterminator;
 
-import com.speedment.field.predicate.SpeedmentPredicate;
-import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
 import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
 import com.speedment.internal.util.Cast;
 import com.speedment.stream.Pipeline;
@@ -35,46 +33,31 @@ import static java.util.stream.Collectors.toList;
  */
 public class StreamTerminatorUtil {
 
-    public static <T extends Pipeline, ENTITY> List<SpeedmentPredicate<ENTITY, ?, ?>> topLevelAndPredicates(T initialPipeline) {
-        final List<SpeedmentPredicate<ENTITY, ?, ?>> andPredicateBuilders = new ArrayList<>();
+    /**
+     * Returns the predicates of the initial consecutive {@link FilterAction}s
+     * of the provided pipeline. The predicates are returned in pipeline order.
+     *
+     * @param <T>              the pipeline type
+     * @param <ENTITY>         the entity type
+     * @param initialPipeline  the pipeline to inspect
+     * @return                 the predicates of the leading filters
+     */
+    public static <T extends Pipeline, ENTITY> List<Predicate<? super ENTITY>> topLevelPredicates(T initialPipeline) {
+        requireNonNull(initialPipeline);
+        final List<Predicate<? super ENTITY>> predicates = new ArrayList<>();
 
         for (final Action<?, ?> action : initialPipeline.stream().collect(toList())) {
             @SuppressWarnings("rawtypes")
             final Optional<FilterAction> oFilterAction = Cast.cast(action, FilterAction.class);
             if (oFilterAction.isPresent()) {
                 @SuppressWarnings("unchecked")
-                final List<SpeedmentPredicate<ENTITY, ?, ?>> newAndPredicates = andPredicates(oFilterAction.get());
-                andPredicateBuilders.addAll(newAndPredicates);
+                final FilterAction<ENTITY> filterAction = oFilterAction.get();
+                predicates.add(filterAction.getPredicate());
             } else {
                 break; // We can only do initial consecutive FilterAction(s)
             }
         }
-        return andPredicateBuilders;
-    }
-
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public static <ENTITY> List<SpeedmentPredicate<?, ?, ?>> andPredicates(FilterAction<ENTITY> action) {
-        requireNonNull(action);
-        final List<SpeedmentPredicate<?, ?, ?>> andPredicateBuilders = new ArrayList<>();
-        final Predicate<? super ENTITY> predicate = action.getPredicate();
-
-        final Optional<SpeedmentPredicate> oPredicateBuilder = Cast.cast(predicate, SpeedmentPredicate.class);
-        if (oPredicateBuilder.isPresent()) {
-            andPredicateBuilders.add(oPredicateBuilder.get()); // Just a top level predicate builder
-        } else {
-
-            final Optional<AbstractCombinedBasePredicate.AndCombinedBasePredicate> oAndCombinedBasePredicate = Cast.cast(predicate, AbstractCombinedBasePredicate.AndCombinedBasePredicate.class);
-            if (oAndCombinedBasePredicate.isPresent()) {
-
-                final AbstractCombinedBasePredicate.AndCombinedBasePredicate<ENTITY> andCombinedBasePredicate = (AbstractCombinedBasePredicate.AndCombinedBasePredicate<ENTITY>) oAndCombinedBasePredicate.get();
-                andCombinedBasePredicate.stream()
-                    .map(p -> Cast.cast(p, SpeedmentPredicate.class))
-                    .filter(p -> p.isPresent())
-                    .map(Optional::get)
-                    .forEachOrdered(andPredicateBuilders::add);
-            }
-        }
-        return andPredicateBuilders;
+        return predicates;
     }
 
     private StreamTerminatorUtil() {
@@ -0,0 +1,104 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.collector;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A {@link Collector} that computes an aggregate over a field (or, for 
+ * counting, over the elements themselves). The collector behaves exactly
+ * like the delegate collector that it is created with, but since the kind of
+ * aggregate and the field are known, it can also be computed by a database.
+ *
+ * @author pemi
+ * @param <T> the type of the input elements
+ * @param <R> the result type
+ */
+public final class AggregateCollector<T, R> implements Collector<T, Object, R> {
+
+    /**
+     * The kind of aggregate that is computed.
+     */
+    public enum Kind {
+        COUNT, SUM_INT, SUM_LONG, SUM_DOUBLE, MIN, MAX;
+    }
+    
+    private final Kind kind;
+    private final ReferenceFieldTrait<?, ?, ?> field;
+    private final Collector<T, Object, R> delegate;
+
+    @SuppressWarnings("unchecked")
+    public AggregateCollector(Kind kind, ReferenceFieldTrait<?, ?, ?> field, Collector<T, ?, R> delegate) {
+        this.kind     = requireNonNull(kind);
+        this.field    = field; // Nullable
+        this.delegate = (Collector<T, Object, R>) requireNonNull(delegate);
+    }
+
+    /**
+     * Returns the kind of aggregate that this collector computes.
+     *
+     * @return the kind of aggregate
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the field that the aggregate is computed over, or an empty
+     * {@code Optional} if the aggregate does not depend on a field (like
+     * {@link Kind#COUNT}).
+     *
+     * @return the field, if any
+     */
+    public Optional<ReferenceFieldTrait<?, ?, ?>> getField() {
+        return Optional.ofNullable(field);
+    }
+
+    @Override
+    public Supplier<Object> supplier() {
+        return delegate.supplier();
+    }
+
+    @Override
+    public BiConsumer<Object, T> accumulator() {
+        return delegate.accumulator();
+    }
+
+    @Override
+    public BinaryOperator<Object> combiner() {
+        return delegate.combiner();
+    }
+
+    @Override
+    public Function<Object, R> finisher() {
+        return delegate.finisher();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return delegate.characteristics();
+    }
+
+}
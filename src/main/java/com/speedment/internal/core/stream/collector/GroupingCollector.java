@@ -0,0 +1,99 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.collector;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Collector} that groups elements by the value of a field and 
+ * collects each group using a downstream collector. The collector behaves
+ * exactly like {@link Collectors#groupingBy(Function, Collector)} using the
+ * getter of the field, but since the field is known, the grouping can also
+ * be performed by a database.
+ *
+ * @author pemi
+ * @param <T> the type of the input elements
+ * @param <K> the type of the keys
+ * @param <D> the result type of the downstream collector
+ */
+public final class GroupingCollector<T, K, D> implements Collector<T, Object, Map<K, D>> {
+
+    private final ReferenceFieldTrait<T, ?, K> classifier;
+    private final Collector<? super T, ?, D> downstream;
+    private final Collector<T, Object, Map<K, D>> delegate;
+
+    @SuppressWarnings("unchecked")
+    public GroupingCollector(ReferenceFieldTrait<T, ?, K> classifier, Collector<? super T, ?, D> downstream) {
+        this.classifier = requireNonNull(classifier);
+        this.downstream = requireNonNull(downstream);
+        this.delegate   = (Collector<T, Object, Map<K, D>>) (Collector<T, ?, Map<K, D>>) 
+            Collectors.groupingBy(classifier.getter(), downstream);
+    }
+
+    /**
+     * Returns the field that elements are grouped by.
+     *
+     * @return the classifier field
+     */
+    public ReferenceFieldTrait<T, ?, K> getClassifier() {
+        return classifier;
+    }
+
+    /**
+     * Returns the collector that is used for each group.
+     *
+     * @return the downstream collector
+     */
+    public Collector<? super T, ?, D> getDownstream() {
+        return downstream;
+    }
+
+    @Override
+    public Supplier<Object> supplier() {
+        return delegate.supplier();
+    }
+
+    @Override
+    public BiConsumer<Object, T> accumulator() {
+        return delegate.accumulator();
+    }
+
+    @Override
+    public BinaryOperator<Object> combiner() {
+        return delegate.combiner();
+    }
+
+    @Override
+    public Function<Object, Map<K, D>> finisher() {
+        return delegate.finisher();
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return delegate.characteristics();
+    }
+
+}
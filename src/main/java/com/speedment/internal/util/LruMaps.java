@@ -0,0 +1,63 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.util;
+
+import static com.speedment.util.StaticClassUtil.instanceNotAllowed;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility methods for creating maps that only hold the most recently used
+ * entries.
+ *
+ * @author pemi
+ */
+public final class LruMaps {
+
+    /**
+     * Creates a thread safe map that holds at most the given number of 
+     * entries. When an entry is added to a full map, the entry that was least
+     * recently accessed is removed. Like for 
+     * {@link Collections#synchronizedMap(Map)}, iterating over the map or 
+     * any of its views must be synchronized on the map.
+     *
+     * @param <K>      the key type
+     * @param <V>      the value type
+     * @param maxSize  the maximum number of entries
+     * @return         the new map
+     */
+    public static <K, V> Map<K, V> newSynchronizedLruMap(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+        }
+        
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private LruMaps() {
+        instanceNotAllowed(LruMaps.class);
+    }
+}
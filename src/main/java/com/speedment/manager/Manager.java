@@ -29,6 +29,7 @@ import com.speedment.field.FieldIdentifier;
 import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.stream.Flow;
 import com.speedment.stream.StreamDecorator;
 import com.speedment.util.tuple.Tuple;
 import java.util.Optional;
@@ -378,6 +379,36 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
      */
     Stream<ENTITY> nativeStream(StreamDecorator decorator);
 
+    /**
+     * Creates and returns a new {@link Flow.Publisher} over all entities in
+     * the underlying database. Entities are read from a
+     * {@link #nativeStream(StreamDecorator) native stream} and are only
+     * fetched as the subscriber signals demand, so that a slow subscriber
+     * holds back the database cursor rather than causing rows to be buffered.
+     * Cancelling the subscription closes the stream and thereby releases the
+     * underlying database resources.
+     * <p>
+     * The stream is iterated using the executor of the
+     * {@link com.speedment.component.AsyncComponent AsyncComponent}.
+     *
+     * @param decorator the implementation for decorating the stream
+     * @return a new publisher over all entities in this table
+     */
+    default Flow.Publisher<ENTITY> publisher(StreamDecorator decorator) {
+        return speedment().getAsyncComponent().publisher(() -> nativeStream(decorator));
+    }
+
+    /**
+     * Creates and returns a new {@link Flow.Publisher} over all entities in
+     * the underlying database.
+     *
+     * @return a new publisher over all entities in this table
+     * @see #publisher(StreamDecorator)
+     */
+    default Flow.Publisher<ENTITY> publisher() {
+        return publisher(StreamDecorator.IDENTITY);
+    }
+
     /**
      * Finds and returns an Optional entity where the given field matches the
      * given value. If no entity matches, an Optional.empty() is returned. If
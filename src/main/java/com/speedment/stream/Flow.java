@@ -0,0 +1,117 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Interfaces for demand-driven, push-based delivery of elements. The
+ * interfaces have the same shape as the ones defined by the Reactive Streams
+ * specification, so that they can be adapted to any library implementing it
+ * using simple method references.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public final class Flow {
+
+    /**
+     * A producer of elements that are received by {@link Subscriber
+     * Subscribers}. Elements are only delivered as the subscriber signals
+     * demand through its {@link Subscription}.
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber. The subscriber is first given a
+         * {@link Subscription} through {@link Subscriber#onSubscribe} and
+         * receives no elements until demand is signaled.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of elements from a {@link Publisher}.
+     *
+     * @param <T> the element type
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked once before any other method of this subscriber.
+         *
+         * @param subscription the subscription used to signal demand
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element. Never invoked more times than
+         * requested.
+         *
+         * @param item the element
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked if the publisher failed. No other method is invoked after
+         * this one.
+         *
+         * @param throwable the cause of the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when there are no more elements. No other method is invoked
+         * after this one.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@link Publisher} and a {@link Subscriber}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of elements to the current unfulfilled demand.
+         * A non-positive value results in an {@link IllegalArgumentException}
+         * being signaled through {@link Subscriber#onError}.
+         *
+         * @param n the number of additional elements to deliver
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of elements and releases any resources held by
+         * the publisher on behalf of the subscriber.
+         */
+        void cancel();
+    }
+
+    /**
+     * Utility classes should not be instantiated.
+     */
+    private Flow() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import java.util.List;
+
+/**
+ *
+ * @author pemi
+ */
+public interface HasStreamingMode {
+
+    StreamingMode getStreamingMode();
+
+    void setStreamingMode(StreamingMode streamingMode);
+
+    int getFetchSize();
+
+    void setFetchSize(int fetchSize);
+
+    int getPrefetchDepth();
+
+    void setPrefetchDepth(int prefetchDepth);
+
+    /**
+     * Returns the primary key of the row that a {@link StreamingMode#KEYSET}
+     * stream starts after, or an empty list if it starts with the first row.
+     *
+     * @return the primary key values, in the order of the key columns
+     */
+    List<?> getStartKey();
+
+    /**
+     * Sets the primary key of the row that a {@link StreamingMode#KEYSET}
+     * stream should start after. An empty list starts with the first row.
+     *
+     * @param startKey  the primary key values, in the order of the key 
+     *                  columns
+     */
+    void setStartKey(List<?> startKey);
+
+}
@@ -20,6 +20,10 @@ import com.speedment.annotation.Api;
 import com.speedment.field.predicate.SpeedmentPredicate;
 import com.speedment.internal.core.stream.ComposedStreamDecorator;
 import com.speedment.internal.util.Cast;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
 import java.util.stream.Stream;
 
 /**
@@ -96,6 +100,20 @@ public interface StreamDecorator {
         return hasParallelStrategy;
     }
 
+    /**
+     * Configures how the rows of the query behind the stream are transferred
+     * from the database. By default, the {@link StreamingMode} and fetch size
+     * of the database type are used.
+     *
+     * @param <H>               type of streaming mode receiver
+     * @param hasStreamingMode  to apply the streaming mode on
+     * @return                  the object {@link HasStreamingMode} to use 
+     *                          for this {@link Stream}
+     */
+    default <H extends HasStreamingMode> H applyOnQuery(H hasStreamingMode) {
+        return hasStreamingMode;
+    }
+
     /**
      * A {@link StreamDecorator} that modifies the stream according to the
      * {@link ParallelStrategy#COMPUTE_INTENSITY_MEDIUM COMPUTE_INTENSITY_MEDIUM}
@@ -123,6 +141,91 @@ public interface StreamDecorator {
      */
     final static StreamDecorator COMPUTE_INTENSITY_EXTREAM = of(ParallelStrategy.COMPUTE_INTENSITY_EXTREME);
 
+    /**
+     * Creates and returns a {@link StreamDecorator} that reads the rows of 
+     * the stream using the provided streaming mode and fetch size. This can
+     * be used to stream tables that do not fit in memory.
+     *
+     * @param streamingMode  how rows are transferred from the database
+     * @param fetchSize      the number of rows to fetch at a time
+     * @return               the decorator
+     */
+    static StreamDecorator of(final StreamingMode streamingMode, final int fetchSize) {
+        requireNonNull(streamingMode);
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size can not be negative: " + fetchSize);
+        }
+        
+        return new StreamDecorator() {
+            @Override
+            public <H extends HasStreamingMode> H applyOnQuery(H hasStreamingMode) {
+                hasStreamingMode.setStreamingMode(streamingMode);
+                hasStreamingMode.setFetchSize(fetchSize);
+                return hasStreamingMode;
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a {@link StreamDecorator} that reads the rows of 
+     * the stream in {@link StreamingMode#KEYSET keyset} pages of the 
+     * provided size, starting right after the row with the provided primary 
+     * key. This can be used to resume a stream that was interrupted by 
+     * passing the primary key of the last row that was processed.
+     * <p>
+     * If no key values are given, the stream starts with the first row. If 
+     * the table can not be read in keyset pages, an 
+     * {@code IllegalStateException} is thrown when a start key is given.
+     *
+     * @param pageSize  the number of rows to read in each page
+     * @param startKey  the primary key values of the row to start after, in 
+     *                  the order of the primary key columns
+     * @return          the decorator
+     */
+    static StreamDecorator keysetAfter(final int pageSize, final Object... startKey) {
+        requireNonNull(startKey);
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("The page size can not be negative: " + pageSize);
+        }
+        final List<Object> key = Collections.unmodifiableList(Arrays.asList(startKey.clone()));
+        
+        return new StreamDecorator() {
+            @Override
+            public <H extends HasStreamingMode> H applyOnQuery(H hasStreamingMode) {
+                hasStreamingMode.setStreamingMode(StreamingMode.KEYSET);
+                hasStreamingMode.setFetchSize(pageSize);
+                hasStreamingMode.setStartKey(key);
+                return hasStreamingMode;
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a {@link StreamDecorator} that reads and maps the
+     * rows of the stream in a background thread, at most {@code depth} rows
+     * ahead of the stream. This lets the database round trips overlap with
+     * the processing of previous rows.
+     *
+     * @param depth  the maximum number of rows read ahead
+     * @return       the decorator
+     */
+    static StreamDecorator prefetch(final int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The prefetch depth must be positive: " + depth);
+        }
+        
+        return new StreamDecorator() {
+            @Override
+            public <H extends HasStreamingMode> H applyOnQuery(H hasStreamingMode) {
+                hasStreamingMode.setPrefetchDepth(depth);
+                return hasStreamingMode;
+            }
+
+        };
+    }
+
     static StreamDecorator of(final ParallelStrategy parallelStrategy) {
         return new StreamDecorator() {
             @Override
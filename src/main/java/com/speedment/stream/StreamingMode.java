@@ -0,0 +1,139 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import com.speedment.annotation.Api;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Determines how the rows of a query are transferred from the database to
+ * the JVM. Many JDBC drivers read the entire result set into memory before 
+ * the first row is returned unless the statement is configured otherwise, 
+ * which makes it impossible to stream large tables.
+ * <p>
+ * The standard database types all use {@link #BUFFERED}. The other modes
+ * change how the connection can be used while the rows are read, so they
+ * are only used if requested for a particular stream using 
+ * {@link StreamDecorator#of(StreamingMode, int)} or by a custom database
+ * type.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum StreamingMode {
+
+    /**
+     * The statement is left as it is and the driver decides how rows are
+     * transferred. Most drivers read the entire result set before the first
+     * row is returned.
+     */
+    BUFFERED(false) {
+        @Override
+        public void configure(PreparedStatement ps, int fetchSize) {}
+    },
+
+    /**
+     * The rows are read through a server side cursor in batches of the fetch
+     * size. The cursor only lives within a transaction, so auto-commit is
+     * turned off while the rows are read. This is how the PostgreSQL driver 
+     * streams rows.
+     */
+    CURSOR(true) {
+        @Override
+        public void configure(PreparedStatement ps, int fetchSize) throws SQLException {
+            ps.setFetchSize(fetchSize);
+        }
+    },
+
+    /**
+     * The rows are read one by one as they are sent by the server. The fetch
+     * size is ignored. This is how the MySQL and MariaDB drivers stream rows,
+     * signaled by a fetch size of {@code Integer.MIN_VALUE}.
+     */
+    ROW_BY_ROW(false) {
+        @Override
+        public void configure(PreparedStatement ps, int fetchSize) throws SQLException {
+            ps.setFetchSize(Integer.MIN_VALUE);
+        }
+    },
+
+    /**
+     * The rows are read as a chain of short queries, each returning at most
+     * fetch size rows ordered by the primary key and starting right after 
+     * the last key of the previous query. No connection or transaction is 
+     * held between the queries. Only the filters of the stream are rendered 
+     * as SQL. If the table has no primary key or the database type can not 
+     * restrict the number of rows, {@link #BUFFERED} is used instead.
+     * <p>
+     * A stream that was interrupted can be resumed right after the last row
+     * that was processed using 
+     * {@link StreamDecorator#keysetAfter(int, Object...)}.
+     */
+    KEYSET(false) {
+        @Override
+        public void configure(PreparedStatement ps, int fetchSize) {}
+    },
+
+    /**
+     * If the stream is parallel, the rows are read by several queries, each 
+     * covering a range of the primary key, that are executed concurrently
+     * using separate connections. Only the filters of the stream are 
+     * rendered as SQL. If the stream is sequential, or the table does not 
+     * have a single integral primary key, this is the same as 
+     * {@link #BUFFERED}.
+     */
+    PARTITIONED(false) {
+        @Override
+        public void configure(PreparedStatement ps, int fetchSize) throws SQLException {
+            ps.setFetchSize(fetchSize);
+        }
+    };
+
+    /**
+     * The fetch size used if nothing else is specified.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+    
+    private final boolean transactional;
+
+    private StreamingMode(boolean transactional) {
+        this.transactional = transactional;
+    }
+
+    /**
+     * Returns {@code true} if auto-commit must be turned off on the 
+     * connection while the rows are read.
+     *
+     * @return if auto-commit must be turned off
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * Configures the provided statement so that rows are transferred 
+     * according to this mode. The statement is expected to be forward only
+     * and read only.
+     *
+     * @param ps         the statement to configure
+     * @param fetchSize  the number of rows to fetch at a time
+     * @throws SQLException  if the statement could not be configured
+     */
+    public abstract void configure(PreparedStatement ps, int fetchSize) throws SQLException;
+}
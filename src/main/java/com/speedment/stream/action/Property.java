@@ -35,5 +35,11 @@ public enum Property implements ActionProperty {
     /**
      * Does this action have a side effect (like peek() might).
      */
-    SIDE_EFFECT;
+    SIDE_EFFECT,
+    /**
+     * Does this action handle every element on its own, regardless of the
+     * other elements and their order, and pass on the elements it retains
+     * unchanged (like filter() does).
+     */
+    INDEPENDENT;
 }
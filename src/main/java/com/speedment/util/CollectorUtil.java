@@ -18,6 +18,16 @@ package com.speedment.util;
 
 import com.speedment.annotation.Api;
 import com.speedment.encoder.JsonEncoder;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.FieldNumberGetter;
+import com.speedment.internal.core.stream.collector.AggregateCollector;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.COUNT;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.MAX;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.MIN;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.SUM_DOUBLE;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.SUM_INT;
+import static com.speedment.internal.core.stream.collector.AggregateCollector.Kind.SUM_LONG;
+import com.speedment.internal.core.stream.collector.GroupingCollector;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
 import com.speedment.stream.MapStream;
@@ -27,6 +37,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +53,9 @@ import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 import static java.util.stream.Collector.Characteristics.CONCURRENT;
 import java.util.stream.Collectors;
@@ -272,6 +286,111 @@ public final class CollectorUtil {
         );
     }
 
+    /**
+     * Returns a {@link Collector} that groups the elements by the value of
+     * the specified field and collects each group using the specified 
+     * downstream collector. The result is the same as for
+     * {@link Collectors#groupingBy(Function, Collector)} using the getter of
+     * the field.
+     * <p>
+     * If the downstream collector is created using {@link #counting()},
+     * {@link #summingInt(ReferenceFieldTrait)}, 
+     * {@link #summingLong(ReferenceFieldTrait)}, 
+     * {@link #summingDouble(ReferenceFieldTrait)},
+     * {@link #minimum(ReferenceFieldTrait)} or 
+     * {@link #maximum(ReferenceFieldTrait)}, the grouping of a managed stream 
+     * may be performed by the database.
+     *
+     * @param <T> the stream element type
+     * @param <K> the type of the key to group by
+     * @param <D> the result type of the downstream collector
+     * @param classifier the field to group by
+     * @param downstream the collector to use for each group
+     * @return a collector that groups the elements by the field
+     */
+    public static <T, K, D> Collector<T, ?, Map<K, D>> groupingBy(
+            ReferenceFieldTrait<T, ?, K> classifier, 
+            Collector<? super T, ?, D> downstream) {
+        
+        return new GroupingCollector<>(classifier, downstream);
+    }
+
+    /**
+     * Returns a {@link Collector} that counts the number of elements. The 
+     * result is the same as for {@link Collectors#counting()}.
+     *
+     * @param <T> the stream element type
+     * @return a collector that counts the elements
+     */
+    public static <T> Collector<T, ?, Long> counting() {
+        return new AggregateCollector<>(COUNT, null, Collectors.<T>counting());
+    }
+
+    /**
+     * Returns a {@link Collector} that sums the values of the specified 
+     * numeric field as {@code int}s. The result is the same as for
+     * {@link Collectors#summingInt(ToIntFunction)}.
+     *
+     * @param <T> the stream element type
+     * @param field the field to sum
+     * @return a collector that sums the field
+     */
+    public static <T> Collector<T, ?, Integer> summingInt(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        return new AggregateCollector<>(SUM_INT, field, Collectors.summingInt(new FieldNumberGetter<>(field)));
+    }
+
+    /**
+     * Returns a {@link Collector} that sums the values of the specified 
+     * numeric field as {@code long}s. The result is the same as for
+     * {@link Collectors#summingLong(ToLongFunction)}.
+     *
+     * @param <T> the stream element type
+     * @param field the field to sum
+     * @return a collector that sums the field
+     */
+    public static <T> Collector<T, ?, Long> summingLong(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        return new AggregateCollector<>(SUM_LONG, field, Collectors.summingLong(new FieldNumberGetter<>(field)));
+    }
+
+    /**
+     * Returns a {@link Collector} that sums the values of the specified 
+     * numeric field as {@code double}s. The result is the same as for
+     * {@link Collectors#summingDouble(ToDoubleFunction)}.
+     *
+     * @param <T> the stream element type
+     * @param field the field to sum
+     * @return a collector that sums the field
+     */
+    public static <T> Collector<T, ?, Double> summingDouble(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        return new AggregateCollector<>(SUM_DOUBLE, field, Collectors.summingDouble(new FieldNumberGetter<>(field)));
+    }
+
+    /**
+     * Returns a {@link Collector} that finds the smallest value of the 
+     * specified field, or an empty {@code Optional} if there are no elements.
+     *
+     * @param <T> the stream element type
+     * @param <V> the field value type
+     * @param field the field to find the smallest value of
+     * @return a collector that finds the smallest value
+     */
+    public static <T, V extends Comparable<? super V>> Collector<T, ?, Optional<V>> minimum(ReferenceFieldTrait<T, ?, V> field) {
+        return new AggregateCollector<>(MIN, field, Collectors.mapping(field.getter(), Collectors.minBy(Comparator.<V>naturalOrder())));
+    }
+
+    /**
+     * Returns a {@link Collector} that finds the largest value of the 
+     * specified field, or an empty {@code Optional} if there are no elements.
+     *
+     * @param <T> the stream element type
+     * @param <V> the field value type
+     * @param field the field to find the largest value of
+     * @return a collector that finds the largest value
+     */
+    public static <T, V extends Comparable<? super V>> Collector<T, ?, Optional<V>> maximum(ReferenceFieldTrait<T, ?, V> field) {
+        return new AggregateCollector<>(MAX, field, Collectors.mapping(field.getter(), Collectors.maxBy(Comparator.<V>naturalOrder())));
+    }
+
     private static class GroupHolder<C, T> {
 
         private final Function<T, C> grouper;
@@ -0,0 +1,77 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Per Minborg
+ */
+public class SkipLimitSyntaxTest {
+
+    private static final String SQL = "SELECT * FROM t";
+
+    private List<Object> values;
+
+    @Before
+    public void setUp() {
+        values = new ArrayList<>();
+    }
+
+    @Test
+    public void testLimitOffset() {
+        assertEquals(SQL + " LIMIT ? OFFSET ?", SkipLimitSyntax.LIMIT_OFFSET.apply(SQL, values, 20, 10));
+        assertEquals(Arrays.asList(10L, 20L), values);
+    }
+
+    @Test
+    public void testLimitOffsetOnlyLimit() {
+        assertEquals(SQL + " LIMIT ?", SkipLimitSyntax.LIMIT_OFFSET.apply(SQL, values, 0, 10));
+        assertEquals(Arrays.asList(10L), values);
+    }
+
+    @Test
+    public void testLimitOffsetOnlySkip() {
+        assertEquals(SQL + " LIMIT 18446744073709551615 OFFSET ?", SkipLimitSyntax.LIMIT_OFFSET.apply(SQL, values, 20, Long.MAX_VALUE));
+        assertEquals(Arrays.asList(20L), values);
+    }
+
+    @Test
+    public void testOffsetFetch() {
+        assertEquals(SQL + " OFFSET ? ROWS FETCH FIRST ? ROWS ONLY", SkipLimitSyntax.OFFSET_FETCH.apply(SQL, values, 20, 10));
+        assertEquals(Arrays.asList(20L, 10L), values);
+    }
+
+    @Test
+    public void testOffsetFetchOnlySkip() {
+        assertEquals(SQL + " OFFSET ? ROWS", SkipLimitSyntax.OFFSET_FETCH.apply(SQL, values, 20, Long.MAX_VALUE));
+        assertEquals(Arrays.asList(20L), values);
+    }
+
+    @Test
+    public void testNone() {
+        assertEquals(SQL, SkipLimitSyntax.NONE.apply(SQL, values, 20, 10));
+        assertTrue(values.isEmpty());
+    }
+
+}
@@ -0,0 +1,43 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.config.dbms;
+
+import com.speedment.stream.StreamingMode;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author Per Minborg
+ */
+public class StandardDbmsTypeTest {
+
+    @Test
+    public void testMySqlIsBuffered() {
+        assertEquals(StreamingMode.BUFFERED, MySqlDbmsType.INSTANCE.getStreamingMode());
+    }
+
+    @Test
+    public void testMariaDbIsBuffered() {
+        assertEquals(StreamingMode.BUFFERED, MariaDbDbmsType.INSTANCE.getStreamingMode());
+    }
+
+    @Test
+    public void testPostgresIsBuffered() {
+        assertEquals(StreamingMode.BUFFERED, PostgresDbmsType.INSTANCE.getStreamingMode());
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class KeysetPagingTest {
+
+    private static final String SQL = "SELECT * FROM t";
+
+    @Test
+    public void testFirstPage() {
+        final KeysetPaging paging = new KeysetPaging(
+            Arrays.asList("t.a"), Arrays.asList("a"), SkipLimitSyntax.LIMIT_OFFSET, false
+        );
+        
+        final List<Object> values = new ArrayList<>();
+        assertEquals(
+            SQL + " ORDER BY t.a LIMIT ?", 
+            paging.render(SQL, values, Collections.emptyList(), 100)
+        );
+        assertEquals(Arrays.asList(100L), values);
+    }
+
+    @Test
+    public void testNextPageWithCompositeKey() {
+        final KeysetPaging paging = new KeysetPaging(
+            Arrays.asList("t.a", "t.b"), Arrays.asList("a", "b"), SkipLimitSyntax.OFFSET_FETCH, true
+        );
+        
+        final List<Object> values = new ArrayList<>(Arrays.asList("x"));
+        assertEquals(
+            SQL + " WHERE (t.c = ?) AND ((t.a > ?) OR (t.a = ? AND t.b > ?)) " + 
+            "ORDER BY t.a, t.b FETCH FIRST ? ROWS ONLY", 
+            paging.render(SQL + " WHERE (t.c = ?)", values, Arrays.asList(1, 2), 100)
+        );
+        assertEquals(Arrays.asList("x", 1, 1, 2, 100L), values);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyOfWrongSize() {
+        final KeysetPaging paging = new KeysetPaging(
+            Arrays.asList("t.a", "t.b"), Arrays.asList("a", "b"), SkipLimitSyntax.LIMIT_OFFSET, false
+        );
+        
+        paging.render(SQL, new ArrayList<>(), Arrays.asList(1), 100);
+    }
+
+}
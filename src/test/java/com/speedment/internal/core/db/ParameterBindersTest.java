@@ -0,0 +1,87 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.db.ParameterBinder;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class ParameterBindersTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    private final PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(),
+        new Class<?>[]{PreparedStatement.class},
+        (proxy, method, args) -> {
+            calls.add(method.getName() + Arrays.toString(args));
+            return null;
+        }
+    );
+
+    @Test
+    public void testTypedBinders() throws SQLException {
+        ParameterBinder.of(Integer.class).bind(ps, 1, 42);
+        ParameterBinder.of(Long.class).bind(ps, 2, 7L);
+        ParameterBinder.of(String.class).bind(ps, 3, "a");
+        ParameterBinder.of(BigDecimal.class).bind(ps, 4, BigDecimal.ONE);
+        ParameterBinder.of(Timestamp.class).bind(ps, 5, new Timestamp(0));
+
+        assertEquals("setInt[1, 42]", calls.get(0));
+        assertEquals("setLong[2, 7]", calls.get(1));
+        assertEquals("setString[3, a]", calls.get(2));
+        assertEquals("setBigDecimal[4, 1]", calls.get(3));
+        assertTrue(calls.get(4).startsWith("setTimestamp[5, "));
+    }
+
+    @Test
+    public void testNull() throws SQLException {
+        ParameterBinder.of(Integer.class).bind(ps, 1, null);
+        ParameterBinder.of(String.class).bind(ps, 2, null);
+        assertEquals("setNull[1, " + Types.INTEGER + "]", calls.get(0));
+        assertEquals("setNull[2, " + Types.VARCHAR + "]", calls.get(1));
+    }
+
+    @Test
+    public void testFallback() throws SQLException {
+        ParameterBinder.of(Integer.class).bind(ps, 1, "not an int");
+        ParameterBinder.of(Object.class).bind(ps, 2, 42);
+        ParameterBinders.forValue(null).bind(ps, 3, null);
+        assertEquals("setObject[1, not an int]", calls.get(0));
+        assertEquals("setObject[2, 42]", calls.get(1));
+        assertEquals("setObject[3, null]", calls.get(2));
+    }
+
+    @Test
+    public void testForValue() throws SQLException {
+        ParameterBinders.forValue(42L).bind(ps, 1, 42L);
+        assertEquals("setLong[1, 42]", calls.get(0));
+    }
+}
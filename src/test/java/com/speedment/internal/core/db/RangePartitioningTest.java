@@ -0,0 +1,61 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class RangePartitioningTest {
+
+    private final RangePartitioning partitioning = 
+        new RangePartitioning("t.id", "SELECT MIN(t.id), MAX(t.id) FROM t", false, 4);
+
+    @Test
+    public void testRanges() {
+        final List<long[]> ranges = partitioning.ranges(1, 10);
+        assertEquals(4, ranges.size());
+        assertArrayEquals(new long[] {1, 2}, ranges.get(0));
+        assertArrayEquals(new long[] {3, 5}, ranges.get(1));
+        assertArrayEquals(new long[] {6, 7}, ranges.get(2));
+        assertArrayEquals(new long[] {8, 10}, ranges.get(3));
+        
+        assertEquals(2, partitioning.ranges(5, 6).size());
+        
+        final List<long[]> extreme = partitioning.ranges(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(Long.MIN_VALUE, extreme.get(0)[0]);
+        assertEquals(Long.MAX_VALUE, extreme.get(3)[1]);
+    }
+
+    @Test
+    public void testRender() {
+        final List<Object> values = new ArrayList<>();
+        assertEquals(
+            "SELECT * FROM t WHERE (t.id >= ? AND t.id <= ?)", 
+            partitioning.render("SELECT * FROM t", values, new long[] {3, 5})
+        );
+        assertEquals(3L, values.get(0));
+        assertEquals(5L, values.get(1));
+    }
+
+}
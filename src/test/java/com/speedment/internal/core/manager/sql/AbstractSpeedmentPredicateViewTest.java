@@ -0,0 +1,547 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.internal.core.db.DefaultDatabaseNamingConvention;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import com.speedment.manager.SqlPredicateFragment;
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AbstractSpeedmentPredicateViewTest {
+
+    private static final String ID_COLUMN = "`my_schema`.`my_table`.`id`";
+    private static final String NAME_COLUMN = "`my_schema`.`my_table`.`name`";
+
+    private final MySqlSpeedmentPredicateView view
+        = new MySqlSpeedmentPredicateView(new DefaultDatabaseNamingConvention());
+
+    @Test
+    public void testLeaf() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1)).get();
+        assertEquals("(" + ID_COLUMN + " = ?)", fragment.getSql());
+        assertEquals(Arrays.asList(1), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testOr() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1).or(ID.equal(2))).get();
+        assertEquals("((" + ID_COLUMN + " = ?) OR (" + ID_COLUMN + " = ?))", fragment.getSql());
+        assertEquals(Arrays.asList(1, 2), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testAndContainingOr() {
+        final SqlPredicateFragment fragment = transform(
+            NAME.equal("a").and(ID.equal(1).or(ID.greaterThan(10)))
+        ).get();
+        
+        assertEquals(
+            "((" + NAME_COLUMN + " = ?) AND ((" + ID_COLUMN + " = ?) OR (" + ID_COLUMN + " > ?)))",
+            fragment.getSql()
+        );
+        assertEquals(Arrays.asList("a", 1, 10), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testNegatedOr() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1).or(ID.equal(2)).negate()).get();
+        assertEquals("(NOT(((" + ID_COLUMN + " = ?) OR (" + ID_COLUMN + " = ?))))", fragment.getSql());
+        assertEquals(Arrays.asList(1, 2), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testAndWithUnknownMember() {
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        final SqlPredicateFragment fragment = transform(ID.greaterThan(5).and(unknown)).get();
+        assertEquals("(" + ID_COLUMN + " > ?)", fragment.getSql());
+        assertEquals(Arrays.asList(5), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testOrWithUnknownMember() {
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        assertFalse(transform(ID.greaterThan(5).or(unknown)).isPresent());
+        assertFalse(transform(ID.greaterThan(5).and(unknown).negate()).isPresent());
+        assertFalse(transform(unknown).isPresent());
+    }
+
+    @Test
+    public void testUnknownMemberUnderNegation() {
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        
+        // The AND is negated by the NOT above the OR, so it can not drop its
+        // unknown member. Rows like id=7, name='y' must still be selected.
+        final SqlPredicateFragment dropped = transform(
+            ID.greaterThan(5).and(unknown).or(NAME.equal("x")).negate()
+        ).get();
+        assertEquals("(NOT((" + NAME_COLUMN + " = ?)))", dropped.getSql());
+        assertEquals(Arrays.asList("x"), dropped.objects().collect(toList()));
+        
+        // Under a negation, an OR may drop its unknown members instead
+        final SqlPredicateFragment narrowed = transform(
+            ID.greaterThan(5).or(unknown).and(NAME.equal("x")).negate()
+        ).get();
+        assertEquals(
+            "(NOT(((" + ID_COLUMN + " > ?) AND (" + NAME_COLUMN + " = ?))))", 
+            narrowed.getSql()
+        );
+        assertEquals(Arrays.asList(5, "x"), narrowed.objects().collect(toList()));
+        
+        assertFalse(transform(ID.greaterThan(5).and(unknown).negate().negate().negate()).isPresent());
+    }
+
+    @Test
+    public void testLargeIn() {
+        final Set<Integer> ids = IntStream.range(0, 1000).boxed().collect(toSet());
+        
+        final SqlPredicateFragment mySql = view.transform(ID.in(ids));
+        assertTrue(mySql.getSql().startsWith("(" + ID_COLUMN + " IN (?,?,?,"));
+        assertEquals(1024, mySql.objects().count());
+        assertEquals(ids, mySql.objects().collect(toSet()));
+        
+        // Sets that are too large to be padded are inlined
+        final Set<Integer> manyIds = IntStream.range(0, 20000).boxed().collect(toSet());
+        final SqlPredicateFragment inlined = view.transform(ID.in(manyIds));
+        assertTrue(inlined.getSql().startsWith("(" + ID_COLUMN + " IN (0,1,2,"));
+        assertEquals(0, inlined.objects().count());
+        
+        final SqlPredicateFragment postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        ).transform(ID.in(ids).negate());
+        assertEquals("((NOT((" + ID_COLUMN + " = ANY(?)))) OR (" + ID_COLUMN + " IS NULL))", postgres.getSql());
+        
+        final List<Object> values = postgres.objects().collect(toList());
+        assertEquals(1, values.size());
+        assertEquals("int4", ((SqlArrayParameter) values.get(0)).getTypeName());
+        assertEquals(1000, ((SqlArrayParameter) values.get(0)).size());
+    }
+
+    @Test
+    public void testLargeInIsPadded() {
+        final Set<Integer> ids65 = IntStream.range(0, 65).boxed().collect(toSet());
+        final Set<Integer> ids128 = IntStream.range(0, 128).boxed().collect(toSet());
+        final Set<Integer> ids129 = IntStream.range(0, 129).boxed().collect(toSet());
+        
+        final SqlPredicateFragment padded = view.transform(ID.notIn(ids65));
+        assertEquals(view.transform(ID.notIn(ids128)).getSql(), padded.getSql());
+        assertEquals(128, padded.objects().count());
+        assertEquals(ids65, padded.objects().collect(toSet()));
+        
+        assertEquals(256, view.transform(ID.in(ids129)).objects().count());
+        
+        // Sets up to the threshold are bound as they are
+        assertEquals(64, view.transform(ID.in(IntStream.range(0, 64).boxed().collect(toSet()))).objects().count());
+    }
+
+    @Test
+    public void testLargeInWithNull() {
+        final Set<Integer> ids = IntStream.range(0, 100).boxed().collect(toCollection(HashSet::new));
+        ids.add(null);
+        
+        // The array never holds null, which is checked for separately
+        final PostgresSpeedmentPredicateView postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        );
+        
+        final SqlPredicateFragment in = postgres.transform(ID.in(ids));
+        assertEquals("((" + ID_COLUMN + " = ANY(?)) OR (" + ID_COLUMN + " IS NULL))", in.getSql());
+        assertEquals(100, ((SqlArrayParameter) in.objects().findFirst().get()).size());
+        
+        final SqlPredicateFragment notIn = postgres.transform(ID.notIn(ids));
+        assertEquals("(NOT((" + ID_COLUMN + " = ANY(?))))", notIn.getSql());
+        assertEquals(100, ((SqlArrayParameter) notIn.objects().findFirst().get()).size());
+        
+        final SqlPredicateFragment negated = postgres.transform(ID.in(ids).negate());
+        assertEquals("(NOT((" + ID_COLUMN + " = ANY(?))))", negated.getSql());
+    }
+
+    @Test
+    public void testLargeInIsConverted() {
+        final Set<Integer> ids = IntStream.range(0, 1000).boxed().collect(toSet());
+        
+        // Elements are converted before the array type is chosen
+        final SqlPredicateFragment postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        ).transformWith(ID.in(ids), v -> ((Integer) v).longValue());
+        assertEquals("int8", ((SqlArrayParameter) postgres.objects().findFirst().get()).getTypeName());
+        
+        // Elements that are not integers once converted are not inlined, 
+        // but bound as they are for the caller to convert
+        final SqlPredicateFragment mySql = view.transformWith(ID.in(ids), String::valueOf);
+        assertTrue(mySql.getSql().startsWith("(" + ID_COLUMN + " IN (?,?,?,"));
+        assertEquals(ids, mySql.objects().collect(toSet()));
+        
+        final Set<Integer> manyIds = IntStream.range(0, 20000).boxed().collect(toSet());
+        final SqlPredicateFragment inlined = view.transformWith(ID.in(manyIds), v -> ((Integer) v) + 1000);
+        assertTrue(inlined.getSql().startsWith("(" + ID_COLUMN + " IN (1000,1001,1002,"));
+        assertEquals(0, inlined.objects().count());
+    }
+
+    @Test
+    public void testLikeIsEscaped() {
+        final SqlPredicateFragment mySql = view.transform(NAME.startsWith("a_%!"));
+        assertEquals("(" + NAME_COLUMN + " LIKE BINARY CONCAT(? ,'%') ESCAPE '!')", mySql.getSql());
+        assertEquals(Arrays.asList("a!_!%!!"), mySql.objects().collect(toList()));
+        
+        final SqlPredicateFragment postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        ).transform(NAME.contains("50%"));
+        assertEquals("(" + NAME_COLUMN + " LIKE '%' || ? || '%' ESCAPE '!')", postgres.getSql());
+        assertEquals(Arrays.asList("50!%"), postgres.objects().collect(toList()));
+    }
+    
+    @Test
+    public void testLikeMatchesExactly() {
+        final List<Entity> entities = Stream.of("a_b", "axb", "ab", "50%", "500", "5%0", "x!y", "xy", "x!!y")
+            .map(name -> new EntityImpl(1, name))
+            .collect(toList());
+        
+        final List<Predicate<Entity>> predicates = Arrays.asList(
+            NAME.startsWith("a_"), NAME.endsWith("0%"), NAME.contains("!"), 
+            NAME.contains("%"), NAME.startsWith("x!y"), NAME.endsWith("_b").negate()
+        );
+        
+        for (final Predicate<Entity> predicate : predicates) {
+            final SqlPredicateFragment fragment = view.transform((SpeedmentPredicate<?, ?, ?>) predicate);
+            
+            // Evaluate the rendered LIKE pattern the way the database would
+            final String sql = fragment.getSql();
+            final String operand = (String) fragment.objects().findFirst().get();
+            final String pattern = (sql.contains("CONCAT('%'") ? "%" : "") + operand + (sql.contains(",'%')") ? "%" : "");
+            final Predicate<String> like = like(pattern, '!');
+            final Predicate<String> rendered = sql.contains("(NOT(") ? like.negate() : like;
+            
+            for (final Entity entity : entities) {
+                assertEquals(
+                    sql + " with " + operand + " on " + entity.getName(), 
+                    predicate.test(entity), 
+                    rendered.test(entity.getName())
+                );
+            }
+        }
+    }
+    
+    @Test
+    public void testIsExactlyRenderable() {
+        final PostgresSpeedmentPredicateView postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        );
+        
+        // Numbers and binary LIKE predicates are rendered exactly
+        assertTrue(view.isExactlyRenderable(ID.greaterThan(1).and(NAME.startsWith("a_"))));
+        assertTrue(view.isExactlyRenderable(NAME.contains("%").or(NAME.isNull())));
+        
+        // String comparisons depend on the collation of the column
+        assertFalse(view.isExactlyRenderable(NAME.equal("a")));
+        assertFalse(view.isExactlyRenderable(ID.equal(1).and(NAME.in("a", "b"))));
+        assertTrue(postgres.isExactlyRenderable(NAME.equal("a")));
+        assertFalse(postgres.isExactlyRenderable(NAME.greaterThan("a")));
+        assertFalse(postgres.isExactlyRenderable(NAME.equalIgnoreCase("a")));
+        
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        assertFalse(postgres.isExactlyRenderable(ID.greaterThan(5).and(unknown)));
+    }
+    
+    @Test
+    public void testNullOperand() {
+        assertEquals("(" + ID_COLUMN + " IS NULL)", view.transform(ID.in((Integer) null)).getSql());
+        assertEquals("(" + ID_COLUMN + " IS NOT NULL)", view.transform(ID.in((Integer) null).negate()).getSql());
+        assertEquals("(" + ID_COLUMN + " IS NOT NULL)", view.transform(ID.notIn((Integer) null)).getSql());
+        
+        final SqlPredicateFragment in = view.transform(ID.in(1, null));
+        assertEquals("((" + ID_COLUMN + " IN (?)) OR (" + ID_COLUMN + " IS NULL))", in.getSql());
+        assertEquals(Arrays.asList(1), in.objects().collect(toList()));
+    }
+    
+    @Test
+    public void testNegationSelectsNull() {
+        final SqlPredicateFragment notEqual = view.transform(ID.notEqual(1));
+        assertEquals("((NOT (" + ID_COLUMN + " = ?)) OR (" + ID_COLUMN + " IS NULL))", notEqual.getSql());
+        assertEquals(Arrays.asList(1), notEqual.objects().collect(toList()));
+        
+        assertEquals(
+            "((NOT((" + NAME_COLUMN + " LIKE BINARY CONCAT(? ,'%') ESCAPE '!'))) OR (" + NAME_COLUMN + " IS NULL))", 
+            view.transform(NAME.startsWith("a").negate()).getSql()
+        );
+        
+        // Negated combinations also select the rows where a column is NULL
+        assertEquals(
+            "((NOT(((" + ID_COLUMN + " = ?) OR (" + NAME_COLUMN + " = ?)))) OR (" + ID_COLUMN + " IS NULL) OR (" + NAME_COLUMN + " IS NULL))", 
+            transformNullable(ID.equal(1).or(NAME.equal("b")).negate()).get().getSql()
+        );
+    }
+    
+    @Test
+    public void testNullRows() {
+        final List<Entity> entities = Arrays.asList(
+            new EntityImpl(1, "a"), new EntityImpl(null, "a"), new EntityImpl(2, null), 
+            new EntityImpl(null, null), new EntityImpl(3, "b"), new EntityImpl(1, "b")
+        );
+        
+        final List<Predicate<Entity>> predicates = Arrays.asList(
+            ID.equal(1), ID.notEqual(1), ID.in((Integer) null), ID.notIn((Integer) null),
+            ID.greaterThan(1), ID.greaterThan(1).negate(), ID.lessOrEqual(2).negate(), 
+            ID.in(1, 3), ID.notIn(1, 3), ID.in(1, 3).negate(), ID.in(1, null), ID.in(1, null).negate(), 
+            NAME.notEqual("a"), NAME.isEmpty().negate(), NAME.isNotEmpty().negate(), NAME.isNull().negate(),
+            ID.equal(1).or(NAME.equal("b")).negate(), 
+            ID.equal(1).and(NAME.equal("a")).negate(),
+            ID.notEqual(1).and(NAME.equal("a")).negate(),
+            ID.equal(1).or(NAME.equal("b").negate()).negate().negate(),
+            ID.greaterThan(1).and(ID.equal(1).or(NAME.equal("a")).negate())
+        );
+        
+        for (final Predicate<Entity> predicate : predicates) {
+            final SqlPredicateFragment fragment = transformNullable(predicate).get();
+            final boolean exact = view.isExactlyRenderable(predicate);
+            
+            for (final Entity entity : entities) {
+                final Boolean selected = evaluate(fragment, entity);
+                final String message = fragment.getSql() + " on " + entity.getId() + ", " + entity.getName();
+                
+                // Every row that the predicate accepts must be selected
+                if (predicate.test(entity)) {
+                    assertEquals(message, Boolean.TRUE, selected);
+                } else if (exact) {
+                    assertFalse(message, Boolean.TRUE.equals(selected));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testNegationOfNullableIsNotExact() {
+        final PostgresSpeedmentPredicateView postgres = new PostgresSpeedmentPredicateView(
+            new DefaultDatabaseNamingConvention()
+        );
+        
+        assertFalse(postgres.isExactlyRenderable(ID.notEqual(1)));
+        assertFalse(postgres.isExactlyRenderable(ID.greaterThan(1).negate()));
+        assertFalse(postgres.isExactlyRenderable(ID.equal(1).or(NAME.equal("b")).negate()));
+        assertTrue(postgres.isExactlyRenderable(ID.equal(1)));
+        assertTrue(postgres.isExactlyRenderable(ID.isNull().negate()));
+        
+        // Columns that can not be NULL are compared the same way as in the JVM
+        assertTrue(postgres.isExactlyRenderable(ID.notEqual(1), id -> false));
+        assertTrue(postgres.isExactlyRenderable(ID.equal(1).or(NAME.equal("b")).negate(), id -> false));
+        assertFalse(postgres.isExactlyRenderable(ID.equal(1).or(NAME.equal("b")).negate(), id -> id.columnName().equals("name")));
+    }
+    
+    /**
+     * Evaluates the provided condition for a single row the way the database
+     * would, where {@code null} is unknown. Only the comparisons rendered for
+     * the id and name columns are supported.
+     */
+    private static Boolean evaluate(SqlPredicateFragment fragment, Entity entity) {
+        final Map<String, Object> row = new HashMap<>();
+        row.put(ID_COLUMN, entity.getId());
+        row.put(NAME_COLUMN, entity.getName());
+        
+        final List<String> tokens = new ArrayList<>();
+        final Matcher matcher = TOKEN.matcher(fragment.getSql());
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        
+        final Condition condition = new Condition(tokens, fragment.objects().iterator(), row);
+        final Boolean result = condition.or();
+        assertEquals(tokens.size(), condition.position);
+        return result;
+    }
+    
+    private static final Pattern TOKEN = Pattern.compile("`[^`]*`(\\.`[^`]*`)*|'[^']*'|\\?|<>|<=|>=|[=<>(),]|\\d+|[A-Z]+");
+    
+    private static final class Condition {
+        
+        private final List<String> tokens;
+        private final Iterator<Object> values;
+        private final Map<String, Object> row;
+        private int position;
+        
+        Condition(List<String> tokens, Iterator<Object> values, Map<String, Object> row) {
+            this.tokens = tokens;
+            this.values = values;
+            this.row = row;
+        }
+        
+        Boolean or() {
+            Boolean result = and();
+            while (accept("OR")) {
+                final Boolean other = and();
+                result = (TRUE.equals(result) || TRUE.equals(other)) ? TRUE 
+                    : (result == null || other == null) ? null : FALSE;
+            }
+            return result;
+        }
+        
+        Boolean and() {
+            Boolean result = not();
+            while (accept("AND")) {
+                final Boolean other = not();
+                result = (FALSE.equals(result) || FALSE.equals(other)) ? FALSE 
+                    : (result == null || other == null) ? null : TRUE;
+            }
+            return result;
+        }
+        
+        Boolean not() {
+            if (accept("NOT")) {
+                final Boolean result = not();
+                return result == null ? null : !result;
+            }
+            return primary();
+        }
+        
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        Boolean primary() {
+            if (accept("(")) {
+                final Boolean result = or();
+                expect(")");
+                return result;
+            } else if (accept("TRUE")) {
+                return TRUE;
+            } else if (accept("FALSE")) {
+                return FALSE;
+            }
+            
+            final Object left = operand();
+            if (accept("IS")) {
+                final boolean negated = accept("NOT");
+                expect("NULL");
+                return (left == null) != negated;
+            } else if (accept("IN")) {
+                expect("(");
+                Boolean result = FALSE;
+                do {
+                    final Object right = operand();
+                    if (left == null || right == null) {
+                        result = TRUE.equals(result) ? TRUE : null;
+                    } else if (left.equals(right)) {
+                        result = TRUE;
+                    }
+                } while (accept(","));
+                expect(")");
+                return result;
+            }
+            
+            final String operator = tokens.get(position++);
+            final Object right = operand();
+            if (left == null || right == null) {
+                return null;
+            }
+            
+            final int c = ((Comparable) left).compareTo(right);
+            switch (operator) {
+                case "=" : return c == 0;
+                case "<>" : return c != 0;
+                case "<" : return c < 0;
+                case ">" : return c > 0;
+                case "<=" : return c <= 0;
+                case ">=" : return c >= 0;
+                default : throw new IllegalArgumentException(operator);
+            }
+        }
+        
+        private Object operand() {
+            final String token = tokens.get(position++);
+            if ("?".equals(token)) {
+                return values.next();
+            } else if (token.startsWith("`")) {
+                assertTrue(token, row.containsKey(token));
+                return row.get(token);
+            } else if (token.startsWith("'")) {
+                return token.substring(1, token.length() - 1);
+            } else {
+                return Integer.parseInt(token);
+            }
+        }
+        
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private void expect(String token) {
+            assertEquals(token, tokens.get(position++));
+        }
+    }
+    
+    /**
+     * Returns a predicate that matches strings like the SQL {@code LIKE} 
+     * operator with the given pattern and escape character.
+     */
+    private static Predicate<String> like(String pattern, char escape) {
+        final StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == escape) {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        final Pattern compiled = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        return s -> compiled.matcher(s).matches();
+    }
+
+    private Optional<SqlPredicateFragment> transform(Predicate<Entity> predicate) {
+        return AbstractSpeedmentPredicateView.transform(predicate, view::transform);
+    }
+
+    private Optional<SqlPredicateFragment> transformNullable(Predicate<Entity> predicate) {
+        return AbstractSpeedmentPredicateView.transform(predicate, view::transform, leaf -> Optional.of(
+            SqlPredicateFragment.of("(" + ("id".equals(leaf.getField().getIdentifier().columnName()) ? ID_COLUMN : NAME_COLUMN) + " IS NULL)")
+        ));
+    }
+
+}
@@ -0,0 +1,155 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.identity.ObjectIdentityMapper;
+import com.speedment.internal.core.db.DefaultDatabaseNamingConvention;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.manager.SqlPredicateFragment;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class QueryShapeCacheTest {
+
+    private final MySqlSpeedmentPredicateView view
+        = new MySqlSpeedmentPredicateView(new DefaultDatabaseNamingConvention());
+
+    private final QueryShapeCache cache = new QueryShapeCache();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    public void testSameShapeIsRenderedOnce() {
+        final SqlPredicateFragment first = where(NAME.startsWith("a").and(ID.between(1, 5))).get();
+        final SqlPredicateFragment second = where(NAME.startsWith("b").and(ID.between(7, 9))).get();
+
+        assertEquals(1, renders.get());
+        assertEquals(first.getSql(), second.getSql());
+        assertEquals(Arrays.asList("b", 7, 9), second.objects().collect(toList()));
+    }
+
+    @Test
+    public void testDifferentShapes() {
+        where(ID.equal(1));
+        where(ID.greaterThan(1));
+        where(NAME.equal("a"));
+        where(ID.in(1, 2));
+        where(ID.in(1, 2, 3));
+        assertEquals(5, renders.get());
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void testPartialRendering() {
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        where(ID.greaterThan(5).and(unknown));
+        final SqlPredicateFragment fragment = where(ID.greaterThan(8).and(unknown)).get();
+        assertEquals(1, renders.get());
+        assertEquals(Arrays.asList(8), fragment.objects().collect(toList()));
+
+        assertFalse(where(ID.greaterThan(5).or(unknown)).isPresent());
+        assertFalse(where(ID.greaterThan(8).or(unknown)).isPresent());
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void testPartialRenderingUnderNegation() {
+        final Predicate<Entity> unknown = e -> e.getId() % 2 == 0;
+        final SqlPredicateFragment first = where(
+            ID.greaterThan(5).and(unknown).or(NAME.equal("x")).negate()
+        ).get();
+        final SqlPredicateFragment second = where(
+            ID.greaterThan(8).and(unknown).or(NAME.equal("y")).negate()
+        ).get();
+        
+        assertEquals(1, renders.get());
+        assertEquals(first.getSql(), second.getSql());
+        assertEquals(Arrays.asList("y"), second.objects().collect(toList()));
+    }
+
+    @Test
+    public void testLargeInIsNotCached() {
+        final Set<Integer> ids = IntStream.range(0, 1000).boxed().collect(toSet());
+        where(ID.in(ids));
+        where(ID.in(ids));
+        assertEquals(2, renders.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        for (int i = 0; i < QueryShapeCache.MAX_SHAPES; i++) {
+            where(shape(i));
+        }
+        where(shape(0));
+        where(shape(QueryShapeCache.MAX_SHAPES));
+        assertEquals(QueryShapeCache.MAX_SHAPES + 1, renders.get());
+        assertEquals(QueryShapeCache.MAX_SHAPES, cache.size());
+
+        where(shape(0));
+        where(shape(QueryShapeCache.MAX_SHAPES));
+        assertEquals(QueryShapeCache.MAX_SHAPES + 1, renders.get());
+
+        where(shape(1));
+        assertEquals(QueryShapeCache.MAX_SHAPES + 2, renders.get());
+    }
+
+    /**
+     * Returns a predicate with a shape of its own for every {@code i} less 
+     * than {@code 2048}.
+     */
+    private static Predicate<Entity> shape(int i) {
+        return ID.in(ids(i / 32 + 1)).and(NAME.in(names(i % 32 + 1)));
+    }
+
+    private static Set<Integer> ids(int size) {
+        return IntStream.range(0, size).boxed().collect(toSet());
+    }
+
+    private static Set<String> names(int size) {
+        return IntStream.range(0, size).mapToObj(Integer::toString).collect(toSet());
+    }
+
+    private Optional<SqlPredicateFragment> where(Predicate<Entity> predicate) {
+        final List<Predicate<Entity>> predicates = Arrays.asList(predicate);
+        return cache.where(predicates, sp -> identity(), () -> {
+            renders.incrementAndGet();
+            return AbstractSpeedmentPredicateView.transform(predicate, view::transform);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeMapper<Object, Object> identity() {
+        return (TypeMapper<Object, Object>) (TypeMapper<?, ?>) new ObjectIdentityMapper();
+    }
+}
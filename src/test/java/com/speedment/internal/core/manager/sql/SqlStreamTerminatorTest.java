@@ -0,0 +1,651 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.Speedment;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.mapper.identity.BooleanIdentityMapper;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.mapper.identity.StringIdentityMapper;
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.SkipLimitSyntax;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
+import com.speedment.db.AsynchronousQueryResult;
+import com.speedment.db.DatabaseNamingConvention;
+import com.speedment.db.DbmsHandler;
+import com.speedment.db.SqlFunction;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.db.AsynchronousQueryResultImpl;
+import com.speedment.internal.core.db.DefaultDatabaseNamingConvention;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ACTIVE;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import com.speedment.manager.Manager;
+import com.speedment.stream.StreamDecorator;
+import com.speedment.util.CollectorUtil;
+import com.speedment.util.ProgressMeasure;
+import com.speedment.util.tuple.Tuple;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import static java.util.Collections.emptyList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the SQL that is generated by the {@link SqlStreamTerminator} for
+ * streams over a table with the columns {@code id} ({@code NOT NULL}),
+ * {@code name} and {@code active}. The database is a stub that records every
+ * query and returns the rows that the test has prepared, regardless of the
+ * query.
+ *
+ * @author pemi
+ */
+public class SqlStreamTerminatorTest {
+
+    private static final String TABLE = "`my_schema`.`my_table`";
+    private static final String ID_COLUMN = TABLE + ".`id`";
+    private static final String NAME_COLUMN = TABLE + ".`name`";
+    private static final String ACTIVE_COLUMN = TABLE + ".`active`";
+
+    private final List<String> sqls = new ArrayList<>();
+    private final List<List<Object>> values = new ArrayList<>();
+    private List<Object[]> rows = emptyList();
+    private EntityManager manager;
+
+    @Before
+    public void setUp() {
+        manager = managerFor(SkipLimitSyntax.LIMIT_OFFSET);
+    }
+
+    @Test
+    public void testOrderBySkipLimit() {
+        rows = rows(new Object[]{2, "b", true}, new Object[]{3, "c", true});
+
+        final List<Integer> ids = stream()
+            .filter(ID.greaterThan(0))
+            .sorted(ID.comparator())
+            .skip(1)
+            .limit(2)
+            .map(Entity::getId)
+            .collect(toList());
+
+        assertEquals(Arrays.asList(2, 3), ids);
+        assertQuery(
+            manager.sqlSelect() + " WHERE (" + ID_COLUMN + " > ?) ORDER BY " + ID_COLUMN + " ASC LIMIT ? OFFSET ?",
+            0, 2L, 1L
+        );
+    }
+
+    @Test
+    public void testOrderByNullOrder() {
+        rows = rows(new Object[]{2, "b", true}, new Object[]{1, "a", null});
+
+        final List<Integer> ids = stream()
+            .sorted(ACTIVE.comparatorNullFieldsFirst().reversed())
+            .map(Entity::getId)
+            .collect(toList());
+
+        assertEquals(Arrays.asList(2, 1), ids);
+        assertQuery(manager.sqlSelect() + " ORDER BY " + ACTIVE_COLUMN + " IS NULL ASC, " + ACTIVE_COLUMN + " DESC");
+    }
+
+    @Test
+    public void testSortedInJvm() {
+        // Strings are ordered by the collation of the column
+        rows = rows(new Object[]{1, "b", true}, new Object[]{2, "B", true}, new Object[]{3, "a", true});
+        assertEquals(
+            Arrays.asList(2, 3, 1), 
+            stream().sorted(NAME.comparator()).map(Entity::getId).collect(toList())
+        );
+        assertQuery(manager.sqlSelect());
+
+        // Without a null order, a NULL value can not be sorted
+        rows = rows(new Object[]{1, "a", true}, new Object[]{2, "b", null});
+        try {
+            stream().sorted(ACTIVE.comparator()).collect(toList());
+            fail("Expected a NullPointerException");
+        } catch (final NullPointerException npe) {
+            assertQuery(manager.sqlSelect());
+        }
+    }
+
+    @Test
+    public void testSkipLimitWithoutSyntax() {
+        manager = managerFor(SkipLimitSyntax.NONE);
+        rows = rows(new Object[]{1, "a", true}, new Object[]{2, "b", true}, new Object[]{3, "c", true});
+
+        final List<Integer> ids = stream()
+            .skip(1)
+            .limit(1)
+            .map(Entity::getId)
+            .collect(toList());
+
+        assertEquals(Arrays.asList(2), ids);
+        assertQuery(manager.sqlSelect());
+    }
+
+    @Test
+    public void testFindFirstLimitsToOne() {
+        rows = rows(new Object[]{2, "b", true});
+
+        final Optional<Entity> first = stream()
+            .filter(ID.greaterThan(1))
+            .sorted(ID.comparator())
+            .findFirst();
+
+        assertEquals(Integer.valueOf(2), first.get().getId());
+        assertQuery(
+            manager.sqlSelect() + " WHERE (" + ID_COLUMN + " > ?) ORDER BY " + ID_COLUMN + " ASC LIMIT ?",
+            1, 1L
+        );
+    }
+
+    @Test
+    public void testCount() {
+        rows = rows(new Object[]{2L});
+
+        assertEquals(2, stream().filter(ID.greaterThan(1)).count());
+        assertQuery("SELECT COUNT(*) FROM " + TABLE + " WHERE (" + ID_COLUMN + " > ?)", 1);
+    }
+
+    @Test
+    public void testCountOfInexactPredicate() {
+        // The database may select a superset, so the rows are counted in the
+        // JVM after they are filtered again
+        rows = rows(new Object[]{1, "A", true}, new Object[]{2, "a ", true});
+
+        assertEquals(1, stream().filter(NAME.equalIgnoreCase("a")).count());
+        assertQuery(manager.sqlSelect() + " WHERE (LOWER(" + NAME_COLUMN + ") = LOWER(?))", "a");
+    }
+
+    @Test
+    public void testSum() {
+        rows = rows(new Object[]{new BigDecimal(9)});
+        assertEquals(9, stream().filter(ID.lessThan(10)).mapToInt(ID.getterAsInt()).sum());
+        assertQuery("SELECT SUM(" + ID_COLUMN + ") FROM " + TABLE + " WHERE (" + ID_COLUMN + " < ?)", 10);
+
+        // A sum that does not fit in a long wraps around as in the JVM
+        rows = rows(new Object[]{BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)});
+        assertEquals(Long.MIN_VALUE, stream().mapToLong(ID.getterAsLong()).sum());
+        assertQuery("SELECT SUM(" + ID_COLUMN + ") FROM " + TABLE);
+
+        // The sum of no rows is NULL
+        rows = rows(new Object[]{null});
+        assertEquals(0, stream().mapToInt(ID.getterAsInt()).sum());
+    }
+
+    @Test
+    public void testAverage() {
+        rows = rows(new Object[]{new BigDecimal(7), 2L});
+        assertEquals(OptionalDouble.of(3.5), stream().filter(ID.lessThan(10)).mapToInt(ID.getterAsInt()).average());
+        assertQuery("SELECT SUM(" + ID_COLUMN + "), COUNT(" + ID_COLUMN + ") FROM " + TABLE + " WHERE (" + ID_COLUMN + " < ?)", 10);
+
+        rows = rows(new Object[]{null, 0L});
+        assertEquals(OptionalDouble.empty(), stream().mapToLong(ID.getterAsLong()).average());
+        assertQuery("SELECT SUM(" + ID_COLUMN + "), COUNT(" + ID_COLUMN + ") FROM " + TABLE);
+    }
+
+    @Test
+    public void testProjection() {
+        rows = rows(new Object[]{"b"}, new Object[]{"c"});
+
+        final List<String> names = stream()
+            .filter(ID.greaterThan(1))
+            .map(NAME.getter())
+            .collect(toList());
+
+        assertEquals(Arrays.asList("b", "c"), names);
+        assertQuery("SELECT " + NAME_COLUMN + " FROM " + TABLE + " WHERE (" + ID_COLUMN + " > ?)", 1);
+    }
+
+    @Test
+    public void testExists() {
+        rows = rows(new Object[]{true});
+        assertTrue(stream().filter(ID.greaterThan(1)).anyMatch(ID.equal(3)));
+        assertQuery(
+            "SELECT EXISTS (SELECT 1 FROM " + TABLE + " WHERE ((" + ID_COLUMN + " > ?) AND (" + ID_COLUMN + " = ?)))",
+            1, 3
+        );
+
+        rows = rows(new Object[]{false});
+        assertTrue(stream().allMatch(ID.lessThan(5)));
+        assertQuery("SELECT EXISTS (SELECT 1 FROM " + TABLE + " WHERE (((" + ID_COLUMN + " < ?)) IS NOT TRUE))", 5);
+    }
+
+    @Test
+    public void testMatchOfInexactPredicate() {
+        // Strings are compared using the collation of the column, so the
+        // predicate is evaluated in the JVM
+        rows = rows(new Object[]{1, "A", true});
+
+        assertFalse(stream().anyMatch(NAME.equal("a")));
+        assertQuery(manager.sqlSelect());
+    }
+
+    @Test
+    public void testGroupBy() {
+        rows = rows(new Object[]{true, 2L}, new Object[]{false, 1L});
+
+        final Map<Boolean, Long> counts = stream()
+            .filter(ID.greaterThan(0))
+            .collect(CollectorUtil.groupingBy(ACTIVE, CollectorUtil.counting()));
+
+        final Map<Boolean, Long> expected = new HashMap<>();
+        expected.put(true, 2L);
+        expected.put(false, 1L);
+        assertEquals(expected, counts);
+        assertQuery(
+            "SELECT " + ACTIVE_COLUMN + ", COUNT(*) FROM " + TABLE +
+            " WHERE (" + ID_COLUMN + " > ?) GROUP BY " + ACTIVE_COLUMN,
+            0
+        );
+    }
+
+    @Test
+    public void testGroupByString() {
+        // MySQL may put "a" and "A" in the same group, so strings are grouped
+        // in the JVM
+        rows = rows(new Object[]{1, "a", true}, new Object[]{2, "A", true}, new Object[]{3, "a", true});
+
+        final Map<String, Long> counts = stream()
+            .collect(CollectorUtil.groupingBy(NAME, CollectorUtil.counting()));
+
+        final Map<String, Long> expected = new HashMap<>();
+        expected.put("a", 2L);
+        expected.put("A", 1L);
+        assertEquals(expected, counts);
+        assertQuery(manager.sqlSelect());
+
+        manager = managerFor(SkipLimitSyntax.OFFSET_FETCH, new PostgresSpeedmentPredicateView(new DefaultDatabaseNamingConvention()));
+        rows = rows(new Object[]{"a", 2L}, new Object[]{"A", 1L});
+
+        assertEquals(expected, stream().collect(CollectorUtil.groupingBy(NAME, CollectorUtil.counting())));
+        assertQuery("SELECT " + NAME_COLUMN + ", COUNT(*) FROM " + TABLE + " GROUP BY " + NAME_COLUMN);
+    }
+
+    @Test
+    public void testKeysetStartKey() {
+        rows = rows(new Object[]{5, "e", true}, new Object[]{6, "f", true});
+
+        final List<Integer> ids = manager.nativeStream(StreamDecorator.keysetAfter(10, 4))
+            .filter(ID.lessThan(100))
+            .map(Entity::getId)
+            .collect(toList());
+
+        assertEquals(Arrays.asList(5, 6), ids);
+        assertQuery(
+            manager.sqlSelect() + " WHERE (" + ID_COLUMN + " < ?) AND ((" + ID_COLUMN + " > ?)) ORDER BY " + ID_COLUMN + " LIMIT ?",
+            100, 4, 10L
+        );
+    }
+
+    @Test
+    public void testKeysetStartKeyCountedInJvm() {
+        rows = rows(new Object[]{5, "e", true}, new Object[]{6, "f", true});
+
+        assertEquals(2, manager.nativeStream(StreamDecorator.keysetAfter(10, 4)).count());
+        assertQuery(manager.sqlSelect() + " WHERE ((" + ID_COLUMN + " > ?)) ORDER BY " + ID_COLUMN + " LIMIT ?", 4, 10L);
+    }
+
+    @Test
+    public void testKeysetStartKeyWithoutSyntax() {
+        manager = managerFor(SkipLimitSyntax.NONE);
+
+        try {
+            manager.nativeStream(StreamDecorator.keysetAfter(10, 4)).count();
+            fail("Rows were read from the start although a start key was given");
+        } catch (final IllegalStateException ex) {
+            assertTrue(sqls.isEmpty());
+        }
+    }
+
+    private Stream<Entity> stream() {
+        return manager.nativeStream(StreamDecorator.IDENTITY);
+    }
+
+    private void assertQuery(String sql, Object... expectedValues) {
+        assertEquals(1, sqls.size());
+        assertEquals(sql, sqls.get(0));
+        assertEquals(Arrays.asList(expectedValues), values.get(0));
+        sqls.clear();
+        values.clear();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private EntityManager managerFor(SkipLimitSyntax skipLimitSyntax) {
+        return managerFor(skipLimitSyntax, new MySqlSpeedmentPredicateView(new DefaultDatabaseNamingConvention()));
+    }
+
+    private EntityManager managerFor(SkipLimitSyntax skipLimitSyntax, AbstractSpeedmentPredicateView view) {
+        final DatabaseNamingConvention naming = new DefaultDatabaseNamingConvention();
+        final DbmsType dbmsType = DbmsType.builder("Stub", "Stub Driver", 0)
+            .withDbmsNameMeaning("Just a name")
+            .withDriverName("stub.Driver")
+            .withDatabaseNamingConvention(naming)
+            .withDbmsMapper((speedment, dbms) -> new StubDbmsHandler())
+            .withConnectionUrlGenerator(dbms -> "jdbc:stub")
+            .withSpeedmentPredicateView(view)
+            .withSortByNullOrderInsertion(SortByNullOrderInsertion.PRE)
+            .withSkipLimitSyntax(skipLimitSyntax)
+            .build();
+
+        final String json = ("{'config' : {"
+            + "'name' : 'my_project', 'dbmses' : [{"
+            + "'name' : 'my_dbms', 'typeName' : 'Stub', 'schemas' : [{"
+            + "'name' : 'my_schema', 'tables' : [{"
+            + "'name' : 'my_table', 'columns' : ["
+            + column("id", IntegerIdentityMapper.class, Integer.class, false) + ", "
+            + column("name", StringIdentityMapper.class, String.class, true) + ", "
+            + column("active", BooleanIdentityMapper.class, Boolean.class, true)
+            + "], 'primaryKeyColumns' : [{'name' : 'id'}]"
+            + "}]}]}]}}").replace('\'', '"');
+
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle(json)
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .build();
+
+        speedment.getDbmsHandlerComponent().install(dbmsType);
+        return new EntityManager(speedment);
+    }
+
+    private static String column(String name, Class<?> typeMapper, Class<?> databaseType, boolean nullable) {
+        return "{'name' : '" + name + "', "
+            + "'typeMapper' : '" + typeMapper.getName() + "', "
+            + "'databaseType' : '" + databaseType.getName() + "', "
+            + "'nullable' : " + nullable + "}";
+    }
+
+    private ResultSet resultSet() {
+        final List<Object[]> result = rows;
+        final int[] row = {-1};
+        final boolean[] wasNull = {false};
+
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next":
+                        return ++row[0] < result.size();
+                    case "wasNull":
+                        return wasNull[0];
+                    case "close":
+                        return null;
+                    case "isClosed":
+                        return false;
+                    default:
+                        break;
+                }
+
+                final int column = args[0] instanceof String
+                    ? Arrays.asList("id", "name", "active").indexOf(args[0]) + 1
+                    : (Integer) args[0];
+                final Object value = result.get(row[0])[column - 1];
+                wasNull[0] = value == null;
+                switch (method.getName()) {
+                    case "getObject":
+                    case "getBigDecimal":
+                    case "getString":
+                        return value;
+                    case "getBoolean":
+                        return value != null && (Boolean) value;
+                    case "getInt":
+                        return value == null ? 0 : ((Number) value).intValue();
+                    case "getLong":
+                        return value == null ? 0L : ((Number) value).longValue();
+                    case "getDouble":
+                        return value == null ? 0d : ((Number) value).doubleValue();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "prepareStatement":
+                        return preparedStatement((String) args[0]);
+                    case "getAutoCommit":
+                        return true;
+                    case "isClosed":
+                        return false;
+                    case "close":
+                    case "setAutoCommit":
+                    case "commit":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+    private PreparedStatement preparedStatement(String sql) {
+        final Map<Integer, Object> parameters = new TreeMap<>();
+
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> {
+                if ("executeQuery".equals(method.getName())) {
+                    sqls.add(sql);
+                    values.add(new ArrayList<>(parameters.values()));
+                    return resultSet();
+                } else if ("setNull".equals(method.getName())) {
+                    parameters.put((Integer) args[0], null);
+                } else if (method.getName().startsWith("set") && args.length == 2) {
+                    parameters.put((Integer) args[0], args[1]);
+                }
+                return null;
+            }
+        );
+    }
+
+    private final class StubDbmsHandler implements DbmsHandler {
+
+        @Override
+        public <T> Stream<T> executeQuery(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) {
+            sqls.add(sql);
+            SqlStreamTerminatorTest.this.values.add(new ArrayList<>(values));
+
+            final List<T> result = new ArrayList<>();
+            try {
+                final ResultSet rs = resultSet();
+                while (rs.next()) {
+                    result.add(rsMapper.apply(rs));
+                }
+            } catch (SQLException sqle) {
+                throw new SpeedmentException(sqle);
+            }
+            return result.stream();
+        }
+
+        @Override
+        public <T> AsynchronousQueryResult<T> executeQueryAsync(String sql, List<?> values, Function<ResultSet, T> rsMapper) {
+            return new AsynchronousQueryResultImpl<>(sql, values, rsMapper, SqlStreamTerminatorTest.this::connection);
+        }
+
+        @Override
+        public CompletableFuture<Project> readSchemaMetadata(ProgressMeasure progressListener, Predicate<String> filterCriteria) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsert(String sql, List<?> values, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void executeUpdate(String sql, List<?> values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void executeDelete(String sql, List<?> values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getDbmsInfoString() {
+            return "Stub";
+        }
+
+        @Override
+        public Clob createClob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Blob createBlob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NClob createNClob() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SQLXML createSQLXML() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Array createArrayOf(String typeName, Object[] elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Struct createStruct(String typeName, Object[] attributes) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class EntityManager extends AbstractSqlManager<Entity> {
+
+        EntityManager(Speedment speedment) {
+            super(speedment);
+            setEntityMapper(rs -> new EntityImpl((Integer) rs.getObject(1), (String) rs.getObject(2))
+                .setActive((Boolean) rs.getObject(3))
+            );
+        }
+
+        @Override
+        public Table getTable() {
+            return speedment.getProjectComponent().getProject().dbmses()
+                .flatMap(Dbms::schemas)
+                .flatMap(Schema::tables)
+                .findAny().get();
+        }
+
+        @Override
+        public Stream<FieldTrait> fields() {
+            return Stream.of(ID, NAME, ACTIVE);
+        }
+
+        @Override
+        public Stream<FieldTrait> primaryKeyFields() {
+            return Stream.of(ID);
+        }
+
+        @Override
+        public Entity newEmptyEntity() {
+            return new EntityImpl(null, null);
+        }
+
+        @Override
+        public Class<Entity> getEntityClass() {
+            return Entity.class;
+        }
+
+        @Override
+        public Object primaryKeyFor(Entity entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(Entity entity, FieldIdentifier<Entity> identifier) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(Entity entity, FieldIdentifier<Entity> identifier, Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Entity newCopyOf(Entity source) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<? extends Manager<Entity>> getManagerClass() {
+            return EntityManager.class;
+        }
+
+        @Override
+        public Tuple getPrimaryKeyClasses() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
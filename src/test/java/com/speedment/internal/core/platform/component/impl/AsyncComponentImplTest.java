@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AsyncComponentImplTest {
+
+    private AsyncComponentImpl instance;
+
+    @Before
+    public void setUp() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+        instance = new AsyncComponentImpl(speedment);
+    }
+
+    @Test
+    public void testTerminals() {
+        final List<Integer> list = Arrays.asList(1, 2, 3);
+        assertEquals(list, instance.collectAsync(list.stream(), toList()).join());
+        assertEquals(Long.valueOf(3), instance.countAsync(list.stream()).join());
+        assertEquals(Optional.of(1), instance.findFirstAsync(list.stream()).join());
+        assertTrue(instance.findAnyAsync(list.stream()).join().isPresent());
+        final AtomicInteger sum = new AtomicInteger();
+        instance.forEachAsync(list.stream(), sum::addAndGet).join();
+        assertEquals(6, sum.get());
+    }
+
+    @Test
+    public void testClosesStream() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        instance.countAsync(Stream.of(1, 2).onClose(() -> closed.set(true))).join();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testClosesStreamOnFailure() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Integer> stream = Stream.of(1, 2)
+            .onClose(() -> closed.set(true))
+            .peek(i -> {
+                throw new IllegalStateException();
+            });
+        try {
+            instance.collectAsync(stream, toList()).join();
+            fail("Expected an exception");
+        } catch (final CompletionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testClosesStreamOnRejection() {
+        instance.setExecutor(command -> {
+            throw new RejectedExecutionException();
+        });
+        
+        final AtomicBoolean closed = new AtomicBoolean();
+        final CompletableFuture<Long> future = 
+            instance.countAsync(Stream.of(1, 2).onClose(() -> closed.set(true)));
+        
+        assertTrue(closed.get());
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail("Expected an exception");
+        } catch (final CompletionException ex) {
+            assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.metrics.QueryRecorder;
+import com.speedment.component.metrics.QueryStatistics;
+import com.speedment.internal.core.metrics.AtomicHistogram;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import java.util.Arrays;
+import java.util.Collections;
+import static java.util.stream.Collectors.toList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class QueryMetricsComponentImplTest {
+
+    private QueryMetricsComponentImpl instance;
+
+    @Before
+    public void setUp() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+        instance = new QueryMetricsComponentImpl(speedment);
+    }
+
+    @Test
+    public void testDisabled() {
+        assertFalse(instance.isEnabled());
+        assertFalse(instance.newRecorder("user").isPresent());
+    }
+
+    @Test
+    public void testRecord() {
+        instance.setEnabled(true);
+        for (int i = 0; i < 2; i++) {
+            final QueryRecorder recorder = instance.newRecorder("user").get();
+            recorder.start("SELECT * FROM user WHERE id > ?", Collections.singletonList(i));
+            recorder.connectionAcquired();
+            recorder.rowRead(10);
+            recorder.rowRead(20);
+            recorder.rowRead(30);
+            recorder.rowEmitted();
+            recorder.stop();
+            recorder.stop();
+        }
+
+        final List<QueryStatistics> statistics = instance.statistics().collect(toList());
+        assertEquals(1, statistics.size());
+
+        final QueryStatistics s = statistics.get(0);
+        assertEquals("user", s.getTableName());
+        assertEquals("SELECT * FROM user WHERE id > ?", s.getSql());
+        assertEquals(2, s.getExecutions());
+        assertEquals(6, s.getRowsRead());
+        assertEquals(2, s.getRowsEmitted());
+        assertEquals(2, s.getConnectionWaitTime().getCount());
+        assertEquals(2, s.getTimeToFirstRow().getCount());
+        assertEquals(120, s.getMappingTime().getSum());
+
+        instance.clear();
+        assertEquals(0, instance.statistics().count());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        instance.setEnabled(true);
+        for (int i = 0; i < QueryMetricsComponentImpl.MAX_SHAPES; i++) {
+            execute("SELECT " + i);
+        }
+        execute("SELECT 0");
+        execute("SELECT new");
+
+        final List<String> sql = instance.statistics().map(QueryStatistics::getSql).collect(toList());
+        assertEquals(QueryMetricsComponentImpl.MAX_SHAPES, sql.size());
+        assertTrue(sql.contains("SELECT 0"));
+        assertFalse(sql.contains("SELECT 1"));
+        assertTrue(sql.contains("SELECT new"));
+    }
+
+    @Test
+    public void testNotStarted() {
+        instance.setEnabled(true);
+        instance.newRecorder("user").get().stop();
+        assertEquals(0, instance.statistics().count());
+    }
+
+    @Test
+    public void testHistogram() {
+        final AtomicHistogram histogram = new AtomicHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+
+        Arrays.asList(1L, 2L, 3L, 100L, 1000L).forEach(histogram::record);
+        assertEquals(5, histogram.getCount());
+        assertEquals(1106, histogram.getSum());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(221.2, histogram.getMean(), 0.001);
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(127, histogram.getPercentile(80));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    private void execute(String sql) {
+        final QueryRecorder recorder = instance.newRecorder("user").get();
+        recorder.start(sql, Collections.emptyList());
+        recorder.stop();
+    }
+}
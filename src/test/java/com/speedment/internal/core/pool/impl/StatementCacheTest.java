@@ -0,0 +1,168 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.pool.impl;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class StatementCacheTest {
+
+    private Set<PreparedStatement> closed;
+    private int prepared;
+
+    @Before
+    public void setUp() {
+        closed = new HashSet<>();
+        prepared = 0;
+    }
+
+    @Test
+    public void testReuse() throws SQLException {
+        final StatementCache cache = new StatementCache(4);
+        final StatementCache.Key key = new StatementCache.Key("SELECT 1");
+
+        final PreparedStatement first = cache.prepare(key, this::newStatement);
+        assertEquals(1, prepared);
+        first.close();
+        assertTrue(first.isClosed());
+        assertTrue(closed.isEmpty());
+        assertEquals(1, cache.size());
+
+        final PreparedStatement second = cache.prepare(key, this::newStatement);
+        assertEquals(1, prepared);
+        assertFalse(second.isClosed());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        second.close();
+    }
+
+    @Test
+    public void testConcurrentUse() throws SQLException {
+        final StatementCache cache = new StatementCache(4);
+        final StatementCache.Key key = new StatementCache.Key("SELECT 1");
+
+        final PreparedStatement first = cache.prepare(key, this::newStatement);
+        final PreparedStatement second = cache.prepare(key, this::newStatement);
+        assertEquals(2, prepared);
+
+        first.close();
+        second.close();
+        assertEquals(1, cache.size());
+        assertEquals(1, closed.size());
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+        final StatementCache cache = new StatementCache(2);
+        for (int i = 0; i < 3; i++) {
+            cache.prepare(new StatementCache.Key("SELECT " + i), this::newStatement).close();
+        }
+        assertEquals(2, cache.size());
+        assertEquals(1, closed.size());
+
+        cache.prepare(new StatementCache.Key("SELECT 2"), this::newStatement).close();
+        assertEquals(3, prepared);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(3, closed.size());
+    }
+
+    @Test
+    public void testSettingsReset() throws SQLException {
+        final StatementCache cache = new StatementCache(4);
+        final StatementCache.Key key = new StatementCache.Key("SELECT 1");
+
+        final PreparedStatement first = cache.prepare(key, this::newStatement);
+        first.setFetchSize(100);
+        first.setMaxRows(10);
+        first.setQueryTimeout(30);
+        first.setFetchDirection(ResultSet.FETCH_REVERSE);
+        first.close();
+
+        final PreparedStatement second = cache.prepare(key, this::newStatement);
+        assertEquals(1, prepared);
+        assertEquals(0, second.getFetchSize());
+        assertEquals(0, second.getMaxRows());
+        assertEquals(0, second.getQueryTimeout());
+        assertEquals(ResultSet.FETCH_FORWARD, second.getFetchDirection());
+        second.close();
+    }
+
+    @Test
+    public void testDisabled() throws SQLException {
+        final StatementCache cache = new StatementCache(0);
+        final StatementCache.Key key = new StatementCache.Key("SELECT 1");
+        cache.prepare(key, this::newStatement).close();
+        assertEquals(0, cache.size());
+        assertEquals(1, closed.size());
+    }
+
+    private PreparedStatement newStatement() {
+        prepared++;
+        final PreparedStatement[] self = new PreparedStatement[1];
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put("FetchSize", 0);
+        settings.put("MaxRows", 0);
+        settings.put("QueryTimeout", 0);
+        settings.put("FetchDirection", ResultSet.FETCH_FORWARD);
+        self[0] = (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        closed.add(self[0]);
+                        return null;
+                    case "isClosed":
+                        return closed.contains(self[0]);
+                    case "getFetchSize":
+                    case "getMaxRows":
+                    case "getQueryTimeout":
+                    case "getFetchDirection":
+                        return settings.get(method.getName().substring(3));
+                    case "setFetchSize":
+                    case "setMaxRows":
+                    case "setQueryTimeout":
+                    case "setFetchDirection":
+                        settings.put(method.getName().substring(3), args[0]);
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            }
+        );
+        return self[0];
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class ChangeTrackerTest {
+
+    private List<Entity> entities;
+    private ChangeTracker<Entity, Integer> tracker;
+
+    @Before
+    public void setUp() {
+        entities = Arrays.asList(
+            new EntityImpl(1, "a"),
+            new EntityImpl(2, "deleted"),
+            new EntityImpl(null, "b"),
+            new EntityImpl(4, "c")
+        );
+        tracker = new ChangeTracker<>(ID, NAME.equal("deleted"));
+    }
+
+    @Test
+    public void testIsChanged() {
+        assertEquals(Arrays.asList(1, 2, 4), changed());
+        
+        tracker.seen(entities.get(1));
+        assertEquals(Arrays.asList(4), changed());
+        
+        tracker.seen(entities.get(0));
+        tracker.seen(entities.get(2));
+        assertEquals(Arrays.asList(4), changed());
+        
+        tracker.seen(entities.get(3));
+        assertEquals(Arrays.asList(), changed());
+        
+        tracker.reset();
+        assertEquals(Arrays.asList(1, 2, 4), changed());
+    }
+
+    @Test
+    public void testIsDeleted() {
+        assertFalse(tracker.isDeleted(entities.get(0)));
+        assertTrue(tracker.isDeleted(entities.get(1)));
+    }
+
+    @Test
+    public void testIsNewer() {
+        assertTrue(tracker.isNewer(entities.get(1), entities.get(0)));
+        assertFalse(tracker.isNewer(entities.get(0), entities.get(1)));
+        assertFalse(tracker.isNewer(entities.get(0), entities.get(0)));
+        assertTrue(tracker.isNewer(entities.get(0), entities.get(2)));
+        assertFalse(tracker.isNewer(entities.get(2), entities.get(0)));
+    }
+
+    private List<Integer> changed() {
+        final Predicate<Entity> isChanged = tracker.isChanged();
+        return entities.stream()
+            .filter(isChanged)
+            .map(Entity::getId)
+            .collect(toList());
+    }
+}
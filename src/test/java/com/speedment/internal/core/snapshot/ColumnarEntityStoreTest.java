@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ACTIVE;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import com.speedment.stream.StreamDecorator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class ColumnarEntityStoreTest {
+
+    private List<Entity> entities;
+    private ColumnarEntityStore<Entity> store;
+
+    @Before
+    public void setUp() {
+        entities = Arrays.asList(
+            new EntityImpl(1, "a").setActive(true),
+            new EntityImpl(2, "b").setActive(false),
+            new EntityImpl(3, null),
+            new EntityImpl(null, "ab").setActive(true),
+            new EntityImpl(5, "a").setActive(false),
+            new EntityImpl(-6, "c").setActive(true)
+        );
+        store = ColumnarEntityStore.of(() -> new EntityImpl(null, null), Arrays.asList(ID, NAME, ACTIVE), entities.stream());
+    }
+
+    @Test
+    public void testEntity() {
+        assertEquals(entities.size(), store.size());
+        assertFalse(store.isShared());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(entities.get(i).getId(), store.entity(i).getId());
+            assertEquals(entities.get(i).getName(), store.entity(i).getName());
+            assertEquals(entities.get(i).getActive(), store.entity(i).getActive());
+            assertNotSame(store.entity(i), store.entity(i));
+        }
+    }
+
+    @Test
+    public void testRowPredicate() {
+        assertMatches(ID.equal(3));
+        assertMatches(ID.notEqual(3));
+        assertMatches(ID.greaterThan(2));
+        assertMatches(ID.greaterOrEqual(2));
+        assertMatches(ID.lessThan(2));
+        assertMatches(ID.lessOrEqual(-6));
+        assertMatches(ID.greaterThan(2).negate());
+        assertMatches(ID.isNotNull().and(ID.between(1, 5)));
+        assertMatches(ID.in(1, 3, 7));
+        assertMatches(ID.isNull());
+        assertMatches(NAME.equal("a"));
+        assertMatches(NAME.startsWith("a"));
+        assertMatches(NAME.isNotNull());
+        assertMatches(ID.greaterThan(1).and(NAME.isNotNull()));
+        assertMatches(ID.lessThan(2).or(NAME.equal("b")));
+        assertMatches(ID.lessThan(2).or(NAME.equal("b")).negate());
+        assertMatches(ACTIVE.equal(true));
+        assertMatches(ACTIVE.notEqual(true));
+        assertMatches(ACTIVE.equal(false).negate());
+        assertMatches(ACTIVE.isNull());
+        assertMatches(ACTIVE.equal(true).and(ID.greaterThan(0)));
+    }
+
+    @Test
+    public void testStream() {
+        final SnapshotStreamTerminator<Entity> terminator = new SnapshotStreamTerminator<>(
+            store, UnaryOperator.identity(), StreamDecorator.IDENTITY
+        );
+        
+        final List<Integer> ids = new ReferenceStreamBuilder<Entity>(new PipelineImpl<>(terminator::source), terminator)
+            .filter(NAME.startsWith("a"))
+            .filter(e -> e.getId() != null)
+            .map(Entity::getId)
+            .collect(toList());
+        
+        assertEquals(Arrays.asList(1, 5), ids);
+    }
+
+    @Test
+    public void testUnknownPredicate() {
+        final Predicate<Entity> lambda = e -> true;
+        assertFalse(store.rowPredicate(lambda).isPresent());
+        assertFalse(store.rowPredicate(ID.equal(1).and(lambda)).isPresent());
+    }
+
+    private void assertMatches(Predicate<Entity> predicate) {
+        final IntPredicate rows = store.rowPredicate(predicate).get();
+        final List<Integer> expected = IntStream.range(0, entities.size())
+            .filter(i -> predicate.test(entities.get(i)))
+            .boxed()
+            .collect(toList());
+        final List<Integer> actual = IntStream.range(0, store.size())
+            .filter(rows)
+            .boxed()
+            .collect(toList());
+        assertEquals(predicate.toString(), expected, actual);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class OverlayEntityStoreTest {
+
+    private static final Predicate<Integer> EVEN = i -> i % 2 == 0;
+
+    private EntityStore<Integer> overlay;
+
+    @Before
+    public void setUp() {
+        final ArrayEntityStore<Integer> loaded = ArrayEntityStore.of(Stream.of(1, 2, 3, 4, 5));
+        final EntityStore<Integer> base = new EntityStore<Integer>() {
+            @Override
+            public int size() {
+                return loaded.size();
+            }
+
+            @Override
+            public Integer entity(int row) {
+                return loaded.entity(row);
+            }
+
+            @Override
+            public Optional<IntPredicate> rowPredicate(Predicate<?> predicate) {
+                return predicate == EVEN 
+                    ? Optional.of(row -> EVEN.test(entity(row))) 
+                    : Optional.empty();
+            }
+
+            @Override
+            public Optional<int[]> candidates(List<? extends Predicate<?>> predicates) {
+                return predicates.contains(EVEN)
+                    ? Optional.of(IntStream.range(0, size()).filter(row -> EVEN.test(entity(row))).toArray())
+                    : Optional.empty();
+            }
+        };
+
+        final BitSet hidden = new BitSet();
+        hidden.set(1);
+        hidden.set(4);
+        overlay = new OverlayEntityStore<>(base, hidden, ArrayEntityStore.of(Stream.of(6, 7)));
+    }
+
+    @Test
+    public void testRows() {
+        final List<Integer> expected = Arrays.asList(1, 3, 4, 6, 7);
+        assertEquals(expected.size(), overlay.size());
+        assertEquals(expected, overlay.stream().collect(toList()));
+        assertEquals(expected, IntStream.range(0, overlay.size()).mapToObj(overlay::entity).collect(toList()));
+    }
+
+    @Test
+    public void testRowPredicate() {
+        final IntPredicate even = overlay.rowPredicate(EVEN).get();
+        assertArrayEquals(new int[] {2, 3}, IntStream.range(0, overlay.size()).filter(even).toArray());
+        assertFalse(overlay.rowPredicate(i -> true).isPresent());
+    }
+
+    @Test
+    public void testCandidates() {
+        assertArrayEquals(new int[] {2, 3, 4}, overlay.candidates(Arrays.asList(EVEN)).get());
+        assertFalse(overlay.candidates(Arrays.asList(EVEN.negate())).isPresent());
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot;
+
+import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import com.speedment.stream.StreamDecorator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class SnapshotStreamTerminatorTest {
+
+    private ArrayEntityStore<AtomicInteger> store;
+    private List<AtomicInteger> copied;
+
+    @Before
+    public void setUp() {
+        store = ArrayEntityStore.of(Stream.of(1, 2, 3, 4, 5).map(AtomicInteger::new));
+        copied = new ArrayList<>();
+    }
+
+    @Test
+    public void testCopiesFilteredEntities() {
+        final List<AtomicInteger> result = stream()
+            .filter(i -> i.get() % 2 == 1)
+            .collect(toList());
+
+        assertEquals(3, result.size());
+        assertEquals(copied, result);
+        result.forEach(AtomicInteger::incrementAndGet);
+        assertEquals(1, store.entity(0).get());
+        assertEquals(5, store.entity(4).get());
+    }
+
+    @Test
+    public void testPrimitiveMappingIsNotCopied() {
+        assertEquals(9, stream().filter(i -> i.get() > 3).mapToInt(AtomicInteger::get).sum());
+        assertTrue(copied.isEmpty());
+    }
+
+    private Stream<AtomicInteger> stream() {
+        final SnapshotStreamTerminator<AtomicInteger> terminator = new SnapshotStreamTerminator<>(store, i -> {
+            final AtomicInteger copy = new AtomicInteger(i.get());
+            copied.add(copy);
+            return copy;
+        }, StreamDecorator.IDENTITY);
+
+        final Supplier<BaseStream<?, ?>> initialSupplier = terminator::source;
+        return new ReferenceStreamBuilder<>(new PipelineImpl<>(initialSupplier), terminator);
+    }
+}
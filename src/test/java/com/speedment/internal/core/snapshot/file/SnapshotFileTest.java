@@ -0,0 +1,160 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.file;
+
+import com.speedment.internal.core.snapshot.ArrayEntityStore;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author pemi
+ */
+public class SnapshotFileTest {
+
+    private static final String LAYOUT = "entity (id, name)";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Entity> entities;
+    private Path path;
+
+    @Before
+    public void setUp() {
+        entities = Arrays.asList(
+            new EntityImpl(1, "a"),
+            new EntityImpl(null, "åäö"),
+            new EntityImpl(3, null),
+            new EntityImpl(Integer.MIN_VALUE, "")
+        );
+        path = folder.getRoot().toPath().resolve("entity.snapshot");
+    }
+
+    @Test
+    public void testReadWritten() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        assertFalse(Files.exists(path.resolveSibling("entity.snapshot.tmp")));
+        
+        final List<Entity> read = fileWith(LAYOUT).read().get().collect(toList());
+        assertEquals(entities.size(), read.size());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(entities.get(i).getId(), read.get(i).getId());
+            assertEquals(entities.get(i).getName(), read.get(i).getName());
+        }
+    }
+
+    @Test
+    public void testManyBlocks() throws IOException {
+        final String name = new String(new char[1 << 16]).replace('\0', 'x');
+        final int rows = 2 * SnapshotFile.BLOCK_SIZE / name.length() + 1;
+        fileWith(LAYOUT).write(ArrayEntityStore.of(
+            IntStream.range(0, rows).mapToObj(i -> new EntityImpl(i, name))
+        ));
+
+        try (final Stream<Entity> read = fileWith(LAYOUT).read().get()) {
+            assertArrayEquals(
+                IntStream.range(0, rows).toArray(), 
+                read.mapToInt(Entity::getId).toArray()
+            );
+        }
+    }
+
+    @Test
+    public void testMissing() throws IOException {
+        assertFalse(fileWith(LAYOUT).read().isPresent());
+    }
+
+    @Test
+    public void testChangedLayout() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        assertFalse(fileWith("entity (id, name, email)").read().isPresent());
+    }
+
+    @Test
+    public void testCorrupt() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(file.length() - 20);
+            final int value = file.read();
+            file.seek(file.length() - 20);
+            file.write(value ^ 1);
+        }
+        assertFalse(fileWith(LAYOUT).read().isPresent());
+    }
+
+    @Test
+    public void testIncomplete() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 16);
+        }
+        final Optional<Stream<Entity>> read = fileWith(LAYOUT).read();
+        assertFalse(read.isPresent());
+    }
+
+    @Test
+    public void testWrongLayoutLength() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(12);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+        assertFalse(fileWith(LAYOUT).read().isPresent());
+    }
+
+    @Test
+    public void testWrongRowCount() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(16 + LAYOUT.length());
+            file.writeInt(entities.size() + 1);
+        }
+        assertFalse(fileWith(LAYOUT).read().isPresent());
+    }
+
+    @Test
+    public void testWrongBlockLength() throws IOException {
+        fileWith(LAYOUT).write(ArrayEntityStore.of(entities.stream()));
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(16 + LAYOUT.length() + 4);
+            file.writeInt(-1);
+        }
+        assertFalse(fileWith(LAYOUT).read().isPresent());
+    }
+
+    private SnapshotFile<Entity> fileWith(String layout) {
+        return new SnapshotFile<>(path, layout, () -> new EntityImpl(null, null), Arrays.asList(ID, NAME));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.snapshot.index;
+
+import com.speedment.internal.core.snapshot.ArrayEntityStore;
+import com.speedment.internal.core.snapshot.EntityStore;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.EntityImpl;
+import java.util.Arrays;
+import static java.util.Collections.singletonList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class SecondaryIndexesTest {
+
+    private List<Entity> entities;
+    private SecondaryIndexes indexes;
+
+    @Before
+    public void setUp() {
+        entities = Arrays.asList(
+            new EntityImpl(1, "a"),
+            new EntityImpl(2, "b"),
+            new EntityImpl(3, null),
+            new EntityImpl(null, "ab"),
+            new EntityImpl(5, "a"),
+            new EntityImpl(-6, "c"),
+            new EntityImpl(3, "abc")
+        );
+        final EntityStore<Entity> store = ArrayEntityStore.of(entities.stream());
+        indexes = SecondaryIndexes.of(store, Arrays.asList(ID, NAME));
+    }
+
+    @Test
+    public void testCandidates() {
+        assertCandidates(ID.equal(3));
+        assertCandidates(ID.in(1, 3, 7));
+        assertCandidates(ID.greaterThan(2));
+        assertCandidates(ID.greaterOrEqual(3));
+        assertCandidates(ID.lessThan(2));
+        assertCandidates(ID.lessOrEqual(-6));
+        assertCandidates(ID.isNotNull().and(ID.between(1, 3)));
+        assertCandidates(ID.isNotNull().and(ID.between(3, 1)));
+        assertCandidates(NAME.equal("a"));
+        assertCandidates(NAME.startsWith("a"));
+        assertCandidates(NAME.startsWith("ab"));
+        assertCandidates(NAME.startsWith("d"));
+    }
+
+    @Test
+    public void testMostSelective() {
+        final Optional<int[]> candidates = indexes.candidates(Arrays.asList(
+            ID.greaterThan(0), 
+            NAME.equal("c").or(NAME.equal("b")),
+            NAME.startsWith("ab")
+        ));
+        assertArrayEquals(new int[] {3, 6}, candidates.get());
+    }
+
+    @Test
+    public void testNotIndexable() {
+        assertFalse(indexes.candidates(singletonList(ID.notEqual(3))).isPresent());
+        assertFalse(indexes.candidates(singletonList(ID.equal(3).negate())).isPresent());
+        assertFalse(indexes.candidates(singletonList(ID.isNull())).isPresent());
+        assertFalse(indexes.candidates(singletonList(ID.equal(3).or(ID.equal(5)))).isPresent());
+        assertFalse(indexes.candidates(singletonList((Predicate<Entity>) e -> true)).isPresent());
+    }
+
+    private void assertCandidates(Predicate<Entity> predicate) {
+        final int[] expected = IntStream.range(0, entities.size())
+            .filter(i -> predicate.test(entities.get(i)))
+            .toArray();
+        
+        final Optional<int[]> candidates = indexes.candidates(singletonList(predicate));
+        assertTrue(predicate.toString(), candidates.isPresent());
+        assertArrayEquals(predicate.toString(), expected, candidates.get());
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class PrefetchingIteratorTest {
+
+    @Test
+    public void testReadAll() {
+        final List<Integer> expected = IntStream.range(0, 1000).boxed().collect(toList());
+        final List<Integer> result = new ArrayList<>();
+        
+        try (final PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(expected.iterator(), 16)) {
+            iterator.forEachRemaining(result::add);
+            assertFalse(iterator.hasNext());
+        }
+        
+        assertEquals(expected, result);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailure() {
+        final Iterator<Integer> failing = IntStream.range(0, 10)
+            .mapToObj(i -> {
+                if (i == 5) {
+                    throw new IllegalStateException();
+                }
+                return i;
+            }).iterator();
+        
+        try (final PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(failing, 2)) {
+            iterator.forEachRemaining(i -> {});
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testError() {
+        final Iterator<Integer> failing = IntStream.range(0, 10)
+            .mapToObj(i -> {
+                if (i == 5) {
+                    throw new AssertionError();
+                }
+                return i;
+            }).iterator();
+        
+        try (final PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(failing, 2)) {
+            iterator.forEachRemaining(i -> {});
+        }
+    }
+
+    @Test
+    public void testCloseWaitsForProducer() {
+        final AtomicBoolean reading = new AtomicBoolean();
+        final Iterator<Integer> slow = new Iterator<Integer>() {
+            
+            private int i;
+            
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                reading.set(true);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                reading.set(false);
+                return i++;
+            }
+        };
+        
+        final PrefetchingIterator<Integer> iterator = new PrefetchingIterator<>(slow, 4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        
+        iterator.close();
+        assertFalse(reading.get());
+    }
+
+}
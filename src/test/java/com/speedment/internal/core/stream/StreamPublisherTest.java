@@ -0,0 +1,125 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.stream.Flow.Subscriber;
+import com.speedment.stream.Flow.Subscription;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class StreamPublisherTest {
+
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    @Test
+    public void testDemand() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(
+            () -> IntStream.range(0, 10).boxed()
+                .peek(i -> pulled.incrementAndGet())
+                .onClose(() -> closed.set(true)),
+            SAME_THREAD
+        );
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.items.isEmpty());
+        assertEquals(0, pulled.get());
+
+        subscriber.subscription.request(3);
+        assertEquals(3, subscriber.items.size());
+        assertEquals(3, pulled.get());
+        assertFalse(closed.get());
+
+        subscriber.subscription.request(100);
+        assertEquals(10, subscriber.items.size());
+        assertTrue(subscriber.completed);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testCancel() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(
+            () -> Stream.of(1, 2, 3).onClose(() -> closed.set(true)),
+            SAME_THREAD
+        );
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertTrue(closed.get());
+
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.items.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testIllegalRequest() {
+        final StreamPublisher<Integer> publisher = new StreamPublisher<>(
+            () -> Stream.of(1, 2, 3),
+            SAME_THREAD
+        );
+
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
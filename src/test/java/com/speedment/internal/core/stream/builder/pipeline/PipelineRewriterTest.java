@@ -0,0 +1,119 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.builder.pipeline;
+
+import com.speedment.internal.field.BaseFieldTest;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.comparator.impl.CombinedComparator;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
+import com.speedment.internal.core.stream.builder.action.reference.PeekAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedComparatorAction;
+import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.internal.core.manager.sql.AbstractSpeedmentPredicateView;
+import com.speedment.internal.core.manager.sql.MySqlSpeedmentPredicateView;
+import com.speedment.internal.core.db.DefaultDatabaseNamingConvention;
+import com.speedment.manager.SqlPredicateFragment;
+import com.speedment.stream.action.Action;
+import static com.speedment.internal.core.stream.builder.action.StandardBasicAction.FILTER;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.Stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class PipelineRewriterTest extends BaseFieldTest {
+
+    @Test
+    public void testHoistAndMerge() {
+        final PipelineImpl<Entity> pipeline = new PipelineImpl<>(() -> entities.stream());
+        pipeline.add(new SortedComparatorAction<>(ID.comparator()));
+        pipeline.add(new FilterAction<>(NAME.isNotNull()));
+        pipeline.add(new SortedComparatorAction<>(NAME.comparator()));
+        pipeline.add(new FilterAction<>(ID.greaterThan(2)));
+
+        final List<Entity> expected = pipeline.getAsReferenceStream().collect(toList());
+        PipelineRewriter.rewrite(pipeline);
+
+        assertEquals(2, pipeline.size());
+        assertTrue(pipeline.get(0) instanceof FilterAction);
+        assertTrue(((FilterAction<?>) pipeline.get(0)).getPredicate() instanceof AbstractCombinedBasePredicate);
+        assertTrue(pipeline.get(1) instanceof SortedComparatorAction);
+        assertTrue(((SortedComparatorAction<?>) pipeline.get(1)).getComparator() instanceof CombinedComparator);
+        assertEquals(expected, pipeline.getAsReferenceStream().collect(toList()));
+    }
+
+    @Test
+    public void testHoistEnablesWhere() {
+        final MySqlSpeedmentPredicateView view = new MySqlSpeedmentPredicateView(new DefaultDatabaseNamingConvention());
+        final Predicate<Entity> predicate = ID.greaterThan(2);
+        
+        final PipelineImpl<Entity> pipeline = new PipelineImpl<>(() -> entities.stream());
+        pipeline.add(new SortedComparatorAction<>(NAME.comparator()));
+        pipeline.add(new FilterAction<>(predicate));
+        assertTrue(StreamTerminatorUtil.topLevelPredicates(pipeline).isEmpty());
+        
+        PipelineRewriter.rewrite(pipeline);
+        final List<Predicate<? super Entity>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+        assertEquals(Arrays.asList(predicate), predicates);
+        assertTrue(view.isExactlyRenderable(predicate));
+        
+        final SqlPredicateFragment where = AbstractSpeedmentPredicateView.transform(predicate, view::transform).get();
+        assertEquals("(`my_schema`.`my_table`.`id` > ?)", where.getSql());
+        assertEquals(Arrays.asList(2), where.objects().collect(toList()));
+    }
+
+    @Test
+    public void testIndependentActionIsHoisted() {
+        final Action<Stream<Entity>, Stream<Entity>> independent = 
+            new Action<Stream<Entity>, Stream<Entity>>(s -> s.filter(e -> e.getId() != null), Stream.class, FILTER) {};
+        
+        final PipelineImpl<Entity> pipeline = new PipelineImpl<>(() -> entities.stream());
+        pipeline.add(new SortedComparatorAction<>(NAME.comparator()));
+        pipeline.add(independent);
+        PipelineRewriter.rewrite(pipeline);
+
+        assertEquals(2, pipeline.size());
+        assertSame(independent, pipeline.get(0));
+    }
+
+    @Test
+    public void testPeekIsNotReordered() {
+        final PipelineImpl<Entity> pipeline = new PipelineImpl<>(() -> entities.stream());
+        pipeline.add(new PeekAction<>(e -> {}));
+        pipeline.add(new FilterAction<>(NAME.isNotNull()));
+        pipeline.add(new SortedComparatorAction<>(NAME.comparator()));
+        pipeline.add(new PeekAction<>(e -> {}));
+        pipeline.add(new FilterAction<>(ID.greaterThan(2)));
+        PipelineRewriter.rewrite(pipeline);
+
+        assertEquals(5, pipeline.size());
+        assertTrue(pipeline.get(0) instanceof PeekAction);
+        assertTrue(pipeline.get(3) instanceof PeekAction);
+    }
+
+}
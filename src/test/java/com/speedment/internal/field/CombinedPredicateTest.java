@@ -0,0 +1,67 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.field;
+
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class CombinedPredicateTest extends BaseFieldTest {
+
+    @Test
+    public void testNegatedAnd() throws Exception {
+        final Predicate<Entity> predicate = ID.greaterThan(3).and(NAME.equal("a")).negate();
+        assertEquals(
+            collect(e -> !(e.getId() > 3 && "a".equals(e.getName()))),
+            collect(predicate)
+        );
+    }
+
+    @Test
+    public void testNegatedOr() throws Exception {
+        final Predicate<Entity> predicate = ID.lessThan(3).or(NAME.equal("a")).negate();
+        assertEquals(
+            collect(e -> !(e.getId() < 3 || "a".equals(e.getName()))),
+            collect(predicate)
+        );
+    }
+
+    @Test
+    public void testAndAfterNegatedAnd() throws Exception {
+        final Predicate<Entity> predicate = ID.greaterThan(3).and(NAME.equal("a")).negate().and(ID.lessThan(10));
+        assertEquals(
+            collect(e -> !(e.getId() > 3 && "a".equals(e.getName())) && e.getId() < 10),
+            collect(predicate)
+        );
+    }
+
+    @Test
+    public void testOrAfterNegatedOr() throws Exception {
+        final Predicate<Entity> predicate = ID.lessThan(3).or(NAME.equal("a")).negate().or(ID.equal(1));
+        assertEquals(
+            collect(e -> !(e.getId() < 3 || "a".equals(e.getName())) || e.getId() == 1),
+            collect(predicate)
+        );
+    }
+
+}
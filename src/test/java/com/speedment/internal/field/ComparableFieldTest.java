@@ -19,8 +19,10 @@ package com.speedment.internal.field;
 import static com.speedment.field.Inclusion.START_EXCLUSIVE_END_EXCLUSIVE;
 import static com.speedment.field.Inclusion.START_EXCLUSIVE_END_INCLUSIVE;
 import static com.speedment.field.Inclusion.START_INCLUSIVE_END_INCLUSIVE;
+import com.speedment.internal.comparator.impl.CombinedComparator;
 import static com.speedment.internal.field.Entity.ID;
 import static com.speedment.internal.field.Entity.NAME;
+import java.util.Comparator;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.nullsFirst;
 import static java.util.Comparator.nullsLast;
@@ -30,6 +32,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import java.util.stream.Stream;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -64,6 +67,30 @@ public class ComparableFieldTest extends BaseFieldTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testReferenceFieldComparatorReversedThenComparing() throws Exception {
+        final Comparator<Entity> comparator = NAME.comparatorNullFieldsLast().reversed().thenComparing(ID.comparator());
+        assertTrue(comparator instanceof CombinedComparator);
+        assertEquals(2, ((CombinedComparator<Entity>) comparator).stream().count());
+
+        final List<Entity> result = entities.stream().sorted(comparator).collect(toList());
+        final List<Entity> expected = entities.stream()
+            .sorted(
+                comparing(Entity::getName, nullsLast(String::compareTo)).reversed()
+                .thenComparing(comparing(Entity::getId, nullsLast(Integer::compareTo)))
+            )
+            .collect(toList());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testGetterAsNumber() throws Exception {
+        assertEquals(entities.stream().mapToInt(Entity::getId).sum(), entities.stream().mapToInt(ID.getterAsInt()).sum());
+        assertEquals(entities.stream().mapToLong(Entity::getId).sum(), entities.stream().mapToLong(ID.getterAsLong()).sum());
+        assertEquals(entities.stream().mapToDouble(Entity::getId).sum(), entities.stream().mapToDouble(ID.getterAsDouble()).sum(), 0.0);
+    }
+
     @Test
     public void testEqual() throws Exception {
         assertEquals(collect(e -> "a".equals(e.getName())).size(), collect(NAME.equal("a")).size());
@@ -16,12 +16,15 @@
  */
 package com.speedment.internal.field;
 
+import com.speedment.config.db.mapper.identity.BooleanIdentityMapper;
 import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
 import com.speedment.config.db.mapper.identity.StringIdentityMapper;
 import com.speedment.field.ComparableField;
 import com.speedment.field.FieldIdentifier;
+import com.speedment.field.NumberField;
 import com.speedment.field.StringField;
 import com.speedment.internal.core.field.ComparableFieldImpl;
+import com.speedment.internal.core.field.NumberFieldImpl;
 import com.speedment.internal.core.field.StringFieldImpl;
 
 /**
@@ -31,7 +34,7 @@ import com.speedment.internal.core.field.StringFieldImpl;
 public interface Entity {
     
     enum Identifier implements FieldIdentifier<Entity> {
-        ID("id"), NAME("name");
+        ID("id"), NAME("name"), ACTIVE("active");
         
         private final String columnName;
         
@@ -60,15 +63,20 @@ public interface Entity {
         }
     }
 
-    public final static ComparableField<Entity, Integer, Integer> ID = new ComparableFieldImpl<>(Identifier.ID, Entity::getId, Entity::setId, new IntegerIdentityMapper(), true);
+    public final static NumberField<Entity, Integer, Integer> ID = new NumberFieldImpl<>(Identifier.ID, Entity::getId, Entity::setId, new IntegerIdentityMapper(), true);
     public final static StringField<Entity, String> NAME = new StringFieldImpl<>(Identifier.NAME, Entity::getName, Entity::setName, new StringIdentityMapper(), false);
+    public final static ComparableField<Entity, Boolean, Boolean> ACTIVE = new ComparableFieldImpl<>(Identifier.ACTIVE, Entity::getActive, Entity::setActive, new BooleanIdentityMapper(), false);
 
     public Integer getId();
 
     public String getName();
 
+    public Boolean getActive();
+
     public Entity setId(Integer id);
 
     public Entity setName(String name);
 
+    public Entity setActive(Boolean active);
+
 }
@@ -24,6 +24,7 @@ public class EntityImpl implements Entity {
 
     private Integer id;
     private String name;
+    private Boolean active;
 
     public EntityImpl(Integer id, String name) {
         this.id = id;
@@ -40,6 +41,11 @@ public class EntityImpl implements Entity {
         return name;
     }
 
+    @Override
+    public Boolean getActive() {
+        return active;
+    }
+
     @Override
     public Entity setId(Integer id) {
         this.id = id;
@@ -52,6 +58,12 @@ public class EntityImpl implements Entity {
         return this;
     }
 
+    @Override
+    public Entity setActive(Boolean active) {
+        this.active = active;
+        return this;
+    }
+
     @Override
     public String toString() {
         return EntityImpl.class.getSimpleName() + " { id: " + id + ", name: \"" + name + "\"}";
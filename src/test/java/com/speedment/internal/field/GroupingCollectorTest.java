@@ -0,0 +1,78 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.field;
+
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.util.CollectorUtil;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.maxBy;
+import static java.util.stream.Collectors.summingLong;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class GroupingCollectorTest extends BaseFieldTest {
+
+    @Test
+    public void testGroupingByCounting() {
+        final Map<String, Long> expected = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(groupingBy(Entity::getName, counting()));
+
+        final Map<String, Long> result = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(CollectorUtil.groupingBy(NAME, CollectorUtil.counting()));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testGroupingBySumming() {
+        final Map<String, Long> expected = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(groupingBy(Entity::getName, summingLong(Entity::getId)));
+
+        final Map<String, Long> result = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(CollectorUtil.groupingBy(NAME, CollectorUtil.summingLong(ID)));
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testGroupingByMaximum() {
+        final Map<String, Optional<Integer>> expected = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(groupingBy(Entity::getName, mapping(Entity::getId, maxBy(Comparator.naturalOrder()))));
+
+        final Map<String, Optional<Integer>> result = entities.stream()
+            .filter(NAME.isNotNull())
+            .collect(CollectorUtil.groupingBy(NAME, CollectorUtil.maximum(ID)));
+
+        assertEquals(expected, result);
+    }
+
+}